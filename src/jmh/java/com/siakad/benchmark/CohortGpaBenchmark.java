@@ -0,0 +1,101 @@
+package com.siakad.benchmark;
+
+import com.siakad.model.CourseGrade;
+import com.siakad.service.GradeCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH perhitungan IPK satu angkatan:
+ * jalur objek (List of CourseGrade per mahasiswa + calculateGPA) dibandingkan
+ * jalur kolom (calculateGPAs di atas double[]/int[]).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CohortGpaBenchmark {
+
+    @Param({"10000"})
+    int students;
+
+    @Param({"50"})
+    int gradesPerStudent;
+
+    private final GradeCalculator gradeCalculator = new GradeCalculator();
+    private double[] gradePoints;
+    private int[] credits;
+    private int[] offsets;
+    private String[] courseCodes;
+    private List<List<CourseGrade>> transcripts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        int total = students * gradesPerStudent;
+        gradePoints = new double[total];
+        credits = new int[total];
+        offsets = new int[students + 1];
+        courseCodes = new String[gradesPerStudent];
+        for (int i = 0; i < gradesPerStudent; i++) {
+            courseCodes[i] = "C" + i;
+        }
+        transcripts = new ArrayList<>(students);
+        for (int s = 0; s < students; s++) {
+            offsets[s + 1] = offsets[s] + gradesPerStudent;
+            List<CourseGrade> transcript = new ArrayList<>(gradesPerStudent);
+            for (int i = offsets[s]; i < offsets[s + 1]; i++) {
+                gradePoints[i] = GradeCalculatorBenchmark.GRADE_SCALE[random.nextInt(GradeCalculatorBenchmark.GRADE_SCALE.length)];
+                credits[i] = 1 + random.nextInt(4);
+                transcript.add(new CourseGrade(courseCodes[i - offsets[s]], credits[i], gradePoints[i]));
+            }
+            transcripts.add(transcript);
+        }
+    }
+
+    /** Jalur saat ini: materialisasi CourseGrade per mahasiswa lalu calculateGPA */
+    @Benchmark
+    public double[] objectPath() {
+        double[] gpas = new double[students];
+        for (int s = 0; s < students; s++) {
+            List<CourseGrade> grades = new ArrayList<>(offsets[s + 1] - offsets[s]);
+            for (int i = offsets[s]; i < offsets[s + 1]; i++) {
+                grades.add(new CourseGrade(courseCodes[i - offsets[s]], credits[i], gradePoints[i]));
+            }
+            gpas[s] = gradeCalculator.calculateGPA(grades);
+        }
+        return gpas;
+    }
+
+    /** calculateGPA di atas List yang sudah ada (tanpa biaya materialisasi) */
+    @Benchmark
+    public double[] objectPathPrebuilt() {
+        double[] gpas = new double[students];
+        for (int s = 0; s < students; s++) {
+            gpas[s] = gradeCalculator.calculateGPA(transcripts.get(s));
+        }
+        return gpas;
+    }
+
+    @Benchmark
+    public double[] columnar() {
+        return gradeCalculator.calculateGPAs(gradePoints, credits, offsets);
+    }
+}
@@ -0,0 +1,81 @@
+package com.siakad.benchmark;
+
+import com.siakad.exception.CourseFullException;
+import com.siakad.model.Course;
+import com.siakad.model.EnrollmentOutcome;
+import com.siakad.model.Student;
+import com.siakad.repository.InMemoryCourseRepository;
+import com.siakad.repository.InMemoryStudentRepository;
+import com.siakad.service.EnrollmentService;
+import com.siakad.service.GradeCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH untuk jalur penolakan enrollCourse pada mata kuliah yang penuh.
+ * - fullStackTrace: enrollCourse default, CourseFullException dengan stack trace lengkap
+ * - stacklessException: enrollCourse dengan setStacklessRejections(true)
+ * - outcome: tryEnrollCourse, tanpa exception dan tanpa alokasi
+ * Kedua varian exception dilempar dari dalam enrollCourse, jadi kedalaman stack-nya sama
+ * dengan pemanggil sebenarnya.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnrollmentRejectionBenchmark {
+
+    static final String FULL_COURSE = "FULL101";
+
+    EnrollmentService enrollmentService;
+    EnrollmentService stacklessService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryStudentRepository studentRepository = new InMemoryStudentRepository();
+        InMemoryCourseRepository courseRepository = new InMemoryCourseRepository(studentRepository);
+        studentRepository.save(new Student("S1", "Naura", "naura@mail.com", "TI", 4, 3.7, "ACTIVE"));
+        courseRepository.save(new Course(FULL_COURSE, "Kelas Penuh", 3, 40, 40, "Dosen A"));
+        enrollmentService = new EnrollmentService(studentRepository, courseRepository,
+                new EnrollmentServiceBenchmark.NoOpNotificationService(), new GradeCalculator());
+        stacklessService = new EnrollmentService(studentRepository, courseRepository,
+                new EnrollmentServiceBenchmark.NoOpNotificationService(), new GradeCalculator());
+        stacklessService.setStacklessRejections(true);
+    }
+
+    @Benchmark
+    public Object fullStackTrace() {
+        return enroll(enrollmentService);
+    }
+
+    @Benchmark
+    public Object stacklessException() {
+        return enroll(stacklessService);
+    }
+
+    @Benchmark
+    public EnrollmentOutcome outcome() {
+        return enrollmentService.tryEnrollCourse("S1", FULL_COURSE);
+    }
+
+    private static Object enroll(EnrollmentService service) {
+        try {
+            return service.enrollCourse("S1", FULL_COURSE);
+        } catch (CourseFullException e) {
+            return e;
+        }
+    }
+}
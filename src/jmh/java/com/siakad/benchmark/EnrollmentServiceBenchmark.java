@@ -0,0 +1,143 @@
+package com.siakad.benchmark;
+
+import com.siakad.model.Course;
+import com.siakad.model.Enrollment;
+import com.siakad.model.Student;
+import com.siakad.repository.InMemoryCourseRepository;
+import com.siakad.repository.InMemoryStudentRepository;
+import com.siakad.service.EnrollmentMetrics;
+import com.siakad.service.EnrollmentService;
+import com.siakad.service.GradeCalculator;
+import com.siakad.service.NotificationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmark JMH untuk EnrollmentService di atas repository in-memory.
+ * Varian "contended" memakai 4 thread pada satu mata kuliah yang sama,
+ * varian "disjoint" memakai 4 thread dengan mata kuliah masing-masing.
+ * Varian "instrumented" sama dengan enrollCourse tetapi dengan EnrollmentMetrics aktif,
+ * selisih keduanya adalah overhead metrik.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class EnrollmentServiceBenchmark {
+
+    static final int THREADS = 4;
+    static final String HOT_COURSE = "HOT101";
+
+    /**
+     * Katalog dan service bersama untuk semua thread
+     */
+    @State(Scope.Benchmark)
+    public static class Campus {
+        InMemoryStudentRepository studentRepository;
+        InMemoryCourseRepository courseRepository;
+        EnrollmentService enrollmentService;
+        EnrollmentService instrumentedService;
+        final AtomicInteger threadIds = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            studentRepository = new InMemoryStudentRepository();
+            courseRepository = new InMemoryCourseRepository(studentRepository);
+            studentRepository.save(new Student("S1", "Naura", "naura@mail.com", "TI", 4, 3.7, "ACTIVE"));
+            Course prerequisite = new Course("BASE100", "Dasar", 3, 40, 0, "Dosen A");
+            studentRepository.setCompletedCourses("S1", List.of(prerequisite));
+            courseRepository.save(prerequisite);
+            courseRepository.save(newCourse(HOT_COURSE));
+            for (int t = 0; t < THREADS; t++) {
+                courseRepository.save(newCourse("OWN" + t));
+            }
+            enrollmentService = new EnrollmentService(studentRepository, courseRepository,
+                    new NoOpNotificationService(), new GradeCalculator());
+            instrumentedService = new EnrollmentService(studentRepository, courseRepository,
+                    new NoOpNotificationService(), new GradeCalculator());
+            instrumentedService.setEnrollmentMetrics(new EnrollmentMetrics());
+        }
+
+        static Course newCourse(String courseCode) {
+            // Capacity and count leave room for billions of enrollments and drops
+            Course course = new Course(courseCode, "Course " + courseCode, 3,
+                    Integer.MAX_VALUE, Integer.MAX_VALUE / 2, "Dosen B");
+            course.addPrerequisite("BASE100");
+            return course;
+        }
+    }
+
+    /**
+     * Mata kuliah milik satu thread untuk varian disjoint
+     */
+    @State(Scope.Thread)
+    public static class OwnCourse {
+        String courseCode;
+
+        @Setup(Level.Trial)
+        public void setUp(Campus campus) {
+            courseCode = "OWN" + (campus.threadIds.getAndIncrement() % THREADS);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Enrollment enrollCourse(Campus campus) {
+        return campus.enrollmentService.enrollCourse("S1", HOT_COURSE);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Enrollment enrollCourse_instrumented(Campus campus) {
+        return campus.instrumentedService.enrollCourse("S1", HOT_COURSE);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void dropCourse(Campus campus) {
+        campus.enrollmentService.dropCourse("S1", HOT_COURSE);
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public Enrollment enrollCourse_contended(Campus campus) {
+        return campus.enrollmentService.enrollCourse("S1", HOT_COURSE);
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public Enrollment enrollCourse_disjoint(Campus campus, OwnCourse own) {
+        return campus.enrollmentService.enrollCourse("S1", own.courseCode);
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public void dropCourse_contended(Campus campus) {
+        campus.enrollmentService.dropCourse("S1", HOT_COURSE);
+    }
+
+    static final class NoOpNotificationService implements NotificationService {
+        @Override
+        public void sendEmail(String email, String subject, String message) {
+        }
+
+        @Override
+        public void sendSMS(String phone, String message) {
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.siakad.benchmark;
+
+import com.siakad.model.CourseGrade;
+import com.siakad.service.GradeCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH untuk GradeCalculator
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GradeCalculatorBenchmark {
+
+    static final double[] GRADE_SCALE = {4.0, 3.7, 3.3, 3.0, 2.7, 2.3, 2.0, 1.7, 1.3, 1.0, 0.0};
+
+    private final GradeCalculator gradeCalculator = new GradeCalculator();
+    private double[] gpas;
+    private int[] semesters;
+    private int cursor;
+
+    @State(Scope.Benchmark)
+    public static class Transcript {
+        @Param({"10", "100", "1000", "10000"})
+        int size;
+
+        List<CourseGrade> grades;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(42);
+            grades = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                grades.add(new CourseGrade("C" + i, 1 + random.nextInt(4),
+                        GRADE_SCALE[random.nextInt(GRADE_SCALE.length)]));
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        gpas = new double[1024];
+        semesters = new int[1024];
+        for (int i = 0; i < gpas.length; i++) {
+            gpas[i] = Math.round(random.nextDouble(0.0, 4.0) * 100.0) / 100.0;
+            semesters[i] = 1 + random.nextInt(14);
+        }
+    }
+
+    @Benchmark
+    public double calculateGPA(Transcript transcript) {
+        return gradeCalculator.calculateGPA(transcript.grades);
+    }
+
+    @Benchmark
+    public String determineAcademicStatus() {
+        int i = cursor++ & (gpas.length - 1);
+        return gradeCalculator.determineAcademicStatus(gpas[i], semesters[i]);
+    }
+
+    @Benchmark
+    public int calculateMaxCredits() {
+        return gradeCalculator.calculateMaxCredits(gpas[cursor++ & (gpas.length - 1)]);
+    }
+}
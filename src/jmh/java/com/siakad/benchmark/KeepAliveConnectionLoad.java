@@ -0,0 +1,219 @@
+package com.siakad.benchmark;
+
+import com.siakad.http.EnrollmentHttpServer;
+import com.siakad.model.Course;
+import com.siakad.model.Student;
+import com.siakad.repository.InMemoryCourseRepository;
+import com.siakad.repository.InMemoryEnrollmentRepository;
+import com.siakad.repository.InMemoryStudentRepository;
+import com.siakad.service.EnrollmentService;
+import com.siakad.service.GradeCalculator;
+import com.siakad.service.LatencyHistogram;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test koneksi keep-alive untuk EnrollmentHttpServer dengan executor virtual thread.
+ *
+ * Membuka N koneksi HTTP/1.1 sekaligus dari satu selector NIO, mengirim satu permintaan
+ * GET /students/{id} per koneksi agar semuanya aktif, lalu selama semua koneksi tetap terbuka
+ * mengirim ronde permintaan berikutnya ke setiap koneksi secara bersamaan. Dicatat: koneksi yang
+ * bertahan, throughput, persentil latensi, puncak jumlah platform thread dan heap terpakai.
+ *
+ * Client dan server berjalan di proses yang sama, jadi setiap koneksi memakan dua file descriptor
+ * dan N dibatasi ulimit -n proses (sekitar setengahnya).
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.main=com.siakad.benchmark.KeepAliveConnectionLoad -Djmh.args="10000 3"
+ */
+public class KeepAliveConnectionLoad {
+
+    static final int DEFAULT_CONNECTIONS = 9_000;
+    static final int DEFAULT_ROUNDS = 3;
+    static final int STUDENTS = 1_000;
+    static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(120);
+
+    public static void main(String[] args) throws IOException {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CONNECTIONS;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+        // Read once when the JDK server classes load, so it must be set before the server exists
+        System.setProperty("sun.net.httpserver.maxIdleConnections", Integer.toString(connections));
+        System.setProperty("sun.net.httpserver.idleInterval", "600");
+
+        InMemoryStudentRepository studentRepository = new InMemoryStudentRepository(STUDENTS);
+        InMemoryCourseRepository courseRepository = new InMemoryCourseRepository(studentRepository);
+        for (int i = 0; i < STUDENTS; i++) {
+            studentRepository.save(new Student("S" + i, "Mahasiswa " + i, "s" + i + "@mail.com", "TI",
+                    1 + i % 8, 2.0 + (i % 20) / 10.0, "ACTIVE"));
+        }
+        courseRepository.save(new Course("IF101", "Pemrograman Java", 3, 40, 0, "Dosen A"));
+        GradeCalculator gradeCalculator = new GradeCalculator();
+        EnrollmentService enrollmentService = new EnrollmentService(studentRepository, courseRepository,
+                new EnrollmentServiceBenchmark.NoOpNotificationService(), gradeCalculator);
+        enrollmentService.setEnrollmentRepository(new InMemoryEnrollmentRepository());
+
+        try (EnrollmentHttpServer server = new EnrollmentHttpServer(enrollmentService, studentRepository,
+                gradeCalculator, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+             Selector selector = Selector.open()) {
+            server.start();
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                    server.getAddress().getPort());
+
+            long openStart = System.nanoTime();
+            List<Connection> open = new ArrayList<>(connections);
+            for (int i = 0; i < connections; i++) {
+                SocketChannel channel = SocketChannel.open();
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                channel.configureBlocking(false);
+                channel.connect(address);
+                Connection connection = new Connection(channel, "S" + (i % STUDENTS));
+                channel.register(selector, SelectionKey.OP_CONNECT, connection);
+                open.add(connection);
+            }
+            Round warm = runRound(selector, open, true);
+            long openNanos = System.nanoTime() - openStart;
+            System.out.printf("%d koneksi dibuka dan aktif dalam %d ms (%d gagal)%n",
+                    warm.completed(), TimeUnit.NANOSECONDS.toMillis(openNanos), warm.failed());
+
+            for (int round = 1; round <= rounds; round++) {
+                Round result = runRound(selector, open, false);
+                LatencyHistogram.Snapshot latency = result.latency().snapshot();
+                System.out.printf("ronde %d: %d/%d permintaan di koneksi keep-alive, %.0f req/s, "
+                                + "p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                        round, result.completed(), open.size(),
+                        result.completed() / (result.nanos() / 1e9), latency.p50() / 1e6,
+                        latency.p99() / 1e6, latency.max() / 1e6);
+            }
+
+            int stillOpen = 0;
+            for (Connection connection : open) {
+                if (connection.channel.isOpen() && !connection.closedByPeer) {
+                    stillOpen++;
+                }
+            }
+            Runtime runtime = Runtime.getRuntime();
+            System.gc();
+            System.out.printf("koneksi masih terbuka: %d, puncak platform thread: %d, heap terpakai: %d MB%n",
+                    stillOpen, ManagementFactory.getThreadMXBean().getPeakThreadCount(),
+                    (runtime.totalMemory() - runtime.freeMemory()) >> 20);
+            for (Connection connection : open) {
+                connection.channel.close();
+            }
+        }
+    }
+
+    /**
+     * Mengirim satu permintaan ke setiap koneksi sekaligus dan menunggu semua respons
+     */
+    private static Round runRound(Selector selector, List<Connection> open, boolean connecting) throws IOException {
+        LatencyHistogram latency = new LatencyHistogram();
+        long start = System.nanoTime();
+        int pending = 0;
+        for (Connection connection : open) {
+            if (connection.closedByPeer) {
+                continue;
+            }
+            pending++;
+            if (!connecting) {
+                connection.send(selector);
+            }
+        }
+        int completed = 0;
+        int failed = 0;
+        while (pending > 0) {
+            if (System.nanoTime() - start > TIMEOUT_NANOS) {
+                failed += pending;
+                break;
+            }
+            selector.select(1_000);
+            Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+            while (keys.hasNext()) {
+                SelectionKey key = keys.next();
+                keys.remove();
+                Connection connection = (Connection) key.attachment();
+                try {
+                    if (key.isConnectable()) {
+                        connection.channel.finishConnect();
+                        connection.send(selector);
+                    } else if (key.isWritable()) {
+                        connection.flush(selector);
+                    } else if (key.isReadable() && connection.read()) {
+                        latency.record(System.nanoTime() - connection.sentAt);
+                        key.interestOps(0);
+                        completed++;
+                        pending--;
+                    }
+                } catch (IOException e) {
+                    connection.closedByPeer = true;
+                    key.cancel();
+                    failed++;
+                    pending--;
+                }
+            }
+        }
+        return new Round(completed, failed, System.nanoTime() - start, latency);
+    }
+
+    private record Round(int completed, int failed, long nanos, LatencyHistogram latency) {
+    }
+
+    private static final class Connection {
+        final SocketChannel channel;
+        final ByteBuffer request;
+        final ByteBuffer response = ByteBuffer.allocate(4096);
+        long sentAt;
+        boolean closedByPeer;
+
+        Connection(SocketChannel channel, String studentId) {
+            this.channel = channel;
+            this.request = ByteBuffer.wrap(("GET /students/" + studentId + " HTTP/1.1\r\n"
+                    + "Host: localhost\r\nConnection: keep-alive\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        }
+
+        void send(Selector selector) throws IOException {
+            request.rewind();
+            response.clear();
+            sentAt = System.nanoTime();
+            flush(selector);
+        }
+
+        void flush(Selector selector) throws IOException {
+            channel.write(request);
+            int interest = request.hasRemaining() ? SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+            channel.register(selector, interest, this);
+        }
+
+        /**
+         * @return true jika respons lengkap (header + Content-Length byte body) sudah diterima
+         */
+        boolean read() throws IOException {
+            if (channel.read(response) < 0) {
+                throw new IOException("Connection closed by server");
+            }
+            String received = new String(response.array(), 0, response.position(), StandardCharsets.US_ASCII);
+            int headerEnd = received.indexOf("\r\n\r\n");
+            if (headerEnd < 0) {
+                return false;
+            }
+            if (!received.startsWith("HTTP/1.1 200")) {
+                throw new IOException("Unexpected response: " + received.lines().findFirst().orElse(""));
+            }
+            int lengthAt = received.toLowerCase().indexOf("content-length:");
+            int lineEnd = received.indexOf("\r\n", lengthAt);
+            int length = Integer.parseInt(received.substring(lengthAt + "content-length:".length(), lineEnd).trim());
+            return response.position() >= headerEnd + 4 + length;
+        }
+    }
+}
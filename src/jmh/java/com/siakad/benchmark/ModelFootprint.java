@@ -0,0 +1,113 @@
+package com.siakad.benchmark;
+
+import com.siakad.model.Enrollment;
+import com.siakad.model.EnrollmentId;
+import com.siakad.model.Student;
+import com.siakad.model.SymbolTable;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mengukur footprint heap (retained size, via JOL) Enrollment dan Student
+ * dalam layout lama (String status, LocalDateTime, String ID per objek)
+ * dibandingkan layout ringkas saat ini.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.main=com.siakad.benchmark.ModelFootprint -Djmh.args=
+ */
+public class ModelFootprint {
+
+    static final int ENROLLMENTS = 200_000;
+    static final int STUDENTS = 20_000;
+    static final int COURSES = 1_000;
+    static final String[] STATUSES = {"ACTIVE", "PROBATION", "SUSPENDED"};
+
+    public static void main(String[] args) {
+        LocalDateTime base = LocalDateTime.of(2025, 8, 1, 8, 0);
+
+        // Every field is a fresh String, as if it was just read from a database row
+        LegacyEnrollment[] legacyEnrollments = new LegacyEnrollment[ENROLLMENTS];
+        Enrollment[] enrollments = new Enrollment[ENROLLMENTS];
+        for (int i = 0; i < ENROLLMENTS; i++) {
+            String studentId = row("S" + (i % STUDENTS));
+            String courseCode = row("C" + (i % COURSES));
+            LocalDateTime date = base.plusNanos(i * 1_000_000L);
+            legacyEnrollments[i] = new LegacyEnrollment(row("ENR-" + (1_700_000_000_000L + i)),
+                    studentId, courseCode, date, row("APPROVED"));
+            Enrollment enrollment = new Enrollment();
+            enrollment.setEnrollmentKey(new EnrollmentId(1_000_000_000L + i));
+            enrollment.setStudentId(row("S" + (i % STUDENTS)));
+            enrollment.setCourseCode(row("C" + (i % COURSES)));
+            enrollment.setEnrollmentDate(date);
+            enrollment.setStatus(row("APPROVED"));
+            enrollments[i] = enrollment;
+        }
+
+        LegacyStudent[] legacyStudents = new LegacyStudent[STUDENTS];
+        Student[] students = new Student[STUDENTS];
+        for (int i = 0; i < STUDENTS; i++) {
+            legacyStudents[i] = new LegacyStudent(row("S" + i), row("Mahasiswa " + i), row("s" + i + "@mail.com"),
+                    row("TI"), 1 + i % 14, 3.0, row(STATUSES[i % 3]));
+            students[i] = new Student(row("S" + i), row("Mahasiswa " + i), row("s" + i + "@mail.com"),
+                    row("TI"), 1 + i % 14, 3.0, row(STATUSES[i % 3]));
+        }
+
+        // Symbol table entries are shared by all objects, so they are counted once with the compact layout
+        report("Enrollment", GraphLayout.parseInstance((Object) legacyEnrollments).totalSize(),
+                GraphLayout.parseInstance((Object) enrollments).totalSize(), ENROLLMENTS);
+        report("Student", GraphLayout.parseInstance((Object) legacyStudents).totalSize(),
+                GraphLayout.parseInstance((Object) students).totalSize(), STUDENTS);
+        // Entries never leave the table, so this is memory the process keeps for good
+        System.out.printf("SymbolTable %d entries%n", SymbolTable.size());
+    }
+
+    private static String row(String value) {
+        return new String(value.toCharArray());
+    }
+
+    private static void report(String model, long legacyBytes, long compactBytes, int count) {
+        System.out.printf("%-10s legacy %6.1f B/object, compact %6.1f B/object, %5.1f%% smaller%n",
+                model, (double) legacyBytes / count, (double) compactBytes / count,
+                100.0 * (legacyBytes - compactBytes) / legacyBytes);
+    }
+
+    /** Layout Enrollment sebelum versi ringkas */
+    static final class LegacyEnrollment {
+        final String enrollmentId;
+        final String studentId;
+        final String courseCode;
+        final LocalDateTime enrollmentDate;
+        final String status;
+
+        LegacyEnrollment(String enrollmentId, String studentId, String courseCode,
+                         LocalDateTime enrollmentDate, String status) {
+            this.enrollmentId = enrollmentId;
+            this.studentId = studentId;
+            this.courseCode = courseCode;
+            this.enrollmentDate = enrollmentDate;
+            this.status = status;
+        }
+    }
+
+    /** Layout Student sebelum versi ringkas */
+    static final class LegacyStudent {
+        final String studentId;
+        final String name;
+        final String email;
+        final String major;
+        final int semester;
+        final double gpa;
+        final String academicStatus;
+
+        LegacyStudent(String studentId, String name, String email, String major,
+                      int semester, double gpa, String academicStatus) {
+            this.studentId = studentId;
+            this.name = name;
+            this.email = email;
+            this.major = major;
+            this.semester = semester;
+            this.gpa = gpa;
+            this.academicStatus = academicStatus;
+        }
+    }
+}
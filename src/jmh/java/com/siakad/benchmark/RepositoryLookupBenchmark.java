@@ -0,0 +1,90 @@
+package com.siakad.benchmark;
+
+import com.siakad.model.Course;
+import com.siakad.model.Student;
+import com.siakad.repository.InMemoryCourseRepository;
+import com.siakad.repository.InMemoryStudentRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH untuk lookup repository in-memory pada data seukuran katalog
+ * (200.000 mahasiswa, 20.000 mata kuliah). Budget latensinya di bawah 1 us per lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryLookupBenchmark {
+
+    static final int CATALOG_COURSES = 20_000;
+    static final int CATALOG_STUDENTS = 200_000;
+    static final int KEYS = 4096;
+
+    private InMemoryStudentRepository students;
+    private InMemoryCourseRepository courses;
+    private final String[] studentKeys = new String[KEYS];
+    private final String[] courseKeys = new String[KEYS];
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        students = new InMemoryStudentRepository(CATALOG_STUDENTS);
+        courses = new InMemoryCourseRepository(students, CATALOG_COURSES);
+        List<Course> courseBatch = new ArrayList<>(CATALOG_COURSES);
+        for (int i = 0; i < CATALOG_COURSES; i++) {
+            courseBatch.add(new Course("C" + i, "Course " + i, 3, 40, 0, "Dosen"));
+        }
+        List<Student> studentBatch = new ArrayList<>(CATALOG_STUDENTS);
+        for (int i = 0; i < CATALOG_STUDENTS; i++) {
+            studentBatch.add(new Student("S" + i, "Student " + i, "s" + i + "@mail.com", "TI", 1, 3.0, "ACTIVE"));
+        }
+        courses.saveAll(courseBatch);
+        students.saveAll(studentBatch);
+        List<Course> transcript = courseBatch.subList(0, 8);
+        for (Student student : studentBatch) {
+            students.setCompletedCourses(student.getStudentId(), transcript);
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < KEYS; i++) {
+            studentKeys[i] = "S" + random.nextInt(CATALOG_STUDENTS);
+            courseKeys[i] = "C" + random.nextInt(CATALOG_COURSES);
+        }
+    }
+
+    @Benchmark
+    public Student findStudentById() {
+        return students.findById(studentKeys[next()]);
+    }
+
+    @Benchmark
+    public List<Course> getCompletedCourses() {
+        return students.getCompletedCourses(studentKeys[next()]);
+    }
+
+    @Benchmark
+    public Course findByCourseCode() {
+        return courses.findByCourseCode(courseKeys[next()]);
+    }
+
+    private int next() {
+        return cursor = (cursor + 1) & (KEYS - 1);
+    }
+}
@@ -0,0 +1,40 @@
+package com.siakad.exception;
+
+/**
+ * Exception yang dilempar ketika permintaan ditolak sebelum diproses,
+ * karena mahasiswa melewati rate limit atau sistem sedang penuh.
+ * Tidak menyimpan stack trace supaya penolakan tetap murah saat beban puncak.
+ */
+
+public class AdmissionRejectedException extends RuntimeException {
+
+    /**
+     * Alasan penolakan
+     */
+    public enum Reason {
+        /** Mahasiswa mengirim permintaan lebih cepat dari rate limit */
+        RATE_LIMITED,
+        /** Antrean global penuh atau batas waktu tunggu terlewati */
+        OVERLOADED
+    }
+
+    private final Reason reason;
+    private final long retryAfterMillis;
+
+    public AdmissionRejectedException(Reason reason, long retryAfterMillis) {
+        super(reason == Reason.RATE_LIMITED ? "Too many requests" : "System is overloaded", null, false, false);
+        this.reason = reason;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * @return Perkiraan waktu tunggu sebelum mencoba lagi, dalam milidetik
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
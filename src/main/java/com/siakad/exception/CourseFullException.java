@@ -13,4 +13,12 @@ public class CourseFullException extends RuntimeException {
     public CourseFullException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * @param writableStackTrace false untuk mode stackless: tanpa stack trace dan suppressed exception,
+     *                           murah dibuat untuk penolakan yang memang sering terjadi
+     */
+    public CourseFullException(String message, boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+    }
 }
\ No newline at end of file
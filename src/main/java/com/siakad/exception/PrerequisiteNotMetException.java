@@ -13,4 +13,12 @@ public class PrerequisiteNotMetException extends RuntimeException {
     public PrerequisiteNotMetException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * @param writableStackTrace false untuk mode stackless: tanpa stack trace dan suppressed exception,
+     *                           murah dibuat untuk penolakan yang memang sering terjadi
+     */
+    public PrerequisiteNotMetException(String message, boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,406 @@
+package com.siakad.http;
+
+import com.siakad.exception.AdmissionRejectedException;
+import com.siakad.exception.CourseFullException;
+import com.siakad.exception.CourseNotFoundException;
+import com.siakad.exception.EnrollmentException;
+import com.siakad.exception.PrerequisiteNotMetException;
+import com.siakad.exception.StudentNotFoundException;
+import com.siakad.model.Enrollment;
+import com.siakad.model.EnrollmentOutcome;
+import com.siakad.model.Student;
+import com.siakad.repository.StudentRepository;
+import com.siakad.service.EnrollmentService;
+import com.siakad.service.GradeCalculator;
+import com.siakad.service.LatencyHistogram;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Front end HTTP untuk EnrollmentService di atas JDK HttpServer, tanpa dependency tambahan.
+ *
+ * Setiap permintaan dijalankan di virtual thread sendiri, sehingga I/O blocking di repository,
+ * journal atau notifikasi hanya memarkir virtual thread tersebut dan puluhan ribu koneksi
+ * bersamaan tidak membutuhkan puluhan ribu platform thread.
+ * Koneksi idle dibatasi properti JDK sun.net.httpserver.maxIdleConnections.
+ * Hasil load test koneksi keep-alive (KeepAliveConnectionLoad) ada di
+ * benchmarks/http-keepalive-connections.txt.
+ *
+ * Endpoint (parameter lewat query string, respons JSON ringkas):
+ * - POST   /enrollments?studentId=&courseCode=   enrollCourse, 201 atau error
+ * - DELETE /enrollments?studentId=&courseCode=   dropCourse, 204 atau error
+ * - GET    /credit-limit?studentId=&credits=     validateCreditLimit
+ * - GET    /students/{studentId}                 IPK, status akademik dan batas SKS
+ * - GET    /metrics                              metrik per endpoint
+ */
+
+public class EnrollmentHttpServer implements AutoCloseable {
+    private static final int DEFAULT_BACKLOG = 16_384;
+    private static final String STUDENTS_PATH = "/students/";
+
+    /**
+     * Endpoint yang diukur
+     */
+    public enum Endpoint {
+        /** POST /enrollments */
+        ENROLL,
+        /** DELETE /enrollments */
+        DROP,
+        /** GET /credit-limit */
+        CREDIT_LIMIT,
+        /** GET /students/{studentId} */
+        STUDENT
+    }
+
+    private static final Endpoint[] ENDPOINTS = Endpoint.values();
+
+    private final EnrollmentService enrollmentService;
+    private final StudentRepository studentRepository;
+    private final GradeCalculator gradeCalculator;
+    private final ExecutorService executor;
+    private final HttpServer server;
+
+    private final LatencyHistogram[] latencies = new LatencyHistogram[ENDPOINTS.length];
+    private final LongAdder[] requests = new LongAdder[ENDPOINTS.length];
+    private final LongAdder[] clientErrors = new LongAdder[ENDPOINTS.length];
+    private final LongAdder[] serverErrors = new LongAdder[ENDPOINTS.length];
+
+    /**
+     * Server dengan virtual thread per permintaan
+     * @param address Alamat listen, port 0 untuk port bebas
+     */
+    public EnrollmentHttpServer(EnrollmentService enrollmentService, StudentRepository studentRepository,
+                                GradeCalculator gradeCalculator, InetSocketAddress address) {
+        this(enrollmentService, studentRepository, gradeCalculator, address, DEFAULT_BACKLOG,
+                Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * @param enrollmentService Service enrollment
+     * @param studentRepository Sumber data mahasiswa untuk query IPK dan status
+     * @param gradeCalculator Penghitung batas SKS
+     * @param address Alamat listen, port 0 untuk port bebas
+     * @param backlog Antrean koneksi TCP yang belum di-accept
+     * @param executor Executor permintaan, ditutup bersama server
+     */
+    public EnrollmentHttpServer(EnrollmentService enrollmentService, StudentRepository studentRepository,
+                                GradeCalculator gradeCalculator, InetSocketAddress address, int backlog,
+                                ExecutorService executor) {
+        this.enrollmentService = enrollmentService;
+        this.studentRepository = studentRepository;
+        this.gradeCalculator = gradeCalculator;
+        this.executor = executor;
+        for (int i = 0; i < ENDPOINTS.length; i++) {
+            latencies[i] = new LatencyHistogram();
+            requests[i] = new LongAdder();
+            clientErrors[i] = new LongAdder();
+            serverErrors[i] = new LongAdder();
+        }
+        try {
+            this.server = HttpServer.create(address, backlog);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to bind HTTP server to " + address, e);
+        }
+        server.setExecutor(executor);
+        server.createContext("/enrollments", this::handleEnrollments);
+        server.createContext("/credit-limit", exchange -> {
+            if (allow(exchange, "GET")) {
+                handle(exchange, Endpoint.CREDIT_LIMIT);
+            }
+        });
+        server.createContext(STUDENTS_PATH, exchange -> {
+            if (allow(exchange, "GET")) {
+                handle(exchange, Endpoint.STUDENT);
+            }
+        });
+        server.createContext("/metrics", exchange -> {
+            if (allow(exchange, "GET")) {
+                send(exchange, new Response(200, metricsJson(snapshot())));
+            }
+        });
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * @return Alamat yang benar-benar dipakai, termasuk port jika dibuat dengan port 0
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Berhenti menerima koneksi, menunggu permintaan berjalan maksimal 1 detik, lalu menutup executor
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return Jumlah permintaan, error dan persentil latensi per endpoint
+     */
+    public Snapshot snapshot() {
+        Map<Endpoint, EndpointStats> endpoints = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : ENDPOINTS) {
+            int i = endpoint.ordinal();
+            endpoints.put(endpoint, new EndpointStats(requests[i].sum(), clientErrors[i].sum(),
+                    serverErrors[i].sum(), latencies[i].snapshot()));
+        }
+        return new Snapshot(Collections.unmodifiableMap(endpoints));
+    }
+
+    private void handleEnrollments(HttpExchange exchange) throws IOException {
+        switch (exchange.getRequestMethod()) {
+            case "POST" -> handle(exchange, Endpoint.ENROLL);
+            case "DELETE" -> handle(exchange, Endpoint.DROP);
+            default -> methodNotAllowed(exchange, "POST, DELETE");
+        }
+    }
+
+    private void handle(HttpExchange exchange, Endpoint endpoint) throws IOException {
+        long start = System.nanoTime();
+        Response response;
+        try {
+            Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+            response = switch (endpoint) {
+                case ENROLL -> enroll(params);
+                case DROP -> drop(params);
+                case CREDIT_LIMIT -> creditLimit(params);
+                case STUDENT -> student(exchange.getRequestURI().getPath());
+            };
+        } catch (RuntimeException e) {
+            response = errorResponse(e);
+        }
+
+        int i = endpoint.ordinal();
+        requests[i].increment();
+        if (response.status() >= 500) {
+            serverErrors[i].increment();
+        } else if (response.status() >= 400) {
+            clientErrors[i].increment();
+        }
+        try {
+            send(exchange, response);
+        } finally {
+            latencies[i].record(System.nanoTime() - start);
+        }
+    }
+
+    private Response enroll(Map<String, String> params) {
+        String studentId = required(params, "studentId");
+        String courseCode = required(params, "courseCode");
+        EnrollmentOutcome outcome = enrollmentService.tryEnrollCourse(studentId, courseCode);
+        if (!outcome.isEnrolled()) {
+            EnrollmentOutcome.Reason reason = outcome.getReason();
+            int status = reason == EnrollmentOutcome.Reason.STUDENT_NOT_FOUND
+                    || reason == EnrollmentOutcome.Reason.COURSE_NOT_FOUND ? 404 : 409;
+            return error(status, reason.name(), outcome.toException(studentId, courseCode, false).getMessage());
+        }
+        Enrollment enrollment = outcome.getEnrollment();
+        return new Response(201, new JsonWriter()
+                .field("enrollmentId", enrollment.getEnrollmentId())
+                .field("studentId", enrollment.getStudentId())
+                .field("courseCode", enrollment.getCourseCode())
+                .field("status", enrollment.getStatus())
+                .toBytes());
+    }
+
+    private Response drop(Map<String, String> params) {
+        enrollmentService.dropCourse(required(params, "studentId"), required(params, "courseCode"));
+        return new Response(204, null);
+    }
+
+    private Response creditLimit(Map<String, String> params) {
+        String studentId = required(params, "studentId");
+        String credits = required(params, "credits");
+        int requestedCredits;
+        try {
+            requestedCredits = Integer.parseInt(credits);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid credits: " + credits);
+        }
+        boolean allowed = enrollmentService.validateCreditLimit(studentId, requestedCredits);
+        return new Response(200, new JsonWriter()
+                .field("studentId", studentId)
+                .field("requestedCredits", requestedCredits)
+                .field("allowed", allowed)
+                .toBytes());
+    }
+
+    /**
+     * @param path Path yang sudah di-decode URI, '+' di path adalah karakter biasa (bukan spasi)
+     */
+    private Response student(String path) {
+        String studentId = path.substring(STUDENTS_PATH.length());
+        Student student = studentId.isEmpty() || studentId.indexOf('/') >= 0
+                ? null : studentRepository.findById(studentId);
+        if (student == null) {
+            throw new StudentNotFoundException("Student not found: " + studentId);
+        }
+        return new Response(200, new JsonWriter()
+                .field("studentId", student.getStudentId())
+                .field("major", student.getMajor())
+                .field("semester", student.getSemester())
+                .field("gpa", student.getGpa())
+                .field("academicStatus", student.getAcademicStatus())
+                .field("maxCredits", gradeCalculator.calculateMaxCredits(student.getMajor(), student.getGpa()))
+                .toBytes());
+    }
+
+    private static Response errorResponse(RuntimeException e) {
+        if (e instanceof StudentNotFoundException || e instanceof CourseNotFoundException) {
+            return error(404, "NOT_FOUND", e.getMessage());
+        }
+        if (e instanceof EnrollmentException || e instanceof CourseFullException
+                || e instanceof PrerequisiteNotMetException) {
+            return error(409, "CONFLICT", e.getMessage());
+        }
+        if (e instanceof AdmissionRejectedException rejected) {
+            int status = rejected.getReason() == AdmissionRejectedException.Reason.RATE_LIMITED ? 429 : 503;
+            long retryAfterSeconds = Math.max(1, (rejected.getRetryAfterMillis() + 999) / 1000);
+            return new Response(status, new JsonWriter()
+                    .field("error", rejected.getReason().name())
+                    .field("message", rejected.getMessage())
+                    .field("retryAfterMillis", rejected.getRetryAfterMillis())
+                    .toBytes(), retryAfterSeconds);
+        }
+        if (e instanceof IllegalArgumentException) {
+            return error(400, "BAD_REQUEST", e.getMessage());
+        }
+        return error(500, "INTERNAL_ERROR", e.getClass().getSimpleName());
+    }
+
+    private static Response error(int status, String code, String message) {
+        return new Response(status, new JsonWriter()
+                .field("error", code)
+                .field("message", message)
+                .toBytes());
+    }
+
+    private static byte[] metricsJson(Snapshot snapshot) {
+        JsonWriter json = new JsonWriter();
+        snapshot.endpoints().forEach((endpoint, stats) -> {
+            LatencyHistogram.Snapshot latency = stats.latency();
+            json.beginObject(endpoint.name())
+                    .field("requests", stats.requests())
+                    .field("clientErrors", stats.clientErrors())
+                    .field("serverErrors", stats.serverErrors())
+                    .field("p50Nanos", latency.p50())
+                    .field("p99Nanos", latency.p99())
+                    .field("p999Nanos", latency.p999())
+                    .field("maxNanos", latency.max())
+                    .endObject();
+        });
+        return json.toBytes();
+    }
+
+    private static boolean allow(HttpExchange exchange, String method) throws IOException {
+        if (method.equals(exchange.getRequestMethod())) {
+            return true;
+        }
+        methodNotAllowed(exchange, method);
+        return false;
+    }
+
+    private static void methodNotAllowed(HttpExchange exchange, String allowed) throws IOException {
+        exchange.getResponseHeaders().set("Allow", allowed);
+        send(exchange, error(405, "METHOD_NOT_ALLOWED", exchange.getRequestMethod()));
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        try {
+            if (response.retryAfterSeconds() > 0) {
+                exchange.getResponseHeaders().set("Retry-After", Long.toString(response.retryAfterSeconds()));
+            }
+            byte[] body = response.body();
+            if (body == null) {
+                exchange.sendResponseHeaders(response.status(), -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            // Fixed length instead of chunked encoding, the body is already complete
+            exchange.sendResponseHeaders(response.status(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        int start = 0;
+        while (start <= rawQuery.length()) {
+            int end = rawQuery.indexOf('&', start);
+            if (end < 0) {
+                end = rawQuery.length();
+            }
+            int eq = rawQuery.indexOf('=', start);
+            if (eq > start && eq < end) {
+                params.putIfAbsent(URLDecoder.decode(rawQuery.substring(start, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(rawQuery.substring(eq + 1, end), StandardCharsets.UTF_8));
+            }
+            start = end + 1;
+        }
+        return params;
+    }
+
+    private static String required(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Missing parameter: " + name);
+        }
+        return value;
+    }
+
+    private record Response(int status, byte[] body, long retryAfterSeconds) {
+        Response(int status, byte[] body) {
+            this(status, body, 0);
+        }
+    }
+
+    /**
+     * Metrik satu endpoint, latensi dalam nanodetik dari diterima hingga respons terkirim
+     */
+    public record EndpointStats(long requests, long clientErrors, long serverErrors,
+                                LatencyHistogram.Snapshot latency) {
+    }
+
+    /**
+     * Snapshot metrik semua endpoint
+     */
+    public record Snapshot(Map<Endpoint, EndpointStats> endpoints) {
+
+        public EndpointStats endpoint(Endpoint endpoint) {
+            return endpoints.get(endpoint);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.siakad.http;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Penulis JSON ringkas (tanpa spasi) untuk respons HTTP.
+ * Objek ditulis langsung ke satu StringBuilder tanpa membangun tree perantara,
+ * cukup untuk respons kecil dengan struktur tetap.
+ */
+
+final class JsonWriter {
+    private final StringBuilder out = new StringBuilder(128);
+
+    JsonWriter() {
+        out.append('{');
+    }
+
+    JsonWriter field(String name, String value) {
+        name(name);
+        if (value == null) {
+            out.append("null");
+        } else {
+            string(value);
+        }
+        return this;
+    }
+
+    JsonWriter field(String name, long value) {
+        name(name);
+        out.append(value);
+        return this;
+    }
+
+    JsonWriter field(String name, double value) {
+        name(name);
+        // JSON has no NaN or Infinity
+        if (Double.isFinite(value)) {
+            out.append(value);
+        } else {
+            out.append("null");
+        }
+        return this;
+    }
+
+    JsonWriter field(String name, boolean value) {
+        name(name);
+        out.append(value);
+        return this;
+    }
+
+    /**
+     * Membuka objek bersarang, ditutup dengan endObject
+     */
+    JsonWriter beginObject(String name) {
+        name(name);
+        out.append('{');
+        return this;
+    }
+
+    JsonWriter endObject() {
+        out.append('}');
+        return this;
+    }
+
+    /**
+     * Menutup objek terluar
+     * @return JSON dalam UTF-8
+     */
+    byte[] toBytes() {
+        out.append('}');
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void name(String name) {
+        // A comma is needed unless this is the first field of the current object
+        if (out.charAt(out.length() - 1) != '{') {
+            out.append(',');
+        }
+        string(name);
+        out.append(':');
+    }
+
+    private void string(String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
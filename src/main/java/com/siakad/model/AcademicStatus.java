@@ -0,0 +1,28 @@
+package com.siakad.model;
+
+/**
+ * Status akademik mahasiswa
+ */
+
+public enum AcademicStatus {
+    ACTIVE,
+    PROBATION,
+    SUSPENDED;
+
+    private static final AcademicStatus[] VALUES = values();
+
+    /**
+     * @param status Nama status
+     * @return AcademicStatus, atau null jika status tidak dikenal
+     */
+    public static AcademicStatus fromString(String status) {
+        if (status != null) {
+            for (AcademicStatus value : VALUES) {
+                if (value.name().equals(status)) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,45 @@
+package com.siakad.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Model class untuk hasil pendaftaran beberapa mata kuliah sekaligus (KRS).
+ * Setiap mata kuliah tercatat sebagai Enrollment (berhasil) atau exception (gagal)
+ */
+
+public class BatchEnrollmentResult {
+    private final String studentId;
+    private final Map<String, Enrollment> enrollments = new LinkedHashMap<>();
+    private final Map<String, RuntimeException> failures = new LinkedHashMap<>();
+
+    public BatchEnrollmentResult(String studentId) {
+        this.studentId = studentId;
+    }
+
+    public void addEnrollment(Enrollment enrollment) {
+        this.enrollments.put(enrollment.getCourseCode(), enrollment);
+    }
+
+    public void addFailure(String courseCode, RuntimeException failure) {
+        this.failures.put(courseCode, failure);
+    }
+
+    // Getters
+    public String getStudentId() {
+        return studentId;
+    }
+
+    public Map<String, Enrollment> getEnrollments() {
+        return Collections.unmodifiableMap(enrollments);
+    }
+
+    public Map<String, RuntimeException> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    public boolean isAllSucceeded() {
+        return failures.isEmpty();
+    }
+}
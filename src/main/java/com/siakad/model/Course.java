@@ -2,6 +2,7 @@ package com.siakad.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Model class untuk data Mata Kuliah
@@ -12,7 +13,7 @@ public class Course {
     private String courseName;
     private int credits;
     private int capacity;
-    private int enrolledCount;
+    private final AtomicInteger enrolledCount = new AtomicInteger();
     private String lecturer;
     private List<String> prerequisites; // Mata kuliah prasyarat
 
@@ -22,12 +23,12 @@ public class Course {
 
     public Course(String courseCode, String courseName, int credits,
                   int capacity, int enrolledCount, String lecturer) {
-        this.courseCode = courseCode;
+        this.courseCode = SymbolTable.intern(courseCode);
         this.courseName = courseName;
         this.credits = credits;
         this.capacity = capacity;
-        this.enrolledCount = enrolledCount;
-        this.lecturer = lecturer;
+        this.enrolledCount.set(enrolledCount);
+        this.lecturer = SymbolTable.intern(lecturer);
         this.prerequisites = new ArrayList<>();
     }
 
@@ -37,7 +38,7 @@ public class Course {
     }
 
     public void setCourseCode(String courseCode) {
-        this.courseCode = courseCode;
+        this.courseCode = SymbolTable.intern(courseCode);
     }
 
     public String getCourseName() {
@@ -65,11 +66,43 @@ public class Course {
     }
 
     public int getEnrolledCount() {
-        return enrolledCount;
+        return enrolledCount.get();
     }
 
     public void setEnrolledCount(int enrolledCount) {
-        this.enrolledCount = enrolledCount;
+        this.enrolledCount.set(enrolledCount);
+    }
+
+    /**
+     * Mengklaim satu kursi secara atomik (compare-and-set, tanpa lock)
+     * @return true jika kursi berhasil diklaim, false jika kapasitas sudah penuh
+     */
+    public boolean tryReserveSeat() {
+        while (true) {
+            int current = enrolledCount.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (enrolledCount.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Melepas satu kursi secara atomik, jumlah peserta tidak akan kurang dari 0
+     * @return true jika kursi berhasil dilepas, false jika tidak ada peserta
+     */
+    public boolean releaseSeat() {
+        while (true) {
+            int current = enrolledCount.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (enrolledCount.compareAndSet(current, current - 1)) {
+                return true;
+            }
+        }
     }
 
     public String getLecturer() {
@@ -77,7 +110,7 @@ public class Course {
     }
 
     public void setLecturer(String lecturer) {
-        this.lecturer = lecturer;
+        this.lecturer = SymbolTable.intern(lecturer);
     }
 
     public List<String> getPrerequisites() {
@@ -92,6 +125,6 @@ public class Course {
         if (this.prerequisites == null) {
             this.prerequisites = new ArrayList<>();
         }
-        this.prerequisites.add(courseCode);
+        this.prerequisites.add(SymbolTable.intern(courseCode));
     }
 }
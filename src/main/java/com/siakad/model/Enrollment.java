@@ -1,17 +1,29 @@
 package com.siakad.model;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Model class untuk data Enrollment (Pendaftaran Mata Kuliah)
+ *
+ * Disimpan dalam bentuk ringkas karena jumlahnya jutaan di memori:
+ * ID enrollment sebagai long, course code lewat SymbolTable,
+ * tanggal sebagai mikrodetik epoch dan status sebagai enum.
+ * Getter/setter lama tetap bekerja seperti sebelumnya.
  */
 
 public class Enrollment {
-    private String enrollmentId;
+    private static final long NO_KEY = -1L;
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private String enrollmentId; // Only set when assigned as a free-form string
+    private long enrollmentKey = NO_KEY; // Rendered to a string on demand
     private String studentId;
     private String courseCode;
-    private LocalDateTime enrollmentDate;
-    private String status; // PENDING, APPROVED, REJECTED
+    private long enrollmentDateMicros = NO_DATE; // LocalDateTime as UTC epoch microseconds
+    private EnrollmentStatus status; // PENDING, APPROVED, REJECTED
+    private String otherStatus; // Only set for values outside EnrollmentStatus
 
     public Enrollment() {
     }
@@ -20,18 +32,31 @@ public class Enrollment {
                       LocalDateTime enrollmentDate, String status) {
         this.enrollmentId = enrollmentId;
         this.studentId = studentId;
-        this.courseCode = courseCode;
-        this.enrollmentDate = enrollmentDate;
-        this.status = status;
+        this.courseCode = SymbolTable.intern(courseCode);
+        setEnrollmentDate(enrollmentDate);
+        setStatus(status);
     }
 
     // Getters and Setters
     public String getEnrollmentId() {
+        if (enrollmentId == null && enrollmentKey != NO_KEY) {
+            return EnrollmentId.format(enrollmentKey);
+        }
         return enrollmentId;
     }
 
     public void setEnrollmentId(String enrollmentId) {
         this.enrollmentId = enrollmentId;
+        this.enrollmentKey = NO_KEY;
+    }
+
+    public EnrollmentId getEnrollmentKey() {
+        return enrollmentKey == NO_KEY ? null : new EnrollmentId(enrollmentKey);
+    }
+
+    public void setEnrollmentKey(EnrollmentId enrollmentKey) {
+        this.enrollmentKey = enrollmentKey == null ? NO_KEY : enrollmentKey.getValue();
+        this.enrollmentId = null;
     }
 
     public String getStudentId() {
@@ -47,22 +72,54 @@ public class Enrollment {
     }
 
     public void setCourseCode(String courseCode) {
-        this.courseCode = courseCode;
+        this.courseCode = SymbolTable.intern(courseCode);
     }
 
     public LocalDateTime getEnrollmentDate() {
-        return enrollmentDate;
+        if (enrollmentDateMicros == NO_DATE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(enrollmentDateMicros, 1_000_000L),
+                (int) Math.floorMod(enrollmentDateMicros, 1_000_000L) * 1_000, ZoneOffset.UTC);
     }
 
     public void setEnrollmentDate(LocalDateTime enrollmentDate) {
-        this.enrollmentDate = enrollmentDate;
+        if (enrollmentDate == null) {
+            this.enrollmentDateMicros = NO_DATE;
+            return;
+        }
+        LocalDateTime truncated = enrollmentDate.truncatedTo(ChronoUnit.MICROS);
+        this.enrollmentDateMicros = Math.addExact(Math.multiplyExact(truncated.toEpochSecond(ZoneOffset.UTC), 1_000_000L),
+                truncated.getNano() / 1_000);
+    }
+
+    /**
+     * @return Tanggal enrollment dalam mikrodetik epoch (LocalDateTime dibaca sebagai UTC),
+     *         atau Long.MIN_VALUE jika belum diisi
+     */
+    public long getEnrollmentDateMicros() {
+        return enrollmentDateMicros;
+    }
+
+    public void setEnrollmentDateMicros(long enrollmentDateMicros) {
+        this.enrollmentDateMicros = enrollmentDateMicros;
     }
 
     public String getStatus() {
-        return status;
+        return status != null ? status.name() : otherStatus;
     }
 
     public void setStatus(String status) {
+        this.status = EnrollmentStatus.fromString(status);
+        this.otherStatus = this.status == null ? status : null;
+    }
+
+    public EnrollmentStatus getStatusCode() {
+        return status;
+    }
+
+    public void setStatus(EnrollmentStatus status) {
         this.status = status;
+        this.otherStatus = null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,89 @@
+package com.siakad.model;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ID enrollment berbasis long yang terurut waktu.
+ * Representasi string ("ENR-" + 13 digit base-36) baru dibuat saat diminta
+ * dan urutan leksikografisnya sama dengan urutan nilai long-nya.
+ */
+
+public final class EnrollmentId implements Comparable<EnrollmentId> {
+    public static final String PREFIX = "ENR-";
+    private static final int WIDTH = 13; // Long.MAX_VALUE has 13 base-36 digits
+
+    private final long value;
+    private String rendered;
+
+    public EnrollmentId(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Enrollment ID must not be negative: " + value);
+        }
+        this.value = value;
+    }
+
+    /**
+     * Membaca kembali ID dari representasi string-nya
+     * @param text String dengan format "ENR-" + 13 digit base-36
+     * @return EnrollmentId
+     * @throws IllegalArgumentException jika format tidak valid
+     */
+    public static EnrollmentId parse(String text) {
+        if (text == null || text.length() != PREFIX.length() + WIDTH || !text.startsWith(PREFIX)) {
+            throw new IllegalArgumentException("Invalid enrollment ID: " + text);
+        }
+        try {
+            return new EnrollmentId(Long.parseLong(text.substring(PREFIX.length()), 36));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid enrollment ID: " + text, e);
+        }
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    @Override
+    public int compareTo(EnrollmentId other) {
+        return Long.compare(value, other.value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof EnrollmentId other && other.value == value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        // Benign race: concurrent callers render the same string
+        String text = rendered;
+        if (text == null) {
+            text = format(value);
+            rendered = text;
+        }
+        return text;
+    }
+
+    /**
+     * Representasi string sebuah nilai ID tanpa membuat objek EnrollmentId
+     * @param value Nilai ID, tidak negatif
+     * @return "ENR-" + 13 digit base-36
+     */
+    public static String format(long value) {
+        byte[] chars = new byte[PREFIX.length() + WIDTH];
+        for (int i = 0; i < PREFIX.length(); i++) {
+            chars[i] = (byte) PREFIX.charAt(i);
+        }
+        long remaining = value;
+        for (int i = chars.length - 1; i >= PREFIX.length(); i--) {
+            chars[i] = (byte) Character.forDigit((int) (remaining % 36), 36);
+            remaining /= 36;
+        }
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,114 @@
+package com.siakad.model;
+
+import com.siakad.exception.CourseFullException;
+import com.siakad.exception.CourseNotFoundException;
+import com.siakad.exception.EnrollmentException;
+import com.siakad.exception.PrerequisiteNotMetException;
+import com.siakad.exception.StudentNotFoundException;
+
+/**
+ * Hasil pendaftaran satu mata kuliah tanpa exception: berisi Enrollment jika berhasil,
+ * atau alasan penolakan bisnis (kelas penuh, prasyarat, suspend, dan seterusnya).
+ * Hasil penolakan sudah dialokasikan sekali per alasan dan dipakai ulang,
+ * sehingga jalur penolakan tidak membuat objek maupun stack trace.
+ */
+
+public final class EnrollmentOutcome {
+
+    /**
+     * Alasan penolakan yang merupakan hasil bisnis biasa, bukan kesalahan sistem
+     */
+    public enum Reason {
+        STUDENT_NOT_FOUND,
+        STUDENT_SUSPENDED,
+        COURSE_NOT_FOUND,
+        ALREADY_ENROLLED,
+        COURSE_FULL,
+        PREREQUISITE_NOT_MET,
+        CREDIT_LIMIT_EXCEEDED
+    }
+
+    private static final EnrollmentOutcome[] REJECTIONS = new EnrollmentOutcome[Reason.values().length];
+
+    static {
+        for (Reason reason : Reason.values()) {
+            REJECTIONS[reason.ordinal()] = new EnrollmentOutcome(null, reason);
+        }
+    }
+
+    private final Enrollment enrollment;
+    private final Reason reason;
+
+    private EnrollmentOutcome(Enrollment enrollment, Reason reason) {
+        this.enrollment = enrollment;
+        this.reason = reason;
+    }
+
+    public static EnrollmentOutcome enrolled(Enrollment enrollment) {
+        if (enrollment == null) {
+            throw new IllegalArgumentException("Enrollment must not be null");
+        }
+        return new EnrollmentOutcome(enrollment, null);
+    }
+
+    /**
+     * @return Instance bersama untuk alasan tersebut
+     */
+    public static EnrollmentOutcome rejected(Reason reason) {
+        return REJECTIONS[reason.ordinal()];
+    }
+
+    public boolean isEnrolled() {
+        return enrollment != null;
+    }
+
+    /**
+     * @return Enrollment jika berhasil, null jika ditolak
+     */
+    public Enrollment getEnrollment() {
+        return enrollment;
+    }
+
+    /**
+     * @return Alasan penolakan, null jika berhasil
+     */
+    public Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * Mengubah penolakan menjadi exception dengan stack trace lengkap, tipe dan pesannya
+     * sama seperti yang dilempar enrollCourse
+     * @param studentId ID mahasiswa untuk pesan exception
+     * @param courseCode Kode mata kuliah untuk pesan exception
+     * @return Exception sesuai alasan penolakan
+     * @throws IllegalStateException jika enrollment berhasil
+     */
+    public RuntimeException toException(String studentId, String courseCode) {
+        return toException(studentId, courseCode, true);
+    }
+
+    /**
+     * @param studentId ID mahasiswa untuk pesan exception
+     * @param courseCode Kode mata kuliah untuk pesan exception
+     * @param writableStackTrace false untuk exception stackless yang murah dibuat
+     * @return Exception sesuai alasan penolakan
+     * @throws IllegalStateException jika enrollment berhasil
+     */
+    public RuntimeException toException(String studentId, String courseCode, boolean writableStackTrace) {
+        if (reason == null) {
+            throw new IllegalStateException("Enrollment succeeded");
+        }
+        return switch (reason) {
+            case STUDENT_NOT_FOUND -> new StudentNotFoundException("Student not found: " + studentId, writableStackTrace);
+            case STUDENT_SUSPENDED -> new EnrollmentException("Student is suspended", writableStackTrace);
+            case COURSE_NOT_FOUND -> new CourseNotFoundException("Course not found: " + courseCode, writableStackTrace);
+            case ALREADY_ENROLLED -> new EnrollmentException("Student is already enrolled in: " + courseCode,
+                    writableStackTrace);
+            case COURSE_FULL -> new CourseFullException("Course is full", writableStackTrace);
+            case PREREQUISITE_NOT_MET -> new PrerequisiteNotMetException("Prerequisites not met", writableStackTrace);
+            case CREDIT_LIMIT_EXCEEDED -> new EnrollmentException("Credit limit exceeded: " + courseCode,
+                    writableStackTrace);
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.siakad.model;
+
+/**
+ * Status enrollment (pendaftaran mata kuliah)
+ */
+
+public enum EnrollmentStatus {
+    PENDING,
+    APPROVED,
+    REJECTED;
+
+    private static final EnrollmentStatus[] VALUES = values();
+
+    /**
+     * @param status Nama status
+     * @return EnrollmentStatus, atau null jika status tidak dikenal
+     */
+    public static EnrollmentStatus fromString(String status) {
+        if (status != null) {
+            for (EnrollmentStatus value : VALUES) {
+                if (value.name().equals(status)) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+}
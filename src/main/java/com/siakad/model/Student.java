@@ -7,7 +7,8 @@ public class Student {
     private String major;
     private int semester;
     private double gpa; // IPK
-    private String academicStatus; // ACTIVE, PROBATION, SUSPENDED
+    private AcademicStatus academicStatus; // ACTIVE, PROBATION, SUSPENDED
+    private String otherAcademicStatus; // Only set for values outside AcademicStatus
     public Student() {
     }
     public Student(String studentId, String name, String email, String major,
@@ -15,10 +16,10 @@ public class Student {
         this.studentId = studentId;
         this.name = name;
         this.email = email;
-        this.major = major;
+        this.major = SymbolTable.intern(major);
         this.semester = semester;
         this.gpa = gpa;
-        this.academicStatus = academicStatus;
+        setAcademicStatus(academicStatus);
     }
     // Getters and Setters
     public String getStudentId() {
@@ -43,7 +44,7 @@ public class Student {
         return major;
     }
     public void setMajor(String major) {
-        this.major = major;
+        this.major = SymbolTable.intern(major);
     }
     public int getSemester() {
         return semester;
@@ -58,9 +59,20 @@ public class Student {
         this.gpa = gpa;
     }
     public String getAcademicStatus() {
-        return academicStatus;
+        return academicStatus != null ? academicStatus.name() : otherAcademicStatus;
     }
     public void setAcademicStatus(String academicStatus) {
+        this.academicStatus = AcademicStatus.fromString(academicStatus);
+        this.otherAcademicStatus = this.academicStatus == null ? academicStatus : null;
+    }
+    public AcademicStatus getAcademicStatusCode() {
+        return academicStatus;
+    }
+    public void setAcademicStatus(AcademicStatus academicStatus) {
         this.academicStatus = academicStatus;
+        this.otherAcademicStatus = null;
+    }
+    public boolean isSuspended() {
+        return academicStatus == AcademicStatus.SUSPENDED;
     }
 }
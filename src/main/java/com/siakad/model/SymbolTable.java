@@ -0,0 +1,58 @@
+package com.siakad.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Symbol table untuk nilai dengan sedikit variasi yang berulang di banyak objek
+ * (course code, jurusan, nama dosen). Setiap nilai hanya disimpan sekali di heap,
+ * objek model menyimpan referensi ke instance kanonik.
+ *
+ * Entry tidak pernah dibuang, jadi jumlahnya dibatasi MAX_SYMBOLS: setelah penuh nilai baru
+ * dikembalikan apa adanya. Nilai yang unik per objek seperti student ID tidak di-intern.
+ */
+
+public final class SymbolTable {
+    static final int MAX_SYMBOLS = 1 << 16;
+
+    private static final SymbolTable SHARED = new SymbolTable(MAX_SYMBOLS);
+
+    private final ConcurrentHashMap<String, String> symbols = new ConcurrentHashMap<>();
+    private final int maxSymbols;
+
+    SymbolTable(int maxSymbols) {
+        this.maxSymbols = maxSymbols;
+    }
+
+    /**
+     * @param value String yang akan di-intern
+     * @return Instance kanonik yang sama untuk isi yang sama, value itu sendiri jika tabel sudah penuh,
+     *         atau null jika value null
+     */
+    public static String intern(String value) {
+        return SHARED.internValue(value);
+    }
+
+    public static int size() {
+        return SHARED.symbols.size();
+    }
+
+    String internValue(String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = symbols.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        // The size check races with other inserts, so the bound can be overshot by a few entries
+        if (symbols.size() >= maxSymbols) {
+            return value;
+        }
+        existing = symbols.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    int symbolCount() {
+        return symbols.size();
+    }
+}
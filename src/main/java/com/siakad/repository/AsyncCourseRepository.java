@@ -0,0 +1,62 @@
+package com.siakad.repository;
+
+import com.siakad.model.Course;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Versi non-blocking dari CourseRepository: setiap operasi langsung mengembalikan
+ * CompletableFuture sehingga pemanggil bisa menjalankan beberapa lookup bersamaan
+ */
+
+public interface AsyncCourseRepository {
+
+    /**
+     * Mencari mata kuliah berdasarkan course code
+     * @param courseCode Kode mata kuliah
+     * @return Future berisi Course, atau null jika tidak ditemukan
+     */
+    CompletableFuture<Course> findByCourseCode(String courseCode);
+
+    /**
+     * Update data mata kuliah
+     * @param course Course object yang akan diupdate
+     * @return Future yang selesai setelah data tersimpan
+     */
+    CompletableFuture<Void> update(Course course);
+
+    /**
+     * Mengecek apakah prasyarat mata kuliah sudah terpenuhi
+     * @param studentId ID mahasiswa
+     * @param courseCode Kode mata kuliah
+     * @return Future berisi true jika prasyarat terpenuhi
+     */
+    CompletableFuture<Boolean> isPrerequisiteMet(String studentId, String courseCode);
+
+    /**
+     * Membungkus repository blocking: setiap panggilan dijalankan di executor
+     * @param repository Repository blocking
+     * @param executor Executor untuk panggilan blocking, misalnya virtual thread per task
+     * @return Repository async
+     */
+    static AsyncCourseRepository of(CourseRepository repository, Executor executor) {
+        return new AsyncCourseRepository() {
+            @Override
+            public CompletableFuture<Course> findByCourseCode(String courseCode) {
+                return CompletableFuture.supplyAsync(() -> repository.findByCourseCode(courseCode), executor);
+            }
+
+            @Override
+            public CompletableFuture<Void> update(Course course) {
+                return CompletableFuture.runAsync(() -> repository.update(course), executor);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> isPrerequisiteMet(String studentId, String courseCode) {
+                return CompletableFuture.supplyAsync(() -> repository.isPrerequisiteMet(studentId, courseCode),
+                        executor);
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.siakad.repository;
+
+import com.siakad.model.Student;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Versi non-blocking dari StudentRepository: setiap operasi langsung mengembalikan
+ * CompletableFuture sehingga pemanggil bisa menjalankan beberapa lookup bersamaan
+ */
+
+public interface AsyncStudentRepository {
+
+    /**
+     * Mencari mahasiswa berdasarkan student ID
+     * @param studentId ID mahasiswa
+     * @return Future berisi Student, atau null jika tidak ditemukan
+     */
+    CompletableFuture<Student> findById(String studentId);
+
+    /**
+     * Update data mahasiswa
+     * @param student Student object yang akan diupdate
+     * @return Future yang selesai setelah data tersimpan
+     */
+    CompletableFuture<Void> update(Student student);
+
+    /**
+     * Membungkus repository blocking: setiap panggilan dijalankan di executor
+     * @param repository Repository blocking
+     * @param executor Executor untuk panggilan blocking, misalnya virtual thread per task
+     * @return Repository async
+     */
+    static AsyncStudentRepository of(StudentRepository repository, Executor executor) {
+        return new AsyncStudentRepository() {
+            @Override
+            public CompletableFuture<Student> findById(String studentId) {
+                return CompletableFuture.supplyAsync(() -> repository.findById(studentId), executor);
+            }
+
+            @Override
+            public CompletableFuture<Void> update(Student student) {
+                return CompletableFuture.runAsync(() -> repository.update(student), executor);
+            }
+        };
+    }
+}
@@ -0,0 +1,184 @@
+package com.siakad.repository;
+
+import com.siakad.model.Course;
+import com.siakad.model.Student;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Decorator StudentRepository yang men-cache hasil findById.
+ *
+ * - Ukuran cache dibatasi (perkiraan), eviction memakai sampled LRU: saat penuh beberapa
+ *   entry diambil acak dan yang paling lama tidak diakses dibuang (tanpa lock global)
+ * - Setiap entry punya time-to-live
+ * - update(Student) menulis ke repository asal lalu meng-invalidate entry mahasiswa tersebut
+ * - Statistik hit/miss/eviction tersedia lewat getStats()
+ */
+
+public class CachingStudentRepository implements StudentRepository {
+    private static final int EVICTION_SAMPLE = 8;
+    private static final int EVICTION_MAX_SKIP = 1024;
+
+    private final StudentRepository delegate;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, Entry> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param delegate Repository asal
+     * @param maxEntries Jumlah maksimal mahasiswa di cache
+     * @param ttl Time-to-live entry
+     * @param unit Satuan ttl
+     */
+    public CachingStudentRepository(StudentRepository delegate, int maxEntries, long ttl, TimeUnit unit) {
+        this(delegate, maxEntries, ttl, unit, System::nanoTime);
+    }
+
+    CachingStudentRepository(StudentRepository delegate, int maxEntries, long ttl, TimeUnit unit,
+                             LongSupplier nanoClock) {
+        if (maxEntries < 1 || ttl <= 0) {
+            throw new IllegalArgumentException("Max entries and TTL must be positive");
+        }
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.nanoClock = nanoClock;
+        this.cache = new ConcurrentHashMap<>(Math.min(maxEntries, 1 << 16));
+    }
+
+    @Override
+    public Student findById(String studentId) {
+        if (studentId == null) {
+            return null;
+        }
+        long now = nanoClock.getAsLong();
+        Entry entry = cache.get(studentId);
+        if (entry != null && now - entry.loadedAt < ttlNanos) {
+            // Per-entry timestamp, a shared access counter would be contended on every hit
+            entry.lastAccess = now;
+            hits.increment();
+            return entry.student;
+        }
+        misses.increment();
+        long invalidationsBefore = invalidations.get();
+        Student student = delegate.findById(studentId);
+        if (student == null) {
+            cache.remove(studentId);
+            return null;
+        }
+        if (entry == null && cache.size() >= maxEntries) {
+            evictOne();
+        }
+        Entry loaded = new Entry(student, now);
+        cache.put(studentId, loaded);
+        if (invalidations.get() != invalidationsBefore) {
+            // An update raced with this load, the loaded value may be stale
+            cache.remove(studentId, loaded);
+        }
+        return student;
+    }
+
+    @Override
+    public void update(Student student) {
+        try {
+            delegate.update(student);
+        } finally {
+            invalidate(student.getStudentId());
+        }
+    }
+
+    @Override
+    public List<Course> getCompletedCourses(String studentId) {
+        return delegate.getCompletedCourses(studentId);
+    }
+
+    @Override
+    public void addCompletedCoursesListener(Consumer<String> listener) {
+        delegate.addCompletedCoursesListener(listener);
+    }
+
+    /**
+     * Menghapus satu mahasiswa dari cache
+     * @param studentId ID mahasiswa
+     */
+    public void invalidate(String studentId) {
+        if (studentId != null) {
+            invalidations.incrementAndGet();
+            cache.remove(studentId);
+        }
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.clear();
+    }
+
+    /**
+     * @return Snapshot statistik cache
+     */
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), cache.size());
+    }
+
+    private void evictOne() {
+        // Sample entries from a random starting point and drop the least recently used one
+        int skip = ThreadLocalRandom.current().nextInt(Math.max(1, Math.min(cache.size(), EVICTION_MAX_SKIP)));
+        Iterator<Map.Entry<String, Entry>> iterator = cache.entrySet().iterator();
+        for (int i = 0; i < skip && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+        Map.Entry<String, Entry> victim = null;
+        for (int sampled = 0; sampled < EVICTION_SAMPLE; sampled++) {
+            if (!iterator.hasNext()) {
+                iterator = cache.entrySet().iterator();
+                if (!iterator.hasNext()) {
+                    return;
+                }
+            }
+            Map.Entry<String, Entry> candidate = iterator.next();
+            if (victim == null || candidate.getValue().lastAccess - victim.getValue().lastAccess < 0) {
+                victim = candidate;
+            }
+        }
+        if (cache.remove(victim.getKey(), victim.getValue())) {
+            evictions.increment();
+        }
+    }
+
+    private static final class Entry {
+        private final Student student;
+        private final long loadedAt;
+        private volatile long lastAccess;
+
+        private Entry(Student student, long loadedAt) {
+            this.student = student;
+            this.loadedAt = loadedAt;
+            this.lastAccess = loadedAt;
+        }
+    }
+
+    /**
+     * Snapshot statistik cache
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
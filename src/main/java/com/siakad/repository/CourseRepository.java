@@ -2,6 +2,12 @@ package com.siakad.repository;
 
 import com.siakad.model.Course;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Interface untuk akses data mata kuliah
  * Interface ini akan di-stub atau di-mock dalam unit testing
@@ -29,4 +35,38 @@ public interface CourseRepository {
      * @return true jika prasyarat terpenuhi, false jika tidak
      */
     boolean isPrerequisiteMet(String studentId, String courseCode);
+
+    /**
+     * Mencari beberapa mata kuliah sekaligus dalam satu panggilan.
+     * Implementasi default memanggil findByCourseCode satu per satu,
+     * implementasi yang mendukung bulk lookup sebaiknya meng-override method ini.
+     * @param courseCodes Kode-kode mata kuliah
+     * @return Map kode mata kuliah ke Course, kode yang tidak ditemukan tidak dimasukkan
+     */
+    default Map<String, Course> findByCourseCodes(Collection<String> courseCodes) {
+        Map<String, Course> courses = new HashMap<>();
+        for (String courseCode : courseCodes) {
+            Course course = findByCourseCode(courseCode);
+            if (course != null) {
+                courses.put(courseCode, course);
+            }
+        }
+        return courses;
+    }
+
+    /**
+     * Mengecek prasyarat beberapa mata kuliah sekaligus untuk satu mahasiswa
+     * @param studentId ID mahasiswa
+     * @param courseCodes Kode-kode mata kuliah
+     * @return Set kode mata kuliah yang prasyaratnya terpenuhi
+     */
+    default Set<String> findPrerequisitesMet(String studentId, Collection<String> courseCodes) {
+        Set<String> met = new HashSet<>();
+        for (String courseCode : courseCodes) {
+            if (isPrerequisiteMet(studentId, courseCode)) {
+                met.add(courseCode);
+            }
+        }
+        return met;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,647 @@
+package com.siakad.repository;
+
+import com.siakad.model.Course;
+import com.siakad.model.Enrollment;
+import com.siakad.model.EnrollmentId;
+import com.siakad.model.EnrollmentStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Journal enrollment append-only yang tahan crash.
+ *
+ * - Setiap enroll/drop ditulis sebagai record biner ber-checksum (CRC32C) ke segment file
+ *   lewat FileChannel. Segment baru dibuka ketika segment aktif mencapai segmentBytes
+ * - Group commit: satu writer thread mengambil semua record yang sedang antre, menulisnya
+ *   dengan satu write dan satu fsync, lalu membangunkan semua pemanggil di batch tersebut.
+ *   recordEnrollment/recordDrop baru kembali setelah record-nya durable. Jika batch gagal,
+ *   segment dipotong kembali ke akhir batch sebelumnya sehingga tidak ada record batch itu
+ *   yang muncul lagi saat recovery; jika pemotongan juga gagal, journal menolak append berikutnya
+ * - Saat dibuka, semua segment di-scan (memory-mapped) untuk membangun ulang roster per
+ *   mata kuliah. Ekor segment terakhir yang rusak karena crash di tengah penulisan dipotong
+ * - compact() menulis roster yang masih aktif ke satu segment snapshot dan menghapus
+ *   segment lama, sehingga waktu recovery sebanding dengan jumlah enrollment aktif
+ */
+
+public class EnrollmentJournal implements AutoCloseable {
+    private static final int SEGMENT_MAGIC = 0x534B4A4C; // "SKJL"
+    private static final int SEGMENT_VERSION = 1;
+    private static final int SEGMENT_HEADER = 8;
+    private static final int RECORD_HEADER = 8; // panjang payload + CRC32C
+    private static final int MAX_ID_BYTES = 1024;
+    private static final int MAX_PAYLOAD = 1 + 2 * Long.BYTES + 2 * (Short.BYTES + MAX_ID_BYTES);
+    private static final long MIN_SEGMENT_BYTES = 4096;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private static final byte ENROLL = 1;
+    private static final byte DROP = 2;
+    private static final long NO_ID = -1L;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final int maxBatch;
+    private final BlockingQueue<PendingRecord> queue = new LinkedBlockingQueue<>();
+    private final ReentrantLock ioLock = new ReentrantLock();
+    // Read side for submit, write side for closing: nothing is enqueued once the writer may have exited
+    private final ReentrantReadWriteLock lifecycle = new ReentrantReadWriteLock();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Entry>> rosters = new ConcurrentHashMap<>();
+    private final Thread writer;
+    private final long recoveredRecords;
+    private final long truncatedBytes;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(64 * 1024);
+    private FileChannel active;
+    private long activeNumber;
+    private long activeSize;
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder compactions = new LongAdder();
+
+    /**
+     * Membuka journal di direktori tersebut dan menjalankan recovery
+     * @param directory Direktori segment, dibuat jika belum ada
+     * @param segmentBytes Ukuran segment sebelum segment baru dibuka
+     * @param maxBatch Jumlah maksimal record per group commit
+     */
+    public EnrollmentJournal(Path directory, long segmentBytes, int maxBatch) {
+        if (segmentBytes < MIN_SEGMENT_BYTES || maxBatch < 1) {
+            throw new IllegalArgumentException("Segment must be at least " + MIN_SEGMENT_BYTES
+                    + " bytes and max batch must be positive");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxBatch = maxBatch;
+        try {
+            Files.createDirectories(directory);
+            deleteUnfinishedSnapshots();
+            List<Path> segments = listSegments();
+            long records = 0;
+            long truncated = 0;
+            long nextNumber = 1;
+            for (int i = 0; i < segments.size(); i++) {
+                Path segment = segments.get(i);
+                boolean last = i == segments.size() - 1;
+                long size = Files.size(segment);
+                if (size < SEGMENT_HEADER && last) {
+                    // Crash while creating the segment, before its header was written
+                    Files.delete(segment);
+                    truncated += size;
+                    nextNumber = segmentNumber(segment);
+                    segments.remove(i);
+                    break;
+                }
+                Replay replay = replay(segment, size);
+                if (replay.validEnd < size) {
+                    if (!last) {
+                        throw new IllegalStateException("Journal segment " + segment + " is corrupt at byte "
+                                + replay.validEnd);
+                    }
+                    // Torn write from a crash: drop the incomplete tail of the last segment
+                    try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                        channel.truncate(replay.validEnd);
+                        channel.force(true);
+                    }
+                    truncated += size - replay.validEnd;
+                }
+                records += replay.records;
+            }
+            this.recoveredRecords = records;
+            this.truncatedBytes = truncated;
+            if (segments.isEmpty()) {
+                openSegment(nextNumber);
+            } else {
+                Path last = segments.get(segments.size() - 1);
+                activeNumber = segmentNumber(last);
+                active = FileChannel.open(last, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                activeSize = active.size();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot recover enrollment journal in " + directory, e);
+        }
+        this.writer = new Thread(this::writeLoop, "enrollment-journal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public EnrollmentJournal(Path directory) {
+        this(directory, 64L * 1024 * 1024, 1024);
+    }
+
+    /**
+     * Mencatat enrollment, kembali setelah record-nya durable di disk
+     * @param enrollment Enrollment yang berhasil
+     */
+    public void recordEnrollment(Enrollment enrollment) {
+        await(submit(encodeEnrollment(enrollment)));
+    }
+
+    /**
+     * Mencatat banyak enrollment dalam group commit yang sama
+     * @param enrollments Enrollment yang berhasil
+     */
+    public void recordEnrollments(Collection<Enrollment> enrollments) {
+        List<CompletableFuture<Void>> pending = new ArrayList<>(enrollments.size());
+        for (Enrollment enrollment : enrollments) {
+            pending.add(submit(encodeEnrollment(enrollment)));
+        }
+        for (CompletableFuture<Void> future : pending) {
+            await(future);
+        }
+    }
+
+    /**
+     * Mencatat drop mata kuliah, kembali setelah record-nya durable di disk
+     * @param studentId ID mahasiswa
+     * @param courseCode Kode mata kuliah
+     */
+    public void recordDrop(String studentId, String courseCode) {
+        await(submit(encode(DROP, studentId, courseCode, NO_ID, Long.MIN_VALUE)));
+    }
+
+    /**
+     * @param courseCode Kode mata kuliah
+     * @return Mahasiswa yang saat ini terdaftar menurut journal
+     */
+    public Set<String> getRoster(String courseCode) {
+        Map<String, Entry> roster = courseCode == null ? null : rosters.get(courseCode);
+        return roster == null ? Set.of() : Set.copyOf(roster.keySet());
+    }
+
+    /**
+     * @param courseCode Kode mata kuliah
+     * @return Jumlah peserta menurut journal
+     */
+    public int getEnrolledCount(String courseCode) {
+        Map<String, Entry> roster = courseCode == null ? null : rosters.get(courseCode);
+        return roster == null ? 0 : roster.size();
+    }
+
+    /**
+     * @return Semua enrollment yang masih aktif menurut journal
+     */
+    public List<Enrollment> getActiveEnrollments() {
+        List<Enrollment> enrollments = new ArrayList<>();
+        rosters.forEach((courseCode, roster) -> roster.forEach((studentId, entry) ->
+                enrollments.add(entry.toEnrollment(studentId, courseCode))));
+        return enrollments;
+    }
+
+    /**
+     * Mengembalikan enrolledCount setiap mata kuliah yang ada di journal
+     * (termasuk yang semua pesertanya sudah drop) ke nilai hasil recovery
+     * @param courseRepository Repository mata kuliah yang akan diperbaiki
+     * @return Jumlah mata kuliah yang di-update
+     */
+    public int restoreEnrolledCounts(CourseRepository courseRepository) {
+        int restored = 0;
+        for (Map.Entry<String, ConcurrentHashMap<String, Entry>> roster : rosters.entrySet()) {
+            Course course = courseRepository.findByCourseCode(roster.getKey());
+            if (course != null) {
+                course.setEnrolledCount(roster.getValue().size());
+                courseRepository.update(course);
+                restored++;
+            }
+        }
+        return restored;
+    }
+
+    /**
+     * Menulis semua enrollment aktif ke satu segment snapshot lalu menghapus segment lama.
+     * Snapshot ditulis ke file sementara dan baru di-rename setelah fsync,
+     * sehingga crash di tengah compaction tidak kehilangan data.
+     * @return Jumlah segment lama yang dihapus
+     */
+    public int compact() {
+        ioLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Enrollment journal is closed");
+            }
+            checkHealthy();
+            long snapshotNumber = activeNumber + 1;
+            Path snapshot = segmentPath(snapshotNumber);
+            Path temporary = directory.resolve(snapshot.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+                buffer.putInt(SEGMENT_MAGIC).putInt(SEGMENT_VERSION);
+                for (Map.Entry<String, ConcurrentHashMap<String, Entry>> roster : rosters.entrySet()) {
+                    for (Map.Entry<String, Entry> enrolled : roster.getValue().entrySet()) {
+                        byte[] record = encode(ENROLL, enrolled.getKey(), roster.getKey(),
+                                enrolled.getValue().enrollmentId, enrolled.getValue().dateMicros);
+                        if (buffer.remaining() < record.length) {
+                            writeFully(channel, buffer.flip());
+                            buffer.clear();
+                        }
+                        buffer.put(record);
+                    }
+                }
+                writeFully(channel, buffer.flip());
+                channel.force(true);
+            }
+            Files.move(temporary, snapshot, StandardCopyOption.ATOMIC_MOVE);
+            List<Path> obsolete = new ArrayList<>();
+            for (Path segment : listSegments()) {
+                if (segmentNumber(segment) < snapshotNumber) {
+                    obsolete.add(segment);
+                }
+            }
+            active.close();
+            openSegment(snapshotNumber + 1);
+            for (Path segment : obsolete) {
+                Files.delete(segment);
+            }
+            compactions.increment();
+            return obsolete.size();
+        } catch (IOException e) {
+            failure = e;
+            throw new UncheckedIOException("Cannot compact enrollment journal in " + directory, e);
+        } finally {
+            ioLock.unlock();
+        }
+    }
+
+    /**
+     * @return Snapshot statistik journal
+     */
+    public Stats getStats() {
+        int segments;
+        try {
+            segments = listSegments().size();
+        } catch (IOException e) {
+            segments = -1;
+        }
+        return new Stats(appended.sum(), batches.sum(), compactions.sum(), segments,
+                recoveredRecords, truncatedBytes, queue.size());
+    }
+
+    /**
+     * Berhenti menerima record baru, menulis sisa antrean lalu menutup segment aktif.
+     * Jika thread pemanggil di-interrupt, close tetap menunggu writer selesai lalu memulihkan status interrupt.
+     */
+    @Override
+    public void close() {
+        markClosed();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                writer.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        ioLock.lock();
+        try {
+            active.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close enrollment journal in " + directory, e);
+        } finally {
+            ioLock.unlock();
+        }
+    }
+
+    private CompletableFuture<Void> submit(byte[] record) {
+        lifecycle.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Enrollment journal is closed");
+            }
+            checkHealthy();
+            PendingRecord pending = new PendingRecord(record, new CompletableFuture<>());
+            queue.add(pending);
+            return pending.done;
+        } finally {
+            lifecycle.readLock().unlock();
+        }
+    }
+
+    private void markClosed() {
+        lifecycle.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingRecord> batch = new ArrayList<>(maxBatch);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                PendingRecord first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - 1);
+                writeBatch(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        // Also reached when the writer is interrupted, later submits must fail instead of waiting forever
+        markClosed();
+        PendingRecord leftover;
+        while ((leftover = queue.poll()) != null) {
+            leftover.done.completeExceptionally(new IllegalStateException("Enrollment journal is closed"));
+        }
+    }
+
+    private void writeBatch(List<PendingRecord> batch) {
+        ioLock.lock();
+        long startNumber = activeNumber;
+        long startSize = activeSize;
+        try {
+            if (failure != null) {
+                throw failure;
+            }
+            writeBuffer.clear();
+            for (PendingRecord pending : batch) {
+                int length = pending.record.length;
+                if (activeSize + writeBuffer.position() + length > segmentBytes
+                        && activeSize + writeBuffer.position() > SEGMENT_HEADER) {
+                    flushAndRoll();
+                }
+                if (writeBuffer.remaining() < length) {
+                    writeFully(active, writeBuffer.flip());
+                    activeSize += writeBuffer.limit();
+                    writeBuffer.clear();
+                }
+                writeBuffer.put(pending.record);
+            }
+            writeFully(active, writeBuffer.flip());
+            activeSize += writeBuffer.limit();
+            active.force(false);
+            for (PendingRecord pending : batch) {
+                apply(ByteBuffer.wrap(pending.record), 0);
+            }
+            appended.add(batch.size());
+            batches.increment();
+            for (PendingRecord pending : batch) {
+                pending.done.complete(null);
+            }
+        } catch (IOException e) {
+            // Callers roll back in memory, so none of the batch may survive a restart
+            if (e != failure) {
+                try {
+                    truncateTo(startNumber, startSize);
+                } catch (IOException truncateFailure) {
+                    // Part of the batch may still be on disk, refuse further appends until reopened
+                    e.addSuppressed(truncateFailure);
+                    failure = e;
+                }
+            }
+            UncheckedIOException error = new UncheckedIOException("Cannot append to enrollment journal", e);
+            for (PendingRecord pending : batch) {
+                pending.done.completeExceptionally(error);
+            }
+        } finally {
+            ioLock.unlock();
+        }
+    }
+
+    private void flushAndRoll() throws IOException {
+        writeFully(active, writeBuffer.flip());
+        writeBuffer.clear();
+        active.force(false);
+        active.close();
+        openSegment(activeNumber + 1);
+    }
+
+    /**
+     * Membuang bagian batch gagal yang mungkin sudah tertulis: segment yang dibuka selama batch
+     * dihapus dan segment awal dipotong kembali ke offset terakhir yang sudah di-acknowledge
+     */
+    private void truncateTo(long number, long size) throws IOException {
+        try {
+            active.close();
+        } catch (IOException ignored) {
+            // The channel is replaced below either way
+        }
+        for (Path segment : listSegments()) {
+            if (segmentNumber(segment) > number) {
+                Files.delete(segment);
+            }
+        }
+        active = FileChannel.open(segmentPath(number), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        activeNumber = number;
+        active.truncate(size);
+        active.force(true);
+        activeSize = size;
+    }
+
+    private void openSegment(long number) throws IOException {
+        active = FileChannel.open(segmentPath(number), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        writeFully(active, ByteBuffer.allocate(SEGMENT_HEADER).putInt(SEGMENT_MAGIC).putInt(SEGMENT_VERSION).flip());
+        active.force(true);
+        activeNumber = number;
+        activeSize = SEGMENT_HEADER;
+    }
+
+    /**
+     * Membaca ulang satu segment dan menerapkan record-nya ke roster
+     * @return Posisi byte setelah record valid terakhir dan jumlah record yang diterapkan
+     */
+    private Replay replay(Path segment, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            if (size < SEGMENT_HEADER) {
+                throw new IllegalStateException(segment + " is not an enrollment journal segment");
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Journal segment " + segment + " is too large");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != SEGMENT_MAGIC || buffer.getInt(4) != SEGMENT_VERSION) {
+                throw new IllegalStateException(segment + " is not an enrollment journal segment");
+            }
+            CRC32C crc = new CRC32C();
+            long records = 0;
+            int position = SEGMENT_HEADER;
+            while (position + RECORD_HEADER <= size) {
+                int length = buffer.getInt(position);
+                if (length < 1 || length > MAX_PAYLOAD || position + RECORD_HEADER + (long) length > size) {
+                    break;
+                }
+                crc.reset();
+                crc.update(buffer.slice(position + RECORD_HEADER, length));
+                if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                    break;
+                }
+                apply(buffer, position);
+                records++;
+                position += RECORD_HEADER + length;
+            }
+            return new Replay(position, records);
+        }
+    }
+
+    private void apply(ByteBuffer buffer, int position) {
+        int offset = position + RECORD_HEADER;
+        byte type = buffer.get(offset);
+        long enrollmentId = buffer.getLong(offset + 1);
+        long dateMicros = buffer.getLong(offset + 9);
+        int studentLength = buffer.getShort(offset + 17);
+        String studentId = readString(buffer, offset + 19, studentLength);
+        int courseLength = buffer.getShort(offset + 19 + studentLength);
+        String courseCode = readString(buffer, offset + 21 + studentLength, courseLength);
+        ConcurrentHashMap<String, Entry> roster = rosters.computeIfAbsent(courseCode, code -> new ConcurrentHashMap<>());
+        if (type == ENROLL) {
+            roster.put(studentId, new Entry(enrollmentId, dateMicros));
+        } else if (type == DROP) {
+            roster.remove(studentId);
+        }
+    }
+
+    private static byte[] encodeEnrollment(Enrollment enrollment) {
+        EnrollmentId key = enrollment.getEnrollmentKey();
+        return encode(ENROLL, enrollment.getStudentId(), enrollment.getCourseCode(),
+                key != null ? key.getValue() : NO_ID, enrollment.getEnrollmentDateMicros());
+    }
+
+    private static byte[] encode(byte type, String studentId, String courseCode, long enrollmentId, long dateMicros) {
+        if (studentId == null || courseCode == null) {
+            throw new IllegalArgumentException("Student ID and course code must not be null");
+        }
+        byte[] student = studentId.getBytes(StandardCharsets.UTF_8);
+        byte[] course = courseCode.getBytes(StandardCharsets.UTF_8);
+        if (student.length > MAX_ID_BYTES || course.length > MAX_ID_BYTES) {
+            throw new IllegalArgumentException("Student ID and course code must not exceed " + MAX_ID_BYTES + " bytes");
+        }
+        int length = 1 + 2 * Long.BYTES + Short.BYTES + student.length + Short.BYTES + course.length;
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER + length);
+        record.putInt(length).putInt(0)
+                .put(type).putLong(enrollmentId).putLong(dateMicros)
+                .putShort((short) student.length).put(student)
+                .putShort((short) course.length).put(course);
+        CRC32C crc = new CRC32C();
+        crc.update(record.array(), RECORD_HEADER, length);
+        record.putInt(4, (int) crc.getValue());
+        return record.array();
+    }
+
+    private static String readString(ByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void await(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void checkHealthy() {
+        if (failure != null) {
+            throw new UncheckedIOException("Enrollment journal failed earlier, reopen it to recover", failure);
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        TreeMap<Long, Path> segments = new TreeMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    segments.put(segmentNumber(path), path);
+                }
+            }
+        }
+        return new ArrayList<>(segments.values());
+    }
+
+    /**
+     * Menghapus sisa compaction yang tidak selesai, segment lama masih lengkap
+     */
+    private void deleteUnfinishedSnapshots() throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX + ".tmp")) {
+            for (Path path : stream) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private static long segmentNumber(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private record Replay(long validEnd, long records) {
+    }
+
+    private record PendingRecord(byte[] record, CompletableFuture<Void> done) {
+    }
+
+    private record Entry(long enrollmentId, long dateMicros) {
+        Enrollment toEnrollment(String studentId, String courseCode) {
+            Enrollment enrollment = new Enrollment();
+            if (enrollmentId != NO_ID) {
+                enrollment.setEnrollmentKey(new EnrollmentId(enrollmentId));
+            }
+            enrollment.setStudentId(studentId);
+            enrollment.setCourseCode(courseCode);
+            enrollment.setEnrollmentDateMicros(dateMicros);
+            enrollment.setStatus(EnrollmentStatus.APPROVED);
+            return enrollment;
+        }
+    }
+
+    /**
+     * Snapshot statistik journal
+     */
+    public record Stats(long appended, long batches, long compactions, int segments,
+                        long recoveredRecords, long truncatedBytes, int queueDepth) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.siakad.repository;
+
+import com.siakad.model.Enrollment;
+
+import java.util.List;
+
+/**
+ * Interface untuk akses data enrollment (pendaftaran mata kuliah)
+ * Interface ini akan di-stub atau di-mock dalam unit testing
+ */
+
+public interface EnrollmentRepository {
+
+    /**
+     * Menyimpan enrollment baru, satu mahasiswa hanya boleh terdaftar sekali per mata kuliah
+     * @param enrollment Enrollment yang akan disimpan
+     * @return true jika tersimpan, false jika mahasiswa sudah terdaftar di mata kuliah tersebut
+     */
+    boolean add(Enrollment enrollment);
+
+    /**
+     * Menghapus enrollment mahasiswa di satu mata kuliah
+     * @param studentId ID mahasiswa
+     * @param courseCode Kode mata kuliah
+     * @return Enrollment yang dihapus, atau null jika mahasiswa tidak terdaftar
+     */
+    Enrollment remove(String studentId, String courseCode);
+
+    /**
+     * Mencari enrollment mahasiswa di satu mata kuliah
+     * @param studentId ID mahasiswa
+     * @param courseCode Kode mata kuliah
+     * @return Enrollment object atau null jika tidak ditemukan
+     */
+    Enrollment find(String studentId, String courseCode);
+
+    /**
+     * Mengecek apakah mahasiswa sudah terdaftar di mata kuliah
+     * @param studentId ID mahasiswa
+     * @param courseCode Kode mata kuliah
+     * @return true jika sudah terdaftar
+     */
+    default boolean exists(String studentId, String courseCode) {
+        return find(studentId, courseCode) != null;
+    }
+
+    /**
+     * Mendapatkan KRS mahasiswa
+     * @param studentId ID mahasiswa
+     * @return Semua enrollment mahasiswa tersebut
+     */
+    List<Enrollment> findByStudent(String studentId);
+
+    /**
+     * Mendapatkan satu halaman roster mata kuliah, diurutkan berdasarkan student ID.
+     * Halaman berikutnya diminta dengan student ID terakhir dari halaman sebelumnya.
+     * @param courseCode Kode mata kuliah
+     * @param afterStudentId Student ID terakhir halaman sebelumnya, null untuk halaman pertama
+     * @param limit Jumlah maksimal enrollment dalam satu halaman
+     * @return Enrollment di mata kuliah tersebut
+     */
+    List<Enrollment> findByCourse(String courseCode, String afterStudentId, int limit);
+
+    /**
+     * @param courseCode Kode mata kuliah
+     * @return Jumlah mahasiswa yang terdaftar di mata kuliah
+     */
+    int countByCourse(String courseCode);
+}
@@ -0,0 +1,162 @@
+package com.siakad.repository;
+
+import com.siakad.exception.CourseNotFoundException;
+import com.siakad.model.Course;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementasi CourseRepository di memori berbasis ConcurrentHashMap.
+ * findByCourseCode selalu mengembalikan instance Course yang sama untuk satu kode,
+ * sehingga reservasi kursi atomik di Course berlaku untuk semua thread.
+ *
+ * Budget latensi lookup: findByCourseCode rata-rata di bawah 1 mikrodetik
+ * untuk puluhan ribu mata kuliah (diukur di RepositoryLookupBenchmark,
+ * hasilnya di benchmarks/repository-lookup.txt).
+ */
+
+public class InMemoryCourseRepository implements CourseRepository {
+    private final ConcurrentHashMap<String, Course> courses;
+    private final StudentRepository studentRepository;
+
+    /**
+     * @param studentRepository Sumber data mata kuliah yang sudah diselesaikan mahasiswa,
+     *                          dipakai untuk pengecekan prasyarat
+     */
+    public InMemoryCourseRepository(StudentRepository studentRepository) {
+        this(studentRepository, 16);
+    }
+
+    /**
+     * @param studentRepository Sumber data mata kuliah yang sudah diselesaikan mahasiswa
+     * @param expectedCourses Perkiraan jumlah mata kuliah, untuk menghindari rehash saat bulk load
+     */
+    public InMemoryCourseRepository(StudentRepository studentRepository, int expectedCourses) {
+        this.studentRepository = studentRepository;
+        this.courses = new ConcurrentHashMap<>(expectedCourses);
+    }
+
+    @Override
+    public Course findByCourseCode(String courseCode) {
+        return courseCode == null ? null : courses.get(courseCode);
+    }
+
+    /**
+     * Update data mata kuliah yang sudah tersimpan
+     * @param course Course object yang akan diupdate
+     * @throws CourseNotFoundException jika mata kuliah belum tersimpan
+     */
+    @Override
+    public void update(Course course) {
+        String courseCode = requireCode(course);
+        if (courses.replace(courseCode, course) == null) {
+            throw new CourseNotFoundException("Course not found: " + courseCode);
+        }
+    }
+
+    @Override
+    public boolean isPrerequisiteMet(String studentId, String courseCode) {
+        Course course = findByCourseCode(courseCode);
+        if (course == null) {
+            return false;
+        }
+        List<String> prerequisites = course.getPrerequisites();
+        if (prerequisites == null || prerequisites.isEmpty()) {
+            return true;
+        }
+        return completedCourseCodes(studentId).containsAll(prerequisites);
+    }
+
+    @Override
+    public Map<String, Course> findByCourseCodes(Collection<String> courseCodes) {
+        Map<String, Course> found = new HashMap<>(Math.max(16, courseCodes.size() * 4 / 3 + 1));
+        for (String courseCode : courseCodes) {
+            Course course = findByCourseCode(courseCode);
+            if (course != null) {
+                found.put(courseCode, course);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Set<String> findPrerequisitesMet(String studentId, Collection<String> courseCodes) {
+        // Completed courses are loaded once for the whole batch
+        Set<String> completed = null;
+        Set<String> met = new HashSet<>();
+        for (String courseCode : courseCodes) {
+            Course course = findByCourseCode(courseCode);
+            if (course == null) {
+                continue;
+            }
+            List<String> prerequisites = course.getPrerequisites();
+            if (prerequisites == null || prerequisites.isEmpty()) {
+                met.add(courseCode);
+                continue;
+            }
+            if (completed == null) {
+                completed = completedCourseCodes(studentId);
+            }
+            if (completed.containsAll(prerequisites)) {
+                met.add(courseCode);
+            }
+        }
+        return met;
+    }
+
+    /**
+     * Menyimpan mata kuliah baru atau menimpa yang sudah ada
+     * @param course Course object yang akan disimpan
+     */
+    public void save(Course course) {
+        courses.put(requireCode(course), course);
+    }
+
+    /**
+     * Bulk load banyak mata kuliah sekaligus
+     * @param batch Kumpulan Course yang akan disimpan
+     */
+    public void saveAll(Collection<Course> batch) {
+        Map<String, Course> staged = new HashMap<>(Math.max(16, batch.size() * 4 / 3 + 1));
+        for (Course course : batch) {
+            staged.put(requireCode(course), course);
+        }
+        courses.putAll(staged);
+    }
+
+    /**
+     * @return Snapshot seluruh mata kuliah yang tersimpan
+     */
+    public Collection<Course> findAll() {
+        return List.copyOf(courses.values());
+    }
+
+    public int size() {
+        return courses.size();
+    }
+
+    private Set<String> completedCourseCodes(String studentId) {
+        List<Course> completed = studentRepository.getCompletedCourses(studentId);
+        if (completed == null || completed.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> codes = new HashSet<>(Math.max(16, completed.size() * 4 / 3 + 1));
+        for (Course course : completed) {
+            codes.add(course.getCourseCode());
+        }
+        return codes;
+    }
+
+    private static String requireCode(Course course) {
+        if (course == null || course.getCourseCode() == null) {
+            throw new IllegalArgumentException("Course and course code must not be null");
+        }
+        return course.getCourseCode();
+    }
+}
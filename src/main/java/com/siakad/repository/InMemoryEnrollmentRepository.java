@@ -0,0 +1,167 @@
+package com.siakad.repository;
+
+import com.siakad.model.Enrollment;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementasi EnrollmentRepository di memori dengan satu index utama dan dua index sekunder.
+ *
+ * - Index utama (studentId, courseCode) -> Enrollment, sehingga cek duplikat O(1)
+ * - Index per mahasiswa: kode mata kuliah yang diambil (KRS)
+ * - Index per mata kuliah: roster terurut berdasarkan student ID untuk paginasi keyset,
+ *   plus counter peserta
+ *
+ * Index sekunder diubah di dalam compute pada index utama, jadi add dan remove
+ * untuk pasangan mahasiswa/mata kuliah yang sama tidak pernah saling menyalip.
+ * Isi roster akan terlihat setelah add selesai.
+ */
+
+public class InMemoryEnrollmentRepository implements EnrollmentRepository {
+    private final ConcurrentHashMap<Key, Enrollment> enrollments;
+    private final ConcurrentHashMap<String, Set<String>> coursesByStudent;
+    private final ConcurrentHashMap<String, Roster> rostersByCourse = new ConcurrentHashMap<>();
+
+    public InMemoryEnrollmentRepository() {
+        this(16);
+    }
+
+    /**
+     * @param expectedEnrollments Perkiraan jumlah enrollment, untuk menghindari rehash saat bulk load
+     */
+    public InMemoryEnrollmentRepository(int expectedEnrollments) {
+        this.enrollments = new ConcurrentHashMap<>(expectedEnrollments);
+        this.coursesByStudent = new ConcurrentHashMap<>(Math.max(16, expectedEnrollments / 8));
+    }
+
+    @Override
+    public boolean add(Enrollment enrollment) {
+        Key key = keyOf(enrollment);
+        Enrollment stored = enrollments.computeIfAbsent(key, k -> {
+            coursesByStudent.computeIfAbsent(k.studentId, id -> ConcurrentHashMap.newKeySet()).add(k.courseCode);
+            Roster roster = rostersByCourse.computeIfAbsent(k.courseCode, code -> new Roster());
+            roster.enrollments.put(k.studentId, enrollment);
+            roster.count.incrementAndGet();
+            return enrollment;
+        });
+        return stored == enrollment;
+    }
+
+    /**
+     * Bulk load banyak enrollment sekaligus, misalnya dari EnrollmentJournal saat startup
+     * @param batch Kumpulan Enrollment yang akan disimpan
+     * @return Jumlah enrollment yang tersimpan (duplikat dilewati)
+     */
+    public int addAll(Collection<Enrollment> batch) {
+        int added = 0;
+        for (Enrollment enrollment : batch) {
+            if (add(enrollment)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    @Override
+    public Enrollment remove(String studentId, String courseCode) {
+        if (studentId == null || courseCode == null) {
+            return null;
+        }
+        Enrollment[] removed = new Enrollment[1];
+        enrollments.computeIfPresent(new Key(studentId, courseCode), (k, current) -> {
+            Set<String> courses = coursesByStudent.get(k.studentId);
+            if (courses != null) {
+                courses.remove(k.courseCode);
+            }
+            Roster roster = rostersByCourse.get(k.courseCode);
+            if (roster != null && roster.enrollments.remove(k.studentId) != null) {
+                roster.count.decrementAndGet();
+            }
+            removed[0] = current;
+            return null;
+        });
+        return removed[0];
+    }
+
+    @Override
+    public Enrollment find(String studentId, String courseCode) {
+        if (studentId == null || courseCode == null) {
+            return null;
+        }
+        return enrollments.get(new Key(studentId, courseCode));
+    }
+
+    @Override
+    public List<Enrollment> findByStudent(String studentId) {
+        Set<String> courses = studentId == null ? null : coursesByStudent.get(studentId);
+        if (courses == null) {
+            return List.of();
+        }
+        List<Enrollment> result = new ArrayList<>(courses.size());
+        for (String courseCode : courses) {
+            Enrollment enrollment = enrollments.get(new Key(studentId, courseCode));
+            if (enrollment != null) {
+                result.add(enrollment);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @throws IllegalArgumentException jika limit tidak positif
+     */
+    @Override
+    public List<Enrollment> findByCourse(String courseCode, String afterStudentId, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        Roster roster = courseCode == null ? null : rostersByCourse.get(courseCode);
+        if (roster == null) {
+            return List.of();
+        }
+        ConcurrentNavigableMap<String, Enrollment> page = afterStudentId == null
+                ? roster.enrollments
+                : roster.enrollments.tailMap(afterStudentId, false);
+        List<Enrollment> result = new ArrayList<>(Math.min(limit, 64));
+        for (Map.Entry<String, Enrollment> entry : page.entrySet()) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(entry.getValue());
+        }
+        return result;
+    }
+
+    @Override
+    public int countByCourse(String courseCode) {
+        Roster roster = courseCode == null ? null : rostersByCourse.get(courseCode);
+        return roster == null ? 0 : roster.count.get();
+    }
+
+    public int size() {
+        return enrollments.size();
+    }
+
+    private static Key keyOf(Enrollment enrollment) {
+        if (enrollment == null || enrollment.getStudentId() == null || enrollment.getCourseCode() == null) {
+            throw new IllegalArgumentException("Enrollment, student ID and course code must not be null");
+        }
+        return new Key(enrollment.getStudentId(), enrollment.getCourseCode());
+    }
+
+    private record Key(String studentId, String courseCode) {
+    }
+
+    private static final class Roster {
+        final ConcurrentSkipListMap<String, Enrollment> enrollments = new ConcurrentSkipListMap<>();
+        final AtomicInteger count = new AtomicInteger();
+    }
+}
@@ -0,0 +1,132 @@
+package com.siakad.repository;
+
+import com.siakad.exception.StudentNotFoundException;
+import com.siakad.model.Course;
+import com.siakad.model.Student;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Implementasi StudentRepository di memori berbasis ConcurrentHashMap.
+ * Aman dipakai banyak thread sekaligus dan cocok sebagai backing store default
+ * maupun baseline untuk performance test.
+ *
+ * Budget latensi lookup: findById dan getCompletedCourses rata-rata di bawah
+ * 1 mikrodetik untuk ratusan ribu mahasiswa (diukur di RepositoryLookupBenchmark,
+ * hasilnya di benchmarks/repository-lookup.txt).
+ */
+
+public class InMemoryStudentRepository implements StudentRepository {
+    private final ConcurrentHashMap<String, Student> students;
+    private final ConcurrentHashMap<String, List<Course>> completedCourses;
+    private final List<Consumer<String>> completedCoursesListeners = new CopyOnWriteArrayList<>();
+
+    public InMemoryStudentRepository() {
+        this(16);
+    }
+
+    /**
+     * @param expectedStudents Perkiraan jumlah mahasiswa, untuk menghindari rehash saat bulk load
+     */
+    public InMemoryStudentRepository(int expectedStudents) {
+        this.students = new ConcurrentHashMap<>(expectedStudents);
+        this.completedCourses = new ConcurrentHashMap<>(expectedStudents);
+    }
+
+    @Override
+    public Student findById(String studentId) {
+        return studentId == null ? null : students.get(studentId);
+    }
+
+    /**
+     * Update data mahasiswa yang sudah tersimpan
+     * @param student Student object yang akan diupdate
+     * @throws StudentNotFoundException jika mahasiswa belum tersimpan
+     */
+    @Override
+    public void update(Student student) {
+        String studentId = requireId(student);
+        if (students.replace(studentId, student) == null) {
+            throw new StudentNotFoundException("Student not found: " + studentId);
+        }
+    }
+
+    @Override
+    public List<Course> getCompletedCourses(String studentId) {
+        List<Course> courses = studentId == null ? null : completedCourses.get(studentId);
+        return courses == null ? List.of() : courses;
+    }
+
+    /**
+     * Menyimpan mahasiswa baru atau menimpa yang sudah ada
+     * @param student Student object yang akan disimpan
+     */
+    public void save(Student student) {
+        students.put(requireId(student), student);
+    }
+
+    /**
+     * Bulk load banyak mahasiswa sekaligus
+     * @param batch Kumpulan Student yang akan disimpan
+     */
+    public void saveAll(Collection<Student> batch) {
+        Map<String, Student> staged = new HashMap<>(Math.max(16, batch.size() * 4 / 3 + 1));
+        for (Student student : batch) {
+            staged.put(requireId(student), student);
+        }
+        students.putAll(staged);
+    }
+
+    /**
+     * Mengganti daftar mata kuliah yang sudah diselesaikan mahasiswa
+     * @param studentId ID mahasiswa
+     * @param courses Daftar Course yang sudah diselesaikan
+     */
+    public void setCompletedCourses(String studentId, List<Course> courses) {
+        completedCourses.put(studentId, List.copyOf(courses));
+        notifyCompletedCoursesChanged(studentId);
+    }
+
+    /**
+     * Menambahkan satu mata kuliah yang sudah diselesaikan mahasiswa
+     * @param studentId ID mahasiswa
+     * @param course Course yang sudah diselesaikan
+     */
+    public void addCompletedCourse(String studentId, Course course) {
+        completedCourses.compute(studentId, (id, current) -> {
+            List<Course> next = current == null ? new ArrayList<>(1) : new ArrayList<>(current);
+            next.add(course);
+            return List.copyOf(next);
+        });
+        notifyCompletedCoursesChanged(studentId);
+    }
+
+    @Override
+    public void addCompletedCoursesListener(Consumer<String> listener) {
+        completedCoursesListeners.add(listener);
+    }
+
+    private void notifyCompletedCoursesChanged(String studentId) {
+        for (Consumer<String> listener : completedCoursesListeners) {
+            listener.accept(studentId);
+        }
+    }
+
+    public int size() {
+        return students.size();
+    }
+
+    private static String requireId(Student student) {
+        if (student == null || student.getStudentId() == null) {
+            throw new IllegalArgumentException("Student and student ID must not be null");
+        }
+        return student.getStudentId();
+    }
+}
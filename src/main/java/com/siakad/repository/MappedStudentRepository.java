@@ -0,0 +1,661 @@
+package com.siakad.repository;
+
+import com.siakad.exception.StudentNotFoundException;
+import com.siakad.model.AcademicStatus;
+import com.siakad.model.Course;
+import com.siakad.model.Student;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * Implementasi StudentRepository off-heap di atas file memory-mapped.
+ *
+ * - Data master mahasiswa disimpan sebagai record fixed-width di file, index hash
+ *   studentId -> nomor record juga tinggal di file yang sama, sehingga setelah restart
+ *   store langsung bisa dipakai tanpa reload
+ * - findRecord mengembalikan view ringan yang membaca field langsung dari mapping,
+ *   Student utuh baru dibuat saat findById atau StudentRecord.toStudent dipanggil
+ * - update menulis ulang record di tempatnya, tidak ada append
+ * - Pembacaan memakai optimistic read (StampedLock), penulisan diserialkan
+ *
+ * Insert menulis record, lalu slot index, lalu HEADER_COUNT. Halaman mapping bisa sampai ke disk
+ * dalam urutan apa pun saat OS crash, jadi saat dibuka ulang index dicocokkan dengan HEADER_COUNT
+ * dan dibangun ulang dari record jika tidak konsisten.
+ *
+ * Kapasitas ditentukan saat file dibuat. Data mata kuliah yang sudah diselesaikan
+ * tetap di heap seperti InMemoryStudentRepository dan tidak ikut disimpan ke file.
+ */
+
+public class MappedStudentRepository implements StudentRepository, AutoCloseable {
+    private static final int MAGIC = 0x534B5354; // "SKST"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_RECORD_SIZE = 8;
+    private static final int HEADER_CAPACITY = 12;
+    private static final int HEADER_INDEX_SLOTS = 16;
+    private static final int HEADER_COUNT = 20;
+
+    static final int RECORD_SIZE = 256;
+    // String field: 1 byte panjang (0xFF untuk null) diikuti isi UTF-8
+    private static final int STUDENT_ID = 0;
+    private static final int STUDENT_ID_LENGTH = 32;
+    private static final int NAME = 32;
+    private static final int NAME_LENGTH = 80;
+    private static final int EMAIL = 112;
+    private static final int EMAIL_LENGTH = 80;
+    private static final int MAJOR = 192;
+    private static final int MAJOR_LENGTH = 32;
+    private static final int STATUS_CODE = 224; // 0 = null, 1.. = AcademicStatus ordinal + 1, 0xFF = lihat teks
+    private static final int STATUS_TEXT_LENGTH = 15;
+    private static final int SEMESTER = 240;
+    private static final int GPA = 248;
+
+    private static final int NULL_LENGTH = 0xFF;
+    private static final int OTHER_STATUS = 0xFF;
+    // Index minimal 2 slot per record, semua harus muat dalam satu MappedByteBuffer
+    private static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / (RECORD_SIZE + 4 * Long.BYTES);
+    private static final AcademicStatus[] STATUSES = AcademicStatus.values();
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int indexMask;
+    private final int recordsOffset;
+    private final StampedLock lock = new StampedLock();
+    private final ConcurrentHashMap<String, List<Course>> completedCourses = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> completedCoursesListeners = new CopyOnWriteArrayList<>();
+    private int count;
+
+    /**
+     * Membuka store yang sudah ada atau membuat file baru
+     * @param file Lokasi file store
+     * @param capacity Jumlah maksimal mahasiswa untuk file baru, diabaikan jika file sudah ada
+     */
+    public MappedStudentRepository(Path file, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity too large for a single mapped student store: " + capacity);
+        }
+        this.file = file;
+        FileChannel opened = null;
+        try {
+            opened = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            if (opened.size() == 0) {
+                int indexSlots = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1;
+                this.buffer = opened.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(capacity, indexSlots));
+                buffer.putInt(HEADER_VERSION, VERSION);
+                buffer.putInt(HEADER_RECORD_SIZE, RECORD_SIZE);
+                buffer.putInt(HEADER_CAPACITY, capacity);
+                buffer.putInt(HEADER_INDEX_SLOTS, indexSlots);
+                buffer.putInt(HEADER_COUNT, 0);
+                buffer.putInt(HEADER_MAGIC, MAGIC);
+                buffer.force();
+            } else {
+                this.buffer = opened.map(FileChannel.MapMode.READ_WRITE, 0, opened.size());
+                validateHeader(opened.size());
+            }
+        } catch (IOException e) {
+            closeQuietly(opened);
+            throw new UncheckedIOException("Cannot open student store " + file, e);
+        } catch (RuntimeException e) {
+            closeQuietly(opened);
+            throw e;
+        }
+        this.channel = opened;
+        this.capacity = buffer.getInt(HEADER_CAPACITY);
+        this.indexMask = buffer.getInt(HEADER_INDEX_SLOTS) - 1;
+        this.recordsOffset = HEADER_SIZE + (indexMask + 1) * Long.BYTES;
+        this.count = buffer.getInt(HEADER_COUNT);
+        if (!indexMatchesCount()) {
+            rebuildIndex();
+        }
+    }
+
+    @Override
+    public Student findById(String studentId) {
+        StudentRecord record = findRecord(studentId);
+        return record == null ? null : record.toStudent();
+    }
+
+    /**
+     * Mencari mahasiswa tanpa membuat Student utuh
+     * @param studentId ID mahasiswa
+     * @return View ke record di file, atau null jika tidak ditemukan
+     */
+    public StudentRecord findRecord(String studentId) {
+        if (studentId == null) {
+            return null;
+        }
+        byte[] key = studentId.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(studentId);
+        long stamp = lock.tryOptimisticRead();
+        int recordIndex = locate(key, hash);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                recordIndex = locate(key, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return recordIndex < 0 ? null : new StudentRecord(recordOffset(recordIndex));
+    }
+
+    /**
+     * Menulis ulang record mahasiswa yang sudah tersimpan di tempatnya
+     * @param student Student object yang akan diupdate
+     * @throws StudentNotFoundException jika mahasiswa belum tersimpan
+     */
+    @Override
+    public void update(Student student) {
+        String studentId = requireId(student);
+        byte[] record = encode(student);
+        byte[] key = studentId.getBytes(StandardCharsets.UTF_8);
+        long stamp = lock.writeLock();
+        try {
+            int recordIndex = locate(key, hash(studentId));
+            if (recordIndex < 0) {
+                throw new StudentNotFoundException("Student not found: " + studentId);
+            }
+            buffer.put(recordOffset(recordIndex), record);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void updateAll(Collection<Student> students) {
+        List<byte[]> records = new ArrayList<>(students.size());
+        for (Student student : students) {
+            requireId(student);
+            records.add(encode(student));
+        }
+        long stamp = lock.writeLock();
+        try {
+            // Locate every record before writing any, an unknown ID must not leave a partial batch
+            int[] recordIndexes = new int[records.size()];
+            int i = 0;
+            for (Student student : students) {
+                String studentId = student.getStudentId();
+                int recordIndex = locate(studentId.getBytes(StandardCharsets.UTF_8), hash(studentId));
+                if (recordIndex < 0) {
+                    throw new StudentNotFoundException("Student not found: " + studentId);
+                }
+                recordIndexes[i++] = recordIndex;
+            }
+            for (i = 0; i < recordIndexes.length; i++) {
+                buffer.put(recordOffset(recordIndexes[i]), records.get(i));
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public List<Course> getCompletedCourses(String studentId) {
+        List<Course> courses = studentId == null ? null : completedCourses.get(studentId);
+        return courses == null ? List.of() : courses;
+    }
+
+    /**
+     * Menyimpan mahasiswa baru atau menimpa yang sudah ada
+     * @param student Student object yang akan disimpan
+     * @throws IllegalStateException jika store sudah penuh
+     */
+    public void save(Student student) {
+        saveAll(List.of(student));
+    }
+
+    /**
+     * Bulk load banyak mahasiswa sekaligus dengan satu kali ambil lock
+     * @param batch Kumpulan Student yang akan disimpan
+     * @throws IllegalStateException jika store penuh sebelum semua mahasiswa tersimpan
+     */
+    public void saveAll(Collection<Student> batch) {
+        List<byte[]> records = new ArrayList<>(batch.size());
+        for (Student student : batch) {
+            requireId(student);
+            records.add(encode(student));
+        }
+        long stamp = lock.writeLock();
+        try {
+            int i = 0;
+            for (Student student : batch) {
+                insertOrReplace(student.getStudentId(), records.get(i++));
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Mengganti daftar mata kuliah yang sudah diselesaikan mahasiswa (hanya di heap)
+     * @param studentId ID mahasiswa
+     * @param courses Daftar Course yang sudah diselesaikan
+     */
+    public void setCompletedCourses(String studentId, List<Course> courses) {
+        completedCourses.put(studentId, List.copyOf(courses));
+        notifyCompletedCoursesChanged(studentId);
+    }
+
+    /**
+     * Menambahkan satu mata kuliah yang sudah diselesaikan mahasiswa (hanya di heap)
+     * @param studentId ID mahasiswa
+     * @param course Course yang sudah diselesaikan
+     */
+    public void addCompletedCourse(String studentId, Course course) {
+        completedCourses.compute(studentId, (id, current) -> {
+            List<Course> next = current == null ? new ArrayList<>(1) : new ArrayList<>(current);
+            next.add(course);
+            return List.copyOf(next);
+        });
+        notifyCompletedCoursesChanged(studentId);
+    }
+
+    @Override
+    public void addCompletedCoursesListener(Consumer<String> listener) {
+        completedCoursesListeners.add(listener);
+    }
+
+    private void notifyCompletedCoursesChanged(String studentId) {
+        for (Consumer<String> listener : completedCoursesListeners) {
+            listener.accept(studentId);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int size = count;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                size = count;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Memaksa semua perubahan ditulis ke disk, supaya tetap ada setelah OS crash
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() {
+        force();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close student store " + file, e);
+        }
+    }
+
+    /**
+     * View ke satu record mahasiswa di file memory-mapped.
+     * Setiap getter membaca langsung dari mapping, setter menulis field di tempat.
+     */
+    public final class StudentRecord {
+        private final int offset;
+
+        private StudentRecord(int offset) {
+            this.offset = offset;
+        }
+
+        public String getStudentId() {
+            return readString(STUDENT_ID, STUDENT_ID_LENGTH);
+        }
+
+        public String getName() {
+            return readString(NAME, NAME_LENGTH);
+        }
+
+        public String getEmail() {
+            return readString(EMAIL, EMAIL_LENGTH);
+        }
+
+        public String getMajor() {
+            return readString(MAJOR, MAJOR_LENGTH);
+        }
+
+        public int getSemester() {
+            long stamp = lock.tryOptimisticRead();
+            int semester = buffer.getInt(offset + SEMESTER);
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    semester = buffer.getInt(offset + SEMESTER);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return semester;
+        }
+
+        public double getGpa() {
+            long stamp = lock.tryOptimisticRead();
+            double gpa = buffer.getDouble(offset + GPA);
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    gpa = buffer.getDouble(offset + GPA);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return gpa;
+        }
+
+        public String getAcademicStatus() {
+            byte[] status = readBytes(STATUS_CODE, 1 + STATUS_TEXT_LENGTH);
+            return decodeStatus(ByteBuffer.wrap(status), 0);
+        }
+
+        public boolean isSuspended() {
+            long stamp = lock.tryOptimisticRead();
+            int code = buffer.get(offset + STATUS_CODE) & 0xFF;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    code = buffer.get(offset + STATUS_CODE) & 0xFF;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return code == AcademicStatus.SUSPENDED.ordinal() + 1;
+        }
+
+        public void setGpa(double gpa) {
+            long stamp = lock.writeLock();
+            try {
+                buffer.putDouble(offset + GPA, gpa);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        public void setAcademicStatus(String academicStatus) {
+            ByteBuffer status = ByteBuffer.allocate(1 + STATUS_TEXT_LENGTH);
+            encodeStatus(status, 0, academicStatus);
+            long stamp = lock.writeLock();
+            try {
+                buffer.put(offset + STATUS_CODE, status.array());
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * @return Student utuh hasil decode seluruh record
+         */
+        public Student toStudent() {
+            return decode(ByteBuffer.wrap(readBytes(0, RECORD_SIZE)));
+        }
+
+        private String readString(int field, int length) {
+            return decodeString(ByteBuffer.wrap(readBytes(field, length)), 0, length);
+        }
+
+        private byte[] readBytes(int field, int length) {
+            byte[] bytes = new byte[length];
+            long stamp = lock.tryOptimisticRead();
+            buffer.get(offset + field, bytes);
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    buffer.get(offset + field, bytes);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return bytes;
+        }
+    }
+
+    private void insertOrReplace(String studentId, byte[] record) {
+        byte[] key = studentId.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(studentId);
+        int recordIndex = locate(key, hash);
+        if (recordIndex >= 0) {
+            buffer.put(recordOffset(recordIndex), record);
+            return;
+        }
+        if (count == capacity) {
+            throw new IllegalStateException("Student store " + file + " is full (" + capacity + " records)");
+        }
+        // Record first, then its index slot, then the count that publishes it
+        recordIndex = count;
+        buffer.put(recordOffset(recordIndex), record);
+        putIndexEntry(hash, recordIndex);
+        count = recordIndex + 1;
+        buffer.putInt(HEADER_COUNT, count);
+    }
+
+    private void putIndexEntry(int hash, int recordIndex) {
+        int slot = hash & indexMask;
+        while (buffer.getLong(indexOffset(slot)) != 0) {
+            slot = (slot + 1) & indexMask;
+        }
+        buffer.putLong(indexOffset(slot), ((long) hash << 32) | (recordIndex + 1L));
+    }
+
+    /**
+     * @return true jika setiap slot index menunjuk record di bawah count dan jumlahnya sama dengan count
+     */
+    private boolean indexMatchesCount() {
+        int entries = 0;
+        for (int slot = 0; slot <= indexMask; slot++) {
+            long entry = buffer.getLong(indexOffset(slot));
+            if (entry == 0) {
+                continue;
+            }
+            int recordIndex = (int) entry - 1;
+            if (recordIndex < 0 || recordIndex >= count) {
+                return false;
+            }
+            entries++;
+        }
+        return entries == count;
+    }
+
+    /**
+     * Membangun ulang index dari record. Record tanpa student ID belum sempat ditulis sebelum crash,
+     * count dipotong di record tersebut
+     */
+    private void rebuildIndex() {
+        for (int slot = 0; slot <= indexMask; slot++) {
+            buffer.putLong(indexOffset(slot), 0);
+        }
+        int rebuilt = 0;
+        while (rebuilt < count) {
+            String studentId = decodeString(buffer.slice(recordOffset(rebuilt), RECORD_SIZE),
+                    STUDENT_ID, STUDENT_ID_LENGTH);
+            if (studentId == null || studentId.isEmpty()) {
+                break;
+            }
+            putIndexEntry(hash(studentId), rebuilt);
+            rebuilt++;
+        }
+        count = rebuilt;
+        buffer.putInt(HEADER_COUNT, count);
+        buffer.force();
+    }
+
+    /**
+     * Linear probing di index. Batas jumlah probe menjaga loop tetap berhenti
+     * walaupun optimistic read sempat melihat data setengah ditulis.
+     * @return Nomor record, atau -1 jika tidak ditemukan
+     */
+    private int locate(byte[] key, int hash) {
+        int slot = hash & indexMask;
+        for (int probes = 0; probes <= indexMask; probes++) {
+            long entry = buffer.getLong(indexOffset(slot));
+            if (entry == 0) {
+                return -1;
+            }
+            int recordIndex = (int) entry - 1;
+            if ((int) (entry >>> 32) == hash && recordIndex >= 0 && recordIndex < capacity
+                    && keyMatches(recordOffset(recordIndex), key)) {
+                return recordIndex;
+            }
+            slot = (slot + 1) & indexMask;
+        }
+        return -1;
+    }
+
+    private boolean keyMatches(int recordOffset, byte[] key) {
+        if ((buffer.get(recordOffset + STUDENT_ID) & 0xFF) != key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (buffer.get(recordOffset + STUDENT_ID + 1 + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOffset(int slot) {
+        return HEADER_SIZE + slot * Long.BYTES;
+    }
+
+    private int recordOffset(int recordIndex) {
+        return recordsOffset + recordIndex * RECORD_SIZE;
+    }
+
+    private void validateHeader(long fileSize) {
+        if (fileSize < HEADER_SIZE || buffer.getInt(HEADER_MAGIC) != MAGIC) {
+            throw new IllegalStateException(file + " is not a student store");
+        }
+        if (buffer.getInt(HEADER_VERSION) != VERSION || buffer.getInt(HEADER_RECORD_SIZE) != RECORD_SIZE) {
+            throw new IllegalStateException(file + " has an unsupported student store format");
+        }
+        int capacity = buffer.getInt(HEADER_CAPACITY);
+        int indexSlots = buffer.getInt(HEADER_INDEX_SLOTS);
+        int count = buffer.getInt(HEADER_COUNT);
+        if (capacity < 1 || Integer.bitCount(indexSlots) != 1 || count < 0 || count > capacity
+                || fileSize != fileSize(capacity, indexSlots)) {
+            throw new IllegalStateException(file + " has a corrupt student store header");
+        }
+    }
+
+    private static long fileSize(int capacity, int indexSlots) {
+        return HEADER_SIZE + (long) indexSlots * Long.BYTES + (long) capacity * RECORD_SIZE;
+    }
+
+    private static int hash(String studentId) {
+        int h = studentId.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static byte[] encode(Student student) {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        encodeString(record, STUDENT_ID, STUDENT_ID_LENGTH, student.getStudentId(), "studentId");
+        encodeString(record, NAME, NAME_LENGTH, student.getName(), "name");
+        encodeString(record, EMAIL, EMAIL_LENGTH, student.getEmail(), "email");
+        encodeString(record, MAJOR, MAJOR_LENGTH, student.getMajor(), "major");
+        encodeStatus(record, STATUS_CODE, student.getAcademicStatus());
+        record.putInt(SEMESTER, student.getSemester());
+        record.putDouble(GPA, student.getGpa());
+        return record.array();
+    }
+
+    private static Student decode(ByteBuffer record) {
+        return new Student(
+                decodeString(record, STUDENT_ID, STUDENT_ID_LENGTH),
+                decodeString(record, NAME, NAME_LENGTH),
+                decodeString(record, EMAIL, EMAIL_LENGTH),
+                decodeString(record, MAJOR, MAJOR_LENGTH),
+                record.getInt(SEMESTER),
+                record.getDouble(GPA),
+                decodeStatus(record, STATUS_CODE));
+    }
+
+    private static void encodeString(ByteBuffer record, int field, int length, String value, String name) {
+        if (value == null) {
+            record.put(field, (byte) NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > length - 1) {
+            throw new IllegalArgumentException("Field " + name + " exceeds " + (length - 1) + " bytes: " + value);
+        }
+        record.put(field, (byte) bytes.length);
+        record.put(field + 1, bytes);
+    }
+
+    private static String decodeString(ByteBuffer record, int field, int length) {
+        int size = record.get(field) & 0xFF;
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[Math.min(size, length - 1)];
+        record.get(field + 1, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void encodeStatus(ByteBuffer record, int field, String academicStatus) {
+        AcademicStatus status = AcademicStatus.fromString(academicStatus);
+        if (status != null) {
+            record.put(field, (byte) (status.ordinal() + 1));
+        } else if (academicStatus == null) {
+            record.put(field, (byte) 0);
+        } else {
+            record.put(field, (byte) OTHER_STATUS);
+            encodeString(record, field + 1, STATUS_TEXT_LENGTH, academicStatus, "academicStatus");
+        }
+    }
+
+    private static String decodeStatus(ByteBuffer record, int field) {
+        int code = record.get(field) & 0xFF;
+        if (code == OTHER_STATUS) {
+            return decodeString(record, field + 1, STATUS_TEXT_LENGTH);
+        }
+        return code == 0 || code > STATUSES.length ? null : STATUSES[code - 1].name();
+    }
+
+    private static String requireId(Student student) {
+        // An empty ID would read back as an unwritten record and truncate the store on reopen
+        if (student == null || student.getStudentId() == null || student.getStudentId().isEmpty()) {
+            throw new IllegalArgumentException("Student and student ID must not be null or empty");
+        }
+        return student.getStudentId();
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // The open failure is the error worth reporting
+            }
+        }
+    }
+}
@@ -4,7 +4,9 @@ package com.siakad.repository;
 import com.siakad.model.Course;
 import com.siakad.model.Student;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Interface untuk akses data mahasiswa
@@ -26,10 +28,31 @@ public interface StudentRepository {
      */
     void update(Student student);
 
+    /**
+     * Update banyak mahasiswa sekaligus.
+     * Implementasi default memanggil update satu per satu,
+     * implementasi yang mendukung bulk write sebaiknya meng-override method ini.
+     * @param students Kumpulan Student yang akan diupdate
+     */
+    default void updateAll(Collection<Student> students) {
+        for (Student student : students) {
+            update(student);
+        }
+    }
+
     /**
      * Mendapatkan daftar mata kuliah yang sudah diselesaikan mahasiswa
      * @param studentId ID mahasiswa
      * @return List of Course yang sudah diselesaikan
      */
     List<Course> getCompletedCourses(String studentId);
+
+    /**
+     * Mendaftarkan listener yang dipanggil dengan ID mahasiswa setiap kali daftar mata kuliah
+     * yang sudah diselesaikan mahasiswa tersebut berubah lewat repository ini.
+     * Implementasi default tidak pernah memanggil listener.
+     * @param listener Listener perubahan
+     */
+    default void addCompletedCoursesListener(Consumer<String> listener) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,208 @@
+package com.siakad.repository;
+
+import com.siakad.model.Course;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Decorator CourseRepository dengan strategi write-behind.
+ *
+ * Course yang pernah dibaca disimpan di memori dan menjadi sumber kebenaran
+ * (termasuk counter kursi atomiknya). update(Course) hanya menandai Course sebagai dirty;
+ * Course dirty digabung dan ditulis ke repository asal secara periodik, sehingga
+ * ratusan enrollment pada satu mata kuliah menjadi satu penulisan per interval.
+ * Data di repository asal paling lama tertinggal satu flushInterval,
+ * dan close() menulis semua sisa perubahan sebelum berhenti.
+ * update dan close saling eksklusif: update yang diterima sebelum close pasti ikut ditulis.
+ */
+
+public class WriteBehindCourseRepository implements CourseRepository, AutoCloseable {
+    private final CourseRepository delegate;
+    private final int maxDirty;
+    private final ConcurrentHashMap<String, Course> resident = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    // update holds the read lock, close takes the write lock to flip closed
+    private final ReentrantReadWriteLock lifecycle = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    private final LongAdder updatesReceived = new LongAdder();
+    private final LongAdder writesFlushed = new LongAdder();
+    private final LongAdder flushFailures = new LongAdder();
+
+    /**
+     * @param delegate Repository asal
+     * @param flushInterval Interval flush periodik, sekaligus batas staleness repository asal
+     * @param unit Satuan flushInterval
+     * @param maxDirty Jumlah Course dirty yang memicu flush lebih awal
+     */
+    public WriteBehindCourseRepository(CourseRepository delegate, long flushInterval, TimeUnit unit, int maxDirty) {
+        if (flushInterval <= 0 || maxDirty < 1) {
+            throw new IllegalArgumentException("Flush interval and max dirty must be positive");
+        }
+        this.delegate = delegate;
+        this.maxDirty = maxDirty;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "course-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flushQuietly, flushInterval, flushInterval, unit);
+    }
+
+    @Override
+    public Course findByCourseCode(String courseCode) {
+        if (courseCode == null) {
+            return null;
+        }
+        Course course = resident.get(courseCode);
+        if (course != null) {
+            return course;
+        }
+        Course loaded = delegate.findByCourseCode(courseCode);
+        if (loaded == null) {
+            return null;
+        }
+        Course raced = resident.putIfAbsent(courseCode, loaded);
+        return raced != null ? raced : loaded;
+    }
+
+    @Override
+    public Map<String, Course> findByCourseCodes(Collection<String> courseCodes) {
+        Map<String, Course> found = new HashMap<>(Math.max(16, courseCodes.size() * 4 / 3 + 1));
+        for (String courseCode : courseCodes) {
+            Course course = findByCourseCode(courseCode);
+            if (course != null) {
+                found.put(courseCode, course);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Menandai Course sebagai dirty, penulisan ke repository asal ditunda hingga flush berikutnya
+     * @param course Course object yang akan diupdate
+     * @throws IllegalStateException jika repository sudah ditutup
+     */
+    @Override
+    public void update(Course course) {
+        lifecycle.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Write-behind repository is closed");
+            }
+            String courseCode = course.getCourseCode();
+            resident.put(courseCode, course);
+            dirty.add(courseCode);
+            updatesReceived.increment();
+            // At most one early flush queued; the scheduler is still running while closed is false
+            if (dirty.size() >= maxDirty && flushScheduled.compareAndSet(false, true)) {
+                scheduler.execute(this::earlyFlush);
+            }
+        } finally {
+            lifecycle.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isPrerequisiteMet(String studentId, String courseCode) {
+        return delegate.isPrerequisiteMet(studentId, courseCode);
+    }
+
+    @Override
+    public Set<String> findPrerequisitesMet(String studentId, Collection<String> courseCodes) {
+        return delegate.findPrerequisitesMet(studentId, courseCodes);
+    }
+
+    /**
+     * Menulis semua Course dirty ke repository asal, satu penulisan per Course.
+     * Course yang gagal ditulis tetap dirty untuk flush berikutnya.
+     * @return Jumlah Course yang berhasil ditulis
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            int written = 0;
+            RuntimeException failure = null;
+            for (String courseCode : dirty) {
+                // Clear the flag first so updates during the write mark it dirty again
+                dirty.remove(courseCode);
+                try {
+                    delegate.update(resident.get(courseCode));
+                    written++;
+                } catch (RuntimeException e) {
+                    dirty.add(courseCode);
+                    flushFailures.increment();
+                    failure = e;
+                }
+            }
+            writesFlushed.add(written);
+            if (failure != null) {
+                throw failure;
+            }
+            return written;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Menghentikan flush periodik dan menulis semua sisa perubahan
+     */
+    @Override
+    public void close() {
+        lifecycle.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * @return Snapshot statistik write-behind
+     */
+    public Stats getStats() {
+        return new Stats(updatesReceived.sum(), writesFlushed.sum(), flushFailures.sum(), dirty.size());
+    }
+
+    private void earlyFlush() {
+        // Reset before flushing so updates arriving during the write can queue the next one
+        flushScheduled.set(false);
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // Counted in flushFailures, retried on the next interval
+        }
+    }
+
+    /**
+     * Snapshot statistik write-behind
+     */
+    public record Stats(long updatesReceived, long writesFlushed, long flushFailures, int pending) {
+    }
+}
@@ -0,0 +1,413 @@
+package com.siakad.service;
+
+import com.siakad.model.AcademicStatus;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Aturan akademik (status akademik dan batas SKS) yang bisa dikonfigurasi per fakultas atau program studi.
+ *
+ * Aturan dibaca dari file properties, contoh (sama dengan aturan default):
+ * <pre>
+ * default.maxCredits   = 3.00:24, 2.50:21, 2.00:18, 0.00:15
+ * default.status.1-2   = 2.00:ACTIVE, 0.00:PROBATION
+ * default.status.3-4   = 2.25:ACTIVE, 2.00:PROBATION, 0.00:SUSPENDED
+ * default.status.5+    = 2.50:ACTIVE, 2.00:PROBATION, 0.00:SUSPENDED
+ * faculty.FT           = TI, SI
+ * FT.maxCredits        = 3.50:24, 3.00:22, 2.00:18, 0.00:15
+ * TI.status.7+         = ...
+ * </pre>
+ * Setiap nilai adalah daftar "IPK minimal:hasil" dari IPK tertinggi, dan harus diakhiri 0.00.
+ * Pita semester (1-2, 3-4, 5+) harus bersambung mulai semester 1 dan diakhiri pita terbuka "N+".
+ * Program studi memakai aturannya sendiri, lalu aturan fakultasnya, lalu aturan default,
+ * masing-masing untuk maxCredits dan status secara terpisah.
+ *
+ * Aturan dikompilasi menjadi tabel padat yang diindeks IPK dalam perseratus (0-400)
+ * dan pita semester, sehingga evaluasi hanya berupa pembacaan array tanpa cabang dan tanpa alokasi.
+ * reload mengganti seluruh tabel sekaligus lewat satu referensi volatile: pembaca melihat
+ * tabel lama atau tabel baru secara utuh, dan konfigurasi yang invalid tidak pernah dipasang.
+ */
+
+public class AcademicPolicyEngine {
+    /** Scope aturan yang berlaku untuk semua program studi */
+    public static final String DEFAULT_SCOPE = "default";
+
+    private static final String FACULTY_PREFIX = "faculty.";
+    private static final String MAX_CREDITS = "maxCredits";
+    private static final String STATUS_PREFIX = "status.";
+    private static final int GPA_STEPS = 401; // 0.00 .. 4.00 in hundredths
+    private static final AcademicStatus[] STATUSES = AcademicStatus.values();
+
+    private static final String DEFAULT_RULES = String.join("\n",
+            "default.maxCredits = 3.00:24, 2.50:21, 2.00:18, 0.00:15",
+            "default.status.1-2 = 2.00:ACTIVE, 0.00:PROBATION",
+            "default.status.3-4 = 2.25:ACTIVE, 2.00:PROBATION, 0.00:SUSPENDED",
+            "default.status.5+ = 2.50:ACTIVE, 2.00:PROBATION, 0.00:SUSPENDED");
+    private static final AcademicPolicyEngine DEFAULTS = new AcademicPolicyEngine(null, parse(DEFAULT_RULES));
+
+    private final Path configFile;
+    private volatile Policies current;
+    private FileTime loadedModifiedTime;
+    private long version;
+
+    /**
+     * Memuat aturan dari file konfigurasi
+     * @param configFile File properties berisi aturan
+     * @throws IllegalArgumentException jika aturan invalid
+     * @throws UncheckedIOException jika file gagal dibaca
+     */
+    public AcademicPolicyEngine(Path configFile) {
+        this.configFile = configFile;
+        reload();
+    }
+
+    private AcademicPolicyEngine(Path configFile, Properties rules) {
+        this.configFile = configFile;
+        this.current = compile(rules);
+        this.version = 1;
+    }
+
+    /**
+     * @return Engine bersama berisi aturan default (tanpa file, tidak bisa di-reload)
+     */
+    public static AcademicPolicyEngine defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @param rules Aturan dalam format yang sama dengan file konfigurasi
+     * @return Engine tanpa file, tidak bisa di-reload
+     * @throws IllegalArgumentException jika aturan invalid
+     */
+    public static AcademicPolicyEngine fromProperties(Properties rules) {
+        return new AcademicPolicyEngine(null, rules);
+    }
+
+    /**
+     * Membaca ulang file konfigurasi dan mengganti semua tabel secara atomik.
+     * Jika file invalid, tabel lama tetap dipakai dan exception dilempar.
+     * @throws IllegalStateException jika engine tidak dibuat dari file
+     * @throws IllegalArgumentException jika aturan invalid
+     * @throws UncheckedIOException jika file gagal dibaca
+     */
+    public synchronized void reload() {
+        if (configFile == null) {
+            throw new IllegalStateException("Policy was not loaded from a file");
+        }
+        try {
+            FileTime modifiedTime = Files.getLastModifiedTime(configFile);
+            Properties rules = new Properties();
+            try (Reader reader = Files.newBufferedReader(configFile, StandardCharsets.UTF_8)) {
+                rules.load(reader);
+            }
+            current = compile(rules);
+            loadedModifiedTime = modifiedTime;
+            version++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read academic policy " + configFile, e);
+        }
+    }
+
+    /**
+     * Reload hanya jika waktu modifikasi file berubah sejak pemuatan terakhir,
+     * cocok dipanggil berkala dari scheduler
+     * @return true jika aturan dimuat ulang
+     */
+    public synchronized boolean reloadIfModified() {
+        if (configFile == null) {
+            return false;
+        }
+        try {
+            if (Files.getLastModifiedTime(configFile).equals(loadedModifiedTime)) {
+                return false;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read academic policy " + configFile, e);
+        }
+        reload();
+        return true;
+    }
+
+    /**
+     * @return Jumlah pemuatan aturan yang berhasil
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * @param major Program studi, null atau tidak dikenal untuk aturan default
+     * @param gpa IPK mahasiswa (0.0 - 4.0)
+     * @param semester Semester mahasiswa (harus > 0)
+     * @return Status akademik sesuai aturan program studi
+     * @throws IllegalArgumentException jika gpa atau semester invalid
+     */
+    public AcademicStatus determineAcademicStatus(String major, double gpa, int semester) {
+        int hundredths = toHundredths(gpa);
+        if (semester < 1) {
+            throw new IllegalArgumentException("Semester must be positive");
+        }
+        Policy policy = current.forMajor(major);
+        int band = policy.bandBySemester[Math.min(semester, policy.bandBySemester.length - 1)];
+        return STATUSES[policy.statuses[band * GPA_STEPS + hundredths]];
+    }
+
+    /**
+     * @param major Program studi, null atau tidak dikenal untuk aturan default
+     * @param gpa IPK mahasiswa (0.0 - 4.0)
+     * @return Jumlah SKS maksimal sesuai aturan program studi
+     * @throws IllegalArgumentException jika gpa invalid
+     */
+    public int calculateMaxCredits(String major, double gpa) {
+        return current.forMajor(major).maxCredits[toHundredths(gpa)];
+    }
+
+    private static int toHundredths(double gpa) {
+        if (gpa < 0 || gpa > 4.0) {
+            throw new IllegalArgumentException("GPA must be between 0 and 4.0");
+        }
+        // The epsilon absorbs binary rounding, e.g. 2.3 * 100 = 229.99999999999997
+        return (int) (gpa * 100 + 1e-9);
+    }
+
+    private static Properties parse(String rules) {
+        Properties properties = new Properties();
+        try {
+            properties.load(new StringReader(rules));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return properties;
+    }
+
+    // ==================== COMPILATION ====================
+
+    private static Policies compile(Properties rules) {
+        Map<String, String> facultyOfMajor = new HashMap<>();
+        Map<String, int[]> maxCreditsByScope = new HashMap<>();
+        Map<String, TreeMap<Integer, Band>> bandsByScope = new HashMap<>();
+
+        for (String key : rules.stringPropertyNames()) {
+            String value = rules.getProperty(key).trim();
+            if (key.startsWith(FACULTY_PREFIX)) {
+                String faculty = key.substring(FACULTY_PREFIX.length());
+                for (String major : value.split(",")) {
+                    if (!major.isBlank() && facultyOfMajor.put(major.trim(), faculty) != null) {
+                        throw invalid(key, "major " + major.trim() + " belongs to more than one faculty");
+                    }
+                }
+                continue;
+            }
+            int dot = key.indexOf('.');
+            if (dot <= 0) {
+                throw invalid(key, "expected <scope>.maxCredits or <scope>.status.<semesters>");
+            }
+            String scope = key.substring(0, dot);
+            String rule = key.substring(dot + 1);
+            if (rule.equals(MAX_CREDITS)) {
+                maxCreditsByScope.put(scope, compileCredits(key, value));
+            } else if (rule.startsWith(STATUS_PREFIX)) {
+                Band band = parseBand(key, rule.substring(STATUS_PREFIX.length()), value);
+                if (bandsByScope.computeIfAbsent(scope, s -> new TreeMap<>()).put(band.from, band) != null) {
+                    throw invalid(key, "semester band defined twice");
+                }
+            } else {
+                throw invalid(key, "unknown rule " + rule);
+            }
+        }
+
+        if (!maxCreditsByScope.containsKey(DEFAULT_SCOPE) || !bandsByScope.containsKey(DEFAULT_SCOPE)) {
+            throw new IllegalArgumentException("Academic policy must define default.maxCredits and default.status.*");
+        }
+        Map<String, StatusTable> statusesByScope = new HashMap<>();
+        for (Map.Entry<String, TreeMap<Integer, Band>> entry : bandsByScope.entrySet()) {
+            statusesByScope.put(entry.getKey(), compileBands(entry.getKey(), entry.getValue()));
+        }
+
+        Policy defaultPolicy = new Policy(maxCreditsByScope.get(DEFAULT_SCOPE), statusesByScope.get(DEFAULT_SCOPE));
+        List<String> scopes = new ArrayList<>(facultyOfMajor.keySet());
+        scopes.addAll(maxCreditsByScope.keySet());
+        scopes.addAll(statusesByScope.keySet());
+        Map<String, Policy> byScope = new HashMap<>();
+        for (String scope : scopes) {
+            if (scope.equals(DEFAULT_SCOPE) || byScope.containsKey(scope)) {
+                continue;
+            }
+            String faculty = facultyOfMajor.get(scope);
+            int[] maxCredits = resolve(maxCreditsByScope, scope, faculty);
+            StatusTable statuses = resolve(statusesByScope, scope, faculty);
+            byScope.put(scope, new Policy(maxCredits, statuses));
+        }
+        return new Policies(defaultPolicy, byScope);
+    }
+
+    private static <T> T resolve(Map<String, T> byScope, String scope, String faculty) {
+        T own = byScope.get(scope);
+        if (own != null) {
+            return own;
+        }
+        T inherited = faculty != null ? byScope.get(faculty) : null;
+        return inherited != null ? inherited : byScope.get(DEFAULT_SCOPE);
+    }
+
+    private static int[] compileCredits(String key, String value) {
+        int[] table = new int[GPA_STEPS];
+        for (Threshold threshold : parseThresholds(key, value)) {
+            int credits;
+            try {
+                credits = Integer.parseInt(threshold.result);
+            } catch (NumberFormatException e) {
+                throw invalid(key, "credits must be a number: " + threshold.result);
+            }
+            if (credits < 0) {
+                throw invalid(key, "credits must not be negative");
+            }
+            Arrays.fill(table, threshold.minHundredths, threshold.untilHundredths, credits);
+        }
+        return table;
+    }
+
+    private static Band parseBand(String key, String semesters, String value) {
+        int from;
+        int to;
+        try {
+            if (semesters.endsWith("+")) {
+                from = Integer.parseInt(semesters.substring(0, semesters.length() - 1));
+                to = Integer.MAX_VALUE;
+            } else if (semesters.contains("-")) {
+                from = Integer.parseInt(semesters.substring(0, semesters.indexOf('-')));
+                to = Integer.parseInt(semesters.substring(semesters.indexOf('-') + 1));
+            } else {
+                from = Integer.parseInt(semesters);
+                to = from;
+            }
+        } catch (NumberFormatException e) {
+            throw invalid(key, "semester band must look like 3-4, 5 or 7+");
+        }
+        if (from < 1 || to < from) {
+            throw invalid(key, "semester band must start at 1 or later and not be empty");
+        }
+        byte[] statuses = new byte[GPA_STEPS];
+        for (Threshold threshold : parseThresholds(key, value)) {
+            AcademicStatus status = AcademicStatus.fromString(threshold.result);
+            if (status == null) {
+                throw invalid(key, "unknown academic status " + threshold.result);
+            }
+            Arrays.fill(statuses, threshold.minHundredths, threshold.untilHundredths, (byte) status.ordinal());
+        }
+        return new Band(from, to, statuses);
+    }
+
+    private static StatusTable compileBands(String scope, TreeMap<Integer, Band> bands) {
+        int expected = 1;
+        Band last = null;
+        for (Band band : bands.values()) {
+            if (band.from != expected || last != null && last.to == Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Semester bands of " + scope + " must be contiguous from semester 1");
+            }
+            expected = band.to == Integer.MAX_VALUE ? band.to : band.to + 1;
+            last = band;
+        }
+        if (last.to != Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Last semester band of " + scope + " must be open-ended, e.g. 5+");
+        }
+
+        byte[] bandBySemester = new byte[last.from + 1];
+        byte[] statuses = new byte[bands.size() * GPA_STEPS];
+        int index = 0;
+        for (Band band : bands.values()) {
+            for (int semester = band.from; semester <= Math.min(band.to, last.from); semester++) {
+                bandBySemester[semester] = (byte) index;
+            }
+            System.arraycopy(band.statuses, 0, statuses, index * GPA_STEPS, GPA_STEPS);
+            index++;
+        }
+        return new StatusTable(bandBySemester, statuses);
+    }
+
+    private static List<Threshold> parseThresholds(String key, String value) {
+        List<Threshold> thresholds = new ArrayList<>();
+        int until = GPA_STEPS;
+        for (String part : value.split(",")) {
+            int colon = part.indexOf(':');
+            if (colon < 0) {
+                throw invalid(key, "expected <minimum GPA>:<result>, got " + part.trim());
+            }
+            int min;
+            try {
+                min = new BigDecimal(part.substring(0, colon).trim()).movePointRight(2).intValueExact();
+            } catch (ArithmeticException | NumberFormatException e) {
+                throw invalid(key, "minimum GPA must have at most two decimals: " + part.trim());
+            }
+            if (min < 0 || min >= until) {
+                throw invalid(key, "minimum GPAs must be between 0.00 and 4.00 and strictly descending");
+            }
+            thresholds.add(new Threshold(min, until, part.substring(colon + 1).trim()));
+            until = min;
+        }
+        if (until != 0) {
+            throw invalid(key, "the last minimum GPA must be 0.00");
+        }
+        return thresholds;
+    }
+
+    private static IllegalArgumentException invalid(String key, String reason) {
+        return new IllegalArgumentException("Invalid academic policy rule " + key + ": " + reason);
+    }
+
+    private record Threshold(int minHundredths, int untilHundredths, String result) {
+    }
+
+    private record Band(int from, int to, byte[] statuses) {
+    }
+
+    /**
+     * Pita per semester (semester di atas tabel memakai pita terakhir)
+     * dan ordinal status per [pita * 401 + IPK dalam perseratus]
+     */
+    private record StatusTable(byte[] bandBySemester, byte[] statuses) {
+    }
+
+    /**
+     * Tabel terkompilasi untuk satu scope
+     */
+    private static final class Policy {
+        final int[] maxCredits;
+        final byte[] bandBySemester;
+        final byte[] statuses;
+
+        Policy(int[] maxCredits, StatusTable statusTable) {
+            this.maxCredits = maxCredits;
+            this.bandBySemester = statusTable.bandBySemester();
+            this.statuses = statusTable.statuses();
+        }
+    }
+
+    /**
+     * Snapshot immutable semua tabel, diganti utuh saat reload
+     */
+    private record Policies(Policy defaultPolicy, Map<String, Policy> byScope) {
+        Policy forMajor(String major) {
+            if (major == null) {
+                return defaultPolicy;
+            }
+            Policy policy = byScope.get(major);
+            return policy != null ? policy : defaultPolicy;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.siakad.service;
+
+import com.siakad.model.CourseGrade;
+import com.siakad.model.Student;
+import com.siakad.repository.StudentRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Job akhir semester untuk menghitung ulang IPK, status akademik dan batas SKS
+ * seluruh mahasiswa setelah nilai final.
+ *
+ * Populasi mahasiswa dibagi per partisi dan diproses paralel di ForkJoinPool.
+ * Hanya mahasiswa yang IPK atau statusnya berubah yang ditulis kembali, per partisi
+ * lewat StudentRepository.updateAll. Perubahan dihitung pada salinan Student, jadi objek
+ * milik repository tidak berubah jika partisi gagal di tengah jalan atau updateAll gagal.
+ * Setiap partisi yang selesai dicatat di file checkpoint, sehingga setelah crash job bisa
+ * dijalankan ulang dan hanya memproses partisi yang belum selesai.
+ */
+
+public class AcademicStatusJob {
+
+    /**
+     * Sumber transkrip nilai mahasiswa
+     */
+    @FunctionalInterface
+    public interface TranscriptSource {
+        List<CourseGrade> findGrades(String studentId);
+    }
+
+    /**
+     * Dipanggil setiap kali satu partisi selesai
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(long processedStudents, long totalStudents);
+    }
+
+    private final StudentRepository studentRepository;
+    private final TranscriptSource transcriptSource;
+    private final GradeCalculator gradeCalculator;
+    private final int parallelism;
+    private final int partitionSize;
+    private final Path checkpointFile;
+
+    /**
+     * @param studentRepository Repository mahasiswa
+     * @param transcriptSource Sumber transkrip nilai
+     * @param gradeCalculator Kalkulator IPK dan status
+     * @param parallelism Jumlah thread ForkJoinPool
+     * @param partitionSize Jumlah mahasiswa per partisi
+     * @param checkpointFile File checkpoint, null jika tidak perlu resume
+     */
+    public AcademicStatusJob(StudentRepository studentRepository, TranscriptSource transcriptSource,
+                             GradeCalculator gradeCalculator, int parallelism, int partitionSize,
+                             Path checkpointFile) {
+        if (parallelism < 1 || partitionSize < 1) {
+            throw new IllegalArgumentException("Parallelism and partition size must be positive");
+        }
+        this.studentRepository = studentRepository;
+        this.transcriptSource = transcriptSource;
+        this.gradeCalculator = gradeCalculator;
+        this.parallelism = parallelism;
+        this.partitionSize = partitionSize;
+        this.checkpointFile = checkpointFile;
+    }
+
+    /**
+     * Menjalankan job untuk seluruh mahasiswa.
+     * Mahasiswa dengan data invalid (semester atau nilai) dilewati dan dihitung sebagai gagal;
+     * exception lain menghentikan job setelah partisi yang sedang berjalan selesai,
+     * dan checkpoint dipertahankan untuk resume.
+     *
+     * @param studentIds Seluruh ID mahasiswa, urutannya harus sama saat resume
+     * @param listener Listener progres, boleh null
+     * @return Laporan hasil job
+     * @throws IllegalStateException jika checkpoint milik job dengan populasi berbeda
+     */
+    public Report run(List<String> studentIds, ProgressListener listener) {
+        long start = System.nanoTime();
+        int partitions = (studentIds.size() + partitionSize - 1) / partitionSize;
+        BitSet done = readCheckpoint(studentIds.size());
+
+        Counters counters = new Counters();
+        long total = studentIds.size();
+        for (int p = done.nextSetBit(0); p >= 0; p = done.nextSetBit(p + 1)) {
+            counters.resumed.add(partitionLength(p, studentIds.size()));
+        }
+        if (counters.resumed.sum() > 0 && listener != null) {
+            listener.onProgress(counters.resumed.sum(), total);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(partitions);
+            for (int p = 0; p < partitions; p++) {
+                if (done.get(p)) {
+                    continue;
+                }
+                int partition = p;
+                tasks.add(pool.submit(() -> {
+                    int from = partition * partitionSize;
+                    int to = Math.min(from + partitionSize, studentIds.size());
+                    processPartition(studentIds.subList(from, to), counters);
+                    markDone(partition);
+                    if (listener != null) {
+                        listener.onProgress(counters.processed.sum() + counters.resumed.sum(), total);
+                    }
+                }));
+            }
+            RuntimeException failure = null;
+            for (ForkJoinTask<?> task : tasks) {
+                try {
+                    task.join();
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        deleteCheckpoint();
+        return new Report(counters.processed.sum(), counters.changed.sum(), counters.failed.sum(),
+                counters.resumed.sum(), System.nanoTime() - start, counters.creditLimits());
+    }
+
+    private void processPartition(List<String> studentIds, Counters counters) {
+        List<Student> changed = new ArrayList<>();
+        for (String studentId : studentIds) {
+            Student student = studentRepository.findById(studentId);
+            if (student == null) {
+                counters.failed.increment();
+                continue;
+            }
+            try {
+                double gpa = gradeCalculator.calculateGPA(transcriptSource.findGrades(studentId));
+                String status = gradeCalculator.determineAcademicStatus(student.getMajor(), gpa, student.getSemester());
+                int maxCredits = gradeCalculator.calculateMaxCredits(student.getMajor(), gpa);
+                counters.creditLimits.computeIfAbsent(maxCredits, k -> new LongAdder()).increment();
+                if (gpa != student.getGpa() || !status.equals(student.getAcademicStatus())) {
+                    changed.add(withStatus(student, gpa, status));
+                }
+                counters.processed.increment();
+            } catch (IllegalArgumentException e) {
+                counters.failed.increment();
+            }
+        }
+        if (!changed.isEmpty()) {
+            studentRepository.updateAll(changed);
+            counters.changed.add(changed.size());
+        }
+    }
+
+    /**
+     * Salinan Student dengan IPK dan status baru, yang asli tetap seperti di repository
+     */
+    private static Student withStatus(Student student, double gpa, String status) {
+        return new Student(student.getStudentId(), student.getName(), student.getEmail(), student.getMajor(),
+                student.getSemester(), gpa, status);
+    }
+
+    private int partitionLength(int partition, int students) {
+        return Math.min(partitionSize, students - partition * partitionSize);
+    }
+
+    private String checkpointHeader(int students) {
+        return "students=" + students + " partitionSize=" + partitionSize;
+    }
+
+    private BitSet readCheckpoint(int students) {
+        BitSet done = new BitSet();
+        if (checkpointFile == null) {
+            return done;
+        }
+        try {
+            if (!Files.exists(checkpointFile)) {
+                Files.writeString(checkpointFile, checkpointHeader(students) + "\n", StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+                return done;
+            }
+            List<String> lines = Files.readAllLines(checkpointFile, StandardCharsets.UTF_8);
+            if (lines.isEmpty() || !lines.get(0).equals(checkpointHeader(students))) {
+                throw new IllegalStateException("Checkpoint " + checkpointFile + " belongs to a different job");
+            }
+            for (String line : lines.subList(1, lines.size())) {
+                // A torn last line from a crash is ignored, that partition simply runs again
+                if (!line.isBlank() && line.chars().allMatch(Character::isDigit)) {
+                    done.set(Integer.parseInt(line));
+                }
+            }
+            return done;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read checkpoint " + checkpointFile, e);
+        }
+    }
+
+    private synchronized void markDone(int partition) {
+        if (checkpointFile == null) {
+            return;
+        }
+        try {
+            Files.writeString(checkpointFile, partition + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write checkpoint " + checkpointFile, e);
+        }
+    }
+
+    private void deleteCheckpoint() {
+        if (checkpointFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(checkpointFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete checkpoint " + checkpointFile, e);
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder changed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder resumed = new LongAdder();
+        private final ConcurrentHashMap<Integer, LongAdder> creditLimits = new ConcurrentHashMap<>();
+
+        private Map<Integer, Long> creditLimits() {
+            Map<Integer, Long> snapshot = new TreeMap<>();
+            creditLimits.forEach((credits, count) -> snapshot.put(credits, count.sum()));
+            return snapshot;
+        }
+    }
+
+    /**
+     * Laporan hasil job
+     * @param processed Jumlah mahasiswa yang diproses pada run ini
+     * @param changed Jumlah mahasiswa yang IPK atau statusnya berubah dan ditulis kembali
+     * @param failed Jumlah mahasiswa yang tidak ditemukan atau datanya invalid
+     * @param resumed Jumlah mahasiswa yang dilewati karena partisinya sudah selesai sebelum crash
+     * @param elapsedNanos Lama eksekusi
+     * @param creditLimits Distribusi batas SKS (batas SKS ke jumlah mahasiswa) pada run ini
+     */
+    public record Report(long processed, long changed, long failed, long resumed,
+                         long elapsedNanos, Map<Integer, Long> creditLimits) {
+        public double studentsPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : processed * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.siakad.service;
+
+import com.siakad.exception.AdmissionRejectedException;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Admission control di depan operasi enrollment.
+ *
+ * - Rate limit token bucket per studentId: setiap mahasiswa mendapat permitsPerSecond
+ *   token per detik dengan burst maksimal burst token
+ * - Batas konkurensi global: paling banyak maxConcurrent permintaan diproses bersamaan,
+ *   sisanya menunggu di antrean FIFO (semaphore fair) sepanjang maxQueued
+ * - Permintaan yang melewati rate limit, mendapati antrean penuh, atau menunggu lebih lama
+ *   dari maxQueueWait langsung ditolak dengan AdmissionRejectedException berisi retry-after
+ *
+ * Dengan begitu repository hanya pernah melihat maxConcurrent permintaan sekaligus dan
+ * throughput saat overload tetap di kapasitas maksimal, alih-alih runtuh karena antrean tak terbatas.
+ */
+
+public class AdmissionController {
+    private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final double tokensPerNano;
+    private final double burst;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long maxQueueWaitNanos;
+    private final int maxTrackedStudents;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final long sweepIntervalNanos;
+    private final AtomicLong nextSweepAt;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong averageServiceNanos = new AtomicLong(NANOS_PER_MILLI);
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder shedQueueFull = new LongAdder();
+    private final LongAdder shedTimeout = new LongAdder();
+
+    /**
+     * @param permitsPerSecond Jumlah permintaan per detik yang boleh dikirim satu mahasiswa
+     * @param burst Jumlah permintaan beruntun maksimal satu mahasiswa
+     * @param maxConcurrent Jumlah permintaan yang diproses bersamaan
+     * @param maxQueued Panjang antrean maksimal di depan batas konkurensi
+     * @param maxQueueWait Batas waktu tunggu di antrean
+     * @param unit Satuan maxQueueWait
+     */
+    public AdmissionController(double permitsPerSecond, int burst, int maxConcurrent, int maxQueued,
+                               long maxQueueWait, TimeUnit unit) {
+        this(permitsPerSecond, burst, maxConcurrent, maxQueued, maxQueueWait, unit, 100_000, System::nanoTime);
+    }
+
+    AdmissionController(double permitsPerSecond, int burst, int maxConcurrent, int maxQueued,
+                        long maxQueueWait, TimeUnit unit, int maxTrackedStudents, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1 || maxConcurrent < 1 || maxQueued < 0 || maxQueueWait < 0
+                || maxTrackedStudents < 1) {
+            throw new IllegalArgumentException("Rate, burst and concurrency must be positive");
+        }
+        this.tokensPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxQueueWaitNanos = unit.toNanos(maxQueueWait);
+        this.maxTrackedStudents = maxTrackedStudents;
+        this.nanoClock = nanoClock;
+        this.sweepIntervalNanos = (long) Math.ceil(burst / tokensPerNano);
+        this.nextSweepAt = new AtomicLong(nanoClock.getAsLong());
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Menjalankan action jika permintaan mahasiswa diterima
+     * @param studentId ID mahasiswa yang mengirim permintaan
+     * @param action Operasi yang dilindungi
+     * @return Hasil action
+     * @throws AdmissionRejectedException jika permintaan ditolak
+     */
+    public <T> T execute(String studentId, Supplier<T> action) {
+        checkRateLimit(studentId);
+        acquirePermit();
+        long start = nanoClock.getAsLong();
+        try {
+            return action.get();
+        } finally {
+            recordServiceTime(nanoClock.getAsLong() - start);
+            permits.release();
+        }
+    }
+
+    /**
+     * Versi non-blocking dari execute untuk operasi async.
+     * Token rate limit dan slot konkurensi diambil di depan tanpa menunggu di antrean,
+     * jadi jika semua slot terpakai permintaan langsung ditolak dengan OVERLOADED.
+     * Slot dilepas ketika future hasil action selesai.
+     * @param studentId ID mahasiswa yang mengirim permintaan
+     * @param action Operasi async yang dilindungi
+     * @return Future hasil action, gagal dengan AdmissionRejectedException jika permintaan ditolak
+     */
+    public <T> CompletableFuture<T> executeAsync(String studentId, Supplier<CompletableFuture<T>> action) {
+        try {
+            checkRateLimit(studentId);
+            tryAcquirePermit();
+        } catch (AdmissionRejectedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        long start = nanoClock.getAsLong();
+        CompletableFuture<T> future;
+        try {
+            future = action.get();
+        } catch (RuntimeException | Error e) {
+            recordServiceTime(nanoClock.getAsLong() - start);
+            permits.release();
+            throw e;
+        }
+        return future.whenComplete((result, failure) -> {
+            recordServiceTime(nanoClock.getAsLong() - start);
+            permits.release();
+        });
+    }
+
+    /**
+     * @return Snapshot metrik admission control
+     */
+    public Metrics getMetrics() {
+        return new Metrics(admitted.sum(), rateLimited.sum(), shedQueueFull.sum(), shedTimeout.sum(),
+                maxConcurrent - permits.availablePermits(), queued.get(), buckets.size());
+    }
+
+    private void checkRateLimit(String studentId) {
+        if (studentId == null) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        Bucket bucket = buckets.get(studentId);
+        if (bucket == null) {
+            if (buckets.size() >= maxTrackedStudents) {
+                sweepIdleBuckets(now);
+            }
+            bucket = buckets.computeIfAbsent(studentId, id -> new Bucket(burst, now));
+        }
+        long waitNanos = bucket.tryTake(now, tokensPerNano, burst);
+        if (waitNanos > 0) {
+            rateLimited.increment();
+            throw new AdmissionRejectedException(AdmissionRejectedException.Reason.RATE_LIMITED,
+                    toRetryMillis(waitNanos));
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            // Zero-timeout tryAcquire respects fairness, so it never overtakes queued callers
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                admitted.increment();
+                return;
+            }
+            int depth = queued.incrementAndGet();
+            try {
+                if (depth > maxQueued) {
+                    shedQueueFull.increment();
+                    throw overloaded(depth);
+                }
+                if (!permits.tryAcquire(maxQueueWaitNanos, TimeUnit.NANOSECONDS)) {
+                    shedTimeout.increment();
+                    throw overloaded(depth);
+                }
+            } finally {
+                queued.decrementAndGet();
+            }
+            admitted.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            shedTimeout.increment();
+            throw overloaded(queued.get());
+        }
+    }
+
+    private void tryAcquirePermit() {
+        // Barging tryAcquire: async callers never wait, so they cannot queue behind blocked ones
+        if (!permits.tryAcquire()) {
+            shedQueueFull.increment();
+            throw overloaded(queued.get() + 1);
+        }
+        admitted.increment();
+    }
+
+    /**
+     * Perkiraan waktu sampai antrean di depan pemanggil selesai diproses
+     */
+    private AdmissionRejectedException overloaded(int depth) {
+        long waitNanos = averageServiceNanos.get() * Math.max(1, depth) / maxConcurrent;
+        return new AdmissionRejectedException(AdmissionRejectedException.Reason.OVERLOADED, toRetryMillis(waitNanos));
+    }
+
+    private void recordServiceTime(long nanos) {
+        // Exponentially weighted moving average, lost updates under contention are harmless
+        long average = averageServiceNanos.get();
+        averageServiceNanos.set(average + (nanos - average) / 8);
+    }
+
+    /**
+     * Membuang bucket yang sudah terisi penuh kembali, statusnya sama dengan bucket baru.
+     * Sweep paling banyak sekali per waktu isi ulang satu bucket kosong, sehingga biayanya
+     * tidak dibayar setiap mahasiswa baru. Bucket yang tidak disentuh sejak sweep sebelumnya
+     * pasti sudah penuh, jadi jumlah bucket tetap dibatasi oleh mahasiswa yang aktif dalam
+     * dua interval terakhir.
+     */
+    private void sweepIdleBuckets(long now) {
+        long next = nextSweepAt.get();
+        if (now - next < 0 || !nextSweepAt.compareAndSet(next, now + sweepIntervalNanos)) {
+            return;
+        }
+        Iterator<Bucket> iterator = buckets.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isFull(now, tokensPerNano, burst)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static long toRetryMillis(long nanos) {
+        return Math.max(1, (nanos + NANOS_PER_MILLI - 1) / NANOS_PER_MILLI);
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        /**
+         * @return 0 jika token berhasil diambil, atau nanodetik sampai token berikutnya tersedia
+         */
+        synchronized long tryTake(long now, double tokensPerNano, double burst) {
+            refill(now, tokensPerNano, burst);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+        }
+
+        synchronized boolean isFull(long now, double tokensPerNano, double burst) {
+            refill(now, tokensPerNano, burst);
+            return tokens >= burst;
+        }
+
+        private void refill(long now, double tokensPerNano, double burst) {
+            if (now > refilledAt) {
+                tokens = Math.min(burst, tokens + (now - refilledAt) * tokensPerNano);
+                refilledAt = now;
+            }
+        }
+    }
+
+    /**
+     * Snapshot metrik admission control
+     */
+    public record Metrics(long admitted, long rateLimited, long shedQueueFull, long shedTimeout,
+                          int inFlight, int queueDepth, int trackedStudents) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.siakad.service;
+
+import com.siakad.model.Course;
+import com.siakad.model.Enrollment;
+import com.siakad.model.EnrollmentOutcome;
+import com.siakad.model.Student;
+import com.siakad.repository.AsyncCourseRepository;
+import com.siakad.repository.AsyncStudentRepository;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * API enrollment non-blocking di atas repository async.
+ *
+ * Lookup mahasiswa, mata kuliah dan prasyarat tidak saling bergantung, jadi ketiganya dikirim
+ * bersamaan dan latensi enrollCourse menjadi lookup terlama, bukan jumlah ketiganya.
+ * Validasi, klaim kursi, journal dan pembaruan SKS memakai langkah yang sama dengan
+ * EnrollmentService (termasuk EnrollmentRepository, journal, waitlist, CreditLoadTracker
+ * dan counter penolakan EnrollmentMetrics), sehingga kedua API selalu memberi keputusan yang sama.
+ * Admission control EnrollmentService juga berlaku di sini lewat AdmissionController.executeAsync:
+ * token dan slot konkurensi diambil tanpa menunggu, dan slot dilepas setelah future selesai.
+ */
+
+public class AsyncEnrollmentService {
+    private final EnrollmentService enrollmentService;
+    private final AsyncStudentRepository studentRepository;
+    private final AsyncCourseRepository courseRepository;
+    private final Executor executor;
+
+    /**
+     * @param enrollmentService Service yang menyimpan aturan dan komponen enrollment
+     * @param studentRepository Repository mahasiswa async
+     * @param courseRepository Repository mata kuliah async
+     * @param executor Executor untuk langkah yang bisa memblokir (journal fsync dan notifikasi)
+     */
+    public AsyncEnrollmentService(EnrollmentService enrollmentService,
+                                  AsyncStudentRepository studentRepository,
+                                  AsyncCourseRepository courseRepository,
+                                  Executor executor) {
+        this.enrollmentService = enrollmentService;
+        this.studentRepository = studentRepository;
+        this.courseRepository = courseRepository;
+        this.executor = executor;
+    }
+
+    /**
+     * Versi async dari EnrollmentService.tryEnrollCourse
+     * @param studentId ID mahasiswa
+     * @param courseCode Kode mata kuliah
+     * @return Future berisi Enrollment atau alasan penolakan, gagal dengan AdmissionRejectedException
+     *         jika ditolak admission control atau dengan kesalahan sistem
+     */
+    public CompletableFuture<EnrollmentOutcome> tryEnrollCourse(String studentId, String courseCode) {
+        AdmissionController admissionController = enrollmentService.getAdmissionController();
+        if (admissionController != null) {
+            return admissionController.executeAsync(studentId, () -> doTryEnrollCourse(studentId, courseCode));
+        }
+        return doTryEnrollCourse(studentId, courseCode);
+    }
+
+    private CompletableFuture<EnrollmentOutcome> doTryEnrollCourse(String studentId, String courseCode) {
+        // Independent lookups are issued together, prerequisites are checked speculatively
+        CompletableFuture<Student> student = studentRepository.findById(studentId);
+        CompletableFuture<Course> course = courseRepository.findByCourseCode(courseCode);
+        CompletableFuture<Boolean> prerequisiteMet = isPrerequisiteMet(studentId, courseCode);
+
+        return CompletableFuture.allOf(student, course, prerequisiteMet)
+                .thenComposeAsync(ignored -> enroll(studentId, student.join(), course.join(),
+                        prerequisiteMet.join()), executor);
+    }
+
+    /**
+     * Versi async dari EnrollmentService.enrollCourse
+     * @param studentId ID mahasiswa
+     * @param courseCode Kode mata kuliah
+     * @return Future berisi Enrollment, gagal dengan exception yang sama seperti enrollCourse
+     *         (dibungkus CompletionException) jika ditolak
+     */
+    public CompletableFuture<Enrollment> enrollCourse(String studentId, String courseCode) {
+        return tryEnrollCourse(studentId, courseCode).thenApply(outcome -> {
+            if (!outcome.isEnrolled()) {
+                throw new CompletionException(enrollmentService.toException(outcome, studentId, courseCode));
+            }
+            return outcome.getEnrollment();
+        });
+    }
+
+    private CompletableFuture<Boolean> isPrerequisiteMet(String studentId, String courseCode) {
+        PrerequisiteEngine prerequisiteEngine = enrollmentService.getPrerequisiteEngine();
+        if (prerequisiteEngine != null && prerequisiteEngine.isCompiled(courseCode)) {
+            // In-memory graph lookup, not worth a hop to another thread
+            return CompletableFuture.completedFuture(prerequisiteEngine.isPrerequisiteMet(studentId, courseCode));
+        }
+        return courseRepository.isPrerequisiteMet(studentId, courseCode);
+    }
+
+    private CompletableFuture<EnrollmentOutcome> enroll(String studentId, Student student, Course course,
+                                                        boolean prerequisiteMet) {
+        EnrollmentOutcome.Reason rejected = enrollmentService.checkStudent(student);
+        if (rejected == null) {
+            rejected = enrollmentService.checkCourse(studentId, course);
+        }
+        if (rejected == null && !prerequisiteMet) {
+            rejected = EnrollmentOutcome.Reason.PREREQUISITE_NOT_MET;
+        }
+        if (rejected != null) {
+            return CompletableFuture.completedFuture(enrollmentService.reject(rejected));
+        }
+
+        EnrollmentOutcome outcome = enrollmentService.admit(studentId, student, course);
+        if (!outcome.isEnrolled()) {
+            return CompletableFuture.completedFuture(enrollmentService.reject(outcome.getReason()));
+        }
+        return courseRepository.update(course)
+                .thenRunAsync(() -> enrollmentService.sendEnrollmentConfirmation(student, course), executor)
+                .thenApply(ignored -> outcome);
+    }
+}
@@ -0,0 +1,234 @@
+package com.siakad.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Decorator NotificationService yang mengirim notifikasi secara asinkron.
+ * Pesan ditampung di buffer terbatas, diambil per batch oleh satu dispatcher
+ * dan dikirim lewat virtual thread, sehingga latensi enrollment tidak
+ * bergantung pada lamanya pengiriman email/SMS.
+ * enqueue dan close saling eksklusif: pesan yang diterima sebelum close selalu terkirim,
+ * pesan sesudahnya selalu dihitung sebagai dropped.
+ */
+
+public class AsyncNotificationService implements NotificationService, AutoCloseable {
+
+    /**
+     * Kebijakan ketika buffer penuh
+     */
+    public enum OverflowPolicy {
+        /** Pemanggil menunggu hingga ada ruang (maksimal offerTimeout), lalu pesan dibuang */
+        BLOCK,
+        /** Pesan baru langsung dibuang */
+        DROP_NEWEST,
+        /** Pesan tertua di buffer dibuang untuk memberi ruang pesan baru */
+        DROP_OLDEST
+    }
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final NotificationService delegate;
+    private final BlockingQueue<Message> queue;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final long offerTimeoutNanos;
+    private final Semaphore inFlightBatches;
+    private final int maxInFlightBatches;
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Thread dispatcher;
+    private final ReentrantReadWriteLock lifecycle = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    /**
+     * @param delegate NotificationService yang benar-benar mengirim pesan
+     * @param capacity Kapasitas buffer pesan
+     * @param batchSize Jumlah maksimal pesan per batch
+     * @param maxInFlightBatches Jumlah maksimal batch yang dikirim bersamaan
+     * @param overflowPolicy Kebijakan ketika buffer penuh
+     * @param offerTimeoutMillis Batas waktu tunggu untuk OverflowPolicy.BLOCK
+     */
+    public AsyncNotificationService(NotificationService delegate, int capacity, int batchSize,
+                                    int maxInFlightBatches, OverflowPolicy overflowPolicy,
+                                    long offerTimeoutMillis) {
+        if (capacity < 1 || batchSize < 1 || maxInFlightBatches < 1 || offerTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Capacity, batch size and in-flight batches must be positive");
+        }
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.inFlightBatches = new Semaphore(maxInFlightBatches);
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(offerTimeoutMillis);
+        this.dispatcher = Thread.ofVirtual().name("notification-dispatcher").start(this::dispatch);
+    }
+
+    public AsyncNotificationService(NotificationService delegate) {
+        this(delegate, 10_000, 100, 16, OverflowPolicy.BLOCK, 50);
+    }
+
+    @Override
+    public void sendEmail(String email, String subject, String message) {
+        enqueue(new Message(false, email, subject, message));
+    }
+
+    @Override
+    public void sendSMS(String phone, String message) {
+        enqueue(new Message(true, phone, null, message));
+    }
+
+    /**
+     * @return Snapshot metrik pengiriman
+     */
+    public Metrics getMetrics() {
+        return new Metrics(enqueued.sum(), delivered.sum(), failed.sum(), dropped.sum(),
+                batches.sum(), queue.size());
+    }
+
+    /**
+     * Berhenti menerima pesan baru, mengirim sisa pesan di buffer
+     * dan menunggu semua batch selesai dikirim.
+     * Interrupt selama menunggu tidak menghentikan close, status interrupt dikembalikan di akhir
+     */
+    @Override
+    public void close() {
+        lifecycle.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                dispatcher.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        deliveryExecutor.shutdown();
+        while (true) {
+            try {
+                deliveryExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enqueue(Message message) {
+        // Holding the read lock keeps close from slipping in between the check and the offer
+        lifecycle.readLock().lock();
+        try {
+            if (closed) {
+                dropped.increment();
+                return;
+            }
+            offer(message);
+        } finally {
+            lifecycle.readLock().unlock();
+        }
+    }
+
+    private void offer(Message message) {
+        boolean accepted;
+        switch (overflowPolicy) {
+            case DROP_NEWEST -> accepted = queue.offer(message);
+            case DROP_OLDEST -> {
+                accepted = queue.offer(message);
+                while (!accepted) {
+                    if (queue.poll() != null) {
+                        dropped.increment();
+                    }
+                    accepted = queue.offer(message);
+                }
+            }
+            default -> {
+                try {
+                    accepted = queue.offer(message, offerTimeoutNanos, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    accepted = false;
+                }
+            }
+        }
+        if (accepted) {
+            enqueued.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    private void dispatch() {
+        List<Message> batch = new ArrayList<>(batchSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                Message first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                // Backpressure: wait for a delivery slot before taking more work
+                inFlightBatches.acquire();
+                List<Message> toDeliver = List.copyOf(batch);
+                batch.clear();
+                batches.increment();
+                deliveryExecutor.execute(() -> deliver(toDeliver));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        inFlightBatches.acquireUninterruptibly(maxInFlightBatches);
+    }
+
+    private void deliver(List<Message> batch) {
+        try {
+            for (Message message : batch) {
+                try {
+                    if (message.sms) {
+                        delegate.sendSMS(message.recipient, message.body);
+                    } else {
+                        delegate.sendEmail(message.recipient, message.subject, message.body);
+                    }
+                    delivered.increment();
+                } catch (RuntimeException e) {
+                    failed.increment();
+                }
+            }
+        } finally {
+            inFlightBatches.release();
+        }
+    }
+
+    private record Message(boolean sms, String recipient, String subject, String body) {
+    }
+
+    /**
+     * Snapshot metrik pengiriman notifikasi
+     */
+    public record Metrics(long enqueued, long delivered, long failed, long dropped,
+                          long batches, int queueDepth) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.siakad.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Lock bergaris (striped) per mata kuliah untuk transaksi yang menyentuh beberapa mata kuliah.
+ *
+ * Setiap kode mata kuliah dipetakan ke salah satu dari sejumlah tetap ReentrantLock.
+ * Lock selalu diambil dalam urutan indeks stripe yang naik, sehingga dua transaksi
+ * dengan mata kuliah yang saling tumpang tindih tidak pernah deadlock.
+ * Transaksi pada mata kuliah yang berbeda stripe berjalan paralel tanpa saling menunggu.
+ */
+
+public class CourseLockStripes {
+    private static final int DEFAULT_STRIPES = 256;
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public CourseLockStripes() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param stripes Jumlah lock, harus pangkat dua
+     */
+    public CourseLockStripes(int stripes) {
+        if (stripes < 1 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("Stripe count must be a positive power of two");
+        }
+        this.stripes = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = stripes - 1;
+    }
+
+    /**
+     * Menjalankan action sambil memegang lock semua mata kuliah yang disebutkan
+     * @param courseCodes Kode mata kuliah yang dikunci, duplikat diperbolehkan
+     * @param action Operasi yang dilindungi
+     * @return Hasil action
+     */
+    public <T> T withLocks(Collection<String> courseCodes, Supplier<T> action) {
+        int[] indexes = stripesOf(courseCodes);
+        int locked = 0;
+        try {
+            for (int index : indexes) {
+                stripes[index].lock();
+                locked++;
+            }
+            return action.get();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+        }
+    }
+
+    int stripeOf(String courseCode) {
+        int h = courseCode.hashCode();
+        // Spread the high bits so codes sharing a suffix do not pile onto one stripe
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * @return Indeks stripe yang unik dan terurut naik
+     */
+    private int[] stripesOf(Collection<String> courseCodes) {
+        int[] indexes = new int[courseCodes.size()];
+        int count = 0;
+        for (String courseCode : courseCodes) {
+            indexes[count++] = stripeOf(courseCode);
+        }
+        Arrays.sort(indexes, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || indexes[unique - 1] != indexes[i]) {
+                indexes[unique++] = indexes[i];
+            }
+        }
+        return Arrays.copyOf(indexes, unique);
+    }
+}
@@ -0,0 +1,100 @@
+package com.siakad.service;
+
+import com.siakad.model.Course;
+import com.siakad.model.Enrollment;
+import com.siakad.repository.CourseRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Total SKS yang sedang diambil setiap mahasiswa, dijaga tetap sinkron oleh enroll dan drop.
+ *
+ * Pengecekan batas SKS cukup membaca satu counter (O(1)), tanpa memuat ulang
+ * semua enrollment mahasiswa. tryAdd memeriksa batas dan menambah SKS dalam satu CAS,
+ * sehingga dua pendaftaran bersamaan tidak bisa sama-sama lolos melewati batas.
+ * Counter bisa dibangun ulang dari data enrollment (misalnya journal) saat startup.
+ */
+
+public class CreditLoadTracker {
+    private final ConcurrentHashMap<String, AtomicInteger> loads = new ConcurrentHashMap<>();
+
+    /**
+     * @param studentId ID mahasiswa
+     * @return Total SKS yang sedang diambil, 0 jika belum ada
+     */
+    public int getLoad(String studentId) {
+        AtomicInteger load = loads.get(studentId);
+        return load != null ? load.get() : 0;
+    }
+
+    /**
+     * Menambah SKS mahasiswa jika totalnya tetap dalam batas
+     * @param studentId ID mahasiswa
+     * @param credits SKS yang ditambahkan
+     * @param maxCredits Batas SKS mahasiswa
+     * @return true jika ditambahkan, false jika akan melewati batas
+     */
+    public boolean tryAdd(String studentId, int credits, int maxCredits) {
+        if (credits < 0) {
+            throw new IllegalArgumentException("Credits must not be negative");
+        }
+        AtomicInteger load = loads.computeIfAbsent(studentId, id -> new AtomicInteger());
+        while (true) {
+            int current = load.get();
+            if (current + credits > maxCredits) {
+                return false;
+            }
+            if (load.compareAndSet(current, current + credits)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Mengurangi SKS mahasiswa setelah drop atau rollback, tidak pernah di bawah 0
+     * @param studentId ID mahasiswa
+     * @param credits SKS yang dilepas
+     */
+    public void release(String studentId, int credits) {
+        AtomicInteger load = loads.get(studentId);
+        if (load != null) {
+            load.accumulateAndGet(credits, (current, released) -> Math.max(0, current - released));
+        }
+    }
+
+    /**
+     * Membangun ulang semua counter dari data enrollment, menggantikan isi sebelumnya.
+     * Dijalankan saat startup sebelum enrollment baru diterima.
+     * @param enrollments Semua enrollment aktif, misalnya dari EnrollmentJournal.getActiveEnrollments
+     * @param courseRepository Sumber SKS setiap mata kuliah
+     * @return Jumlah mahasiswa yang punya SKS
+     */
+    public int rebuild(Iterable<Enrollment> enrollments, CourseRepository courseRepository) {
+        List<Enrollment> records = new ArrayList<>();
+        Set<String> courseCodes = new HashSet<>();
+        for (Enrollment enrollment : enrollments) {
+            records.add(enrollment);
+            courseCodes.add(enrollment.getCourseCode());
+        }
+        Map<String, Course> courses = courseRepository.findByCourseCodes(courseCodes);
+
+        Map<String, Integer> totals = new HashMap<>();
+        for (Enrollment enrollment : records) {
+            Course course = courses.get(enrollment.getCourseCode());
+            if (course != null) {
+                totals.merge(enrollment.getStudentId(), course.getCredits(), Integer::sum);
+            }
+        }
+
+        loads.clear();
+        totals.forEach((studentId, credits) -> loads.put(studentId, new AtomicInteger(credits)));
+        return totals.size();
+    }
+}
@@ -0,0 +1,17 @@
+package com.siakad.service;
+
+import com.siakad.model.EnrollmentId;
+
+/**
+ * Interface untuk pembuat ID enrollment.
+ * Implementasi harus thread-safe dan menghasilkan ID unik yang terurut waktu
+ */
+
+public interface EnrollmentIdGenerator {
+
+    /**
+     * Membuat ID enrollment baru
+     * @return EnrollmentId yang unik
+     */
+    EnrollmentId nextId();
+}
@@ -0,0 +1,148 @@
+package com.siakad.service;
+
+import com.siakad.model.EnrollmentOutcome;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrik enrollCourse: histogram latensi per tahap dan counter per alasan penolakan.
+ *
+ * Latensi hanya diukur untuk 1 dari sampleEvery permintaan. Keputusan sampling diambil sekali
+ * di awal permintaan, sehingga permintaan yang tidak di-sampling tidak memanggil System.nanoTime
+ * sama sekali. Persentil dari sampel acak tetap merupakan estimasi yang tidak bias.
+ * Overhead terukur ada di benchmarks/enrollment-metrics-overhead.txt.
+ * Counter penolakan selalu dihitung karena hanya menyentuh jalur gagal.
+ */
+
+public class EnrollmentMetrics {
+    private static final int DEFAULT_SAMPLE_EVERY = 128;
+
+    /**
+     * Tahap enrollCourse yang diukur latensinya
+     */
+    public enum Stage {
+        /** studentRepository.findById */
+        FIND_STUDENT,
+        /** courseRepository.findByCourseCode */
+        FIND_COURSE,
+        /** Pengecekan prasyarat (PrerequisiteEngine atau repository) */
+        CHECK_PREREQUISITE,
+        /** Penyimpanan ke EnrollmentRepository dan journal */
+        PERSIST_ENROLLMENT,
+        /** courseRepository.update */
+        UPDATE_COURSE,
+        /** notificationService.sendEmail */
+        SEND_NOTIFICATION
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final EnrollmentOutcome.Reason[] REJECTIONS = EnrollmentOutcome.Reason.values();
+    private static final EnrollmentMetrics DISABLED = new EnrollmentMetrics(1, false);
+
+    private final int sampleMask;
+    private final boolean enabled;
+    private final LatencyHistogram[] histograms = new LatencyHistogram[STAGES.length];
+    private final LongAdder[] rejections = new LongAdder[REJECTIONS.length];
+
+    public EnrollmentMetrics() {
+        this(DEFAULT_SAMPLE_EVERY);
+    }
+
+    /**
+     * @param sampleEvery Mengukur 1 dari sampleEvery permintaan, harus pangkat dua (1 berarti semua)
+     */
+    public EnrollmentMetrics(int sampleEvery) {
+        this(sampleEvery, true);
+    }
+
+    private EnrollmentMetrics(int sampleEvery, boolean enabled) {
+        if (sampleEvery < 1 || Integer.bitCount(sampleEvery) != 1) {
+            throw new IllegalArgumentException("Sample rate must be a positive power of two");
+        }
+        this.sampleMask = sampleEvery - 1;
+        this.enabled = enabled;
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        for (int i = 0; i < rejections.length; i++) {
+            rejections[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @return Instance yang tidak mengukur apa pun
+     */
+    public static EnrollmentMetrics disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Menentukan apakah satu permintaan diukur latensinya, dipanggil sekali per permintaan
+     * @return true jika permintaan ini di-sampling
+     */
+    public boolean sample() {
+        return enabled && (sampleMask == 0 || (ThreadLocalRandom.current().nextInt() & sampleMask) == 0);
+    }
+
+    /**
+     * Mencatat durasi tahap sejak mark, hanya untuk permintaan yang di-sampling
+     * @param stage Tahap yang baru selesai
+     * @param mark System.nanoTime awal permintaan atau hasil lap sebelumnya
+     * @return Timestamp awal tahap berikutnya
+     */
+    public long lap(Stage stage, long mark) {
+        long now = System.nanoTime();
+        histograms[stage.ordinal()].record(now - mark);
+        return now;
+    }
+
+    public void reject(EnrollmentOutcome.Reason reason) {
+        if (enabled) {
+            rejections[reason.ordinal()].increment();
+        }
+    }
+
+    /**
+     * @return Snapshot persentil per tahap dan jumlah penolakan per alasan
+     */
+    public Snapshot snapshot() {
+        Map<Stage, LatencyHistogram.Snapshot> stages = new EnumMap<>(Stage.class);
+        for (Stage stage : STAGES) {
+            stages.put(stage, histograms[stage.ordinal()].snapshot());
+        }
+        Map<EnrollmentOutcome.Reason, Long> rejected = new EnumMap<>(EnrollmentOutcome.Reason.class);
+        for (EnrollmentOutcome.Reason reason : REJECTIONS) {
+            rejected.put(reason, rejections[reason.ordinal()].sum());
+        }
+        return new Snapshot(sampleMask + 1, Collections.unmodifiableMap(stages),
+                Collections.unmodifiableMap(rejected));
+    }
+
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+        for (LongAdder counter : rejections) {
+            counter.reset();
+        }
+    }
+
+    /**
+     * Snapshot metrik enrollment, latensi dalam nanodetik
+     */
+    public record Snapshot(int sampleEvery, Map<Stage, LatencyHistogram.Snapshot> stages,
+                           Map<EnrollmentOutcome.Reason, Long> rejections) {
+
+        public LatencyHistogram.Snapshot stage(Stage stage) {
+            return stages.get(stage);
+        }
+
+        public long rejected(EnrollmentOutcome.Reason reason) {
+            return rejections.get(reason);
+        }
+    }
+}
@@ -1,13 +1,25 @@
 package com.siakad.service;
 
 import com.siakad.exception.*;
+import com.siakad.model.BatchEnrollmentResult;
 import com.siakad.model.Course;
 import com.siakad.model.Enrollment;
+import com.siakad.model.EnrollmentOutcome;
+import com.siakad.model.EnrollmentStatus;
 import com.siakad.model.Student;
 import com.siakad.repository.CourseRepository;
+import com.siakad.repository.EnrollmentJournal;
+import com.siakad.repository.EnrollmentRepository;
 import com.siakad.repository.StudentRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * Service untuk mengelola enrollment (pendaftaran mata kuliah)
@@ -19,6 +31,17 @@ public class EnrollmentService {
     private CourseRepository courseRepository;
     private NotificationService notificationService;
     private GradeCalculator gradeCalculator;
+    private PrerequisiteEngine prerequisiteEngine;
+    private EnrollmentIdGenerator enrollmentIdGenerator = SnowflakeIdGenerator.forNode(0);
+    private EnrollmentJournal enrollmentJournal;
+    private EnrollmentRepository enrollmentRepository;
+    private WaitlistEngine waitlistEngine;
+    private Executor notificationExecutor;
+    private AdmissionController admissionController;
+    private EnrollmentMetrics metrics = EnrollmentMetrics.disabled();
+    private final CourseLockStripes courseLocks = new CourseLockStripes();
+    private CreditLoadTracker creditLoadTracker;
+    private boolean stacklessRejections;
 
     public EnrollmentService(StudentRepository studentRepository,
                              CourseRepository courseRepository,
@@ -30,73 +53,555 @@ public class EnrollmentService {
         this.gradeCalculator = gradeCalculator;
     }
 
+    /**
+     * Memakai PrerequisiteEngine untuk pengecekan prasyarat,
+     * menggantikan CourseRepository.isPrerequisiteMet
+     * @param prerequisiteEngine Engine prasyarat, null untuk kembali ke repository
+     */
+    public void setPrerequisiteEngine(PrerequisiteEngine prerequisiteEngine) {
+        this.prerequisiteEngine = prerequisiteEngine;
+    }
+
+    /**
+     * Mengganti pembuat ID enrollment. Default SnowflakeIdGenerator.forNode(0), dipakai bersama semua
+     * EnrollmentService di JVM ini; jika beberapa proses berbagi data enrollment, pasang
+     * SnowflakeIdGenerator.forNode dengan node id yang unik per proses
+     * @param enrollmentIdGenerator Pembuat ID enrollment
+     */
+    public void setEnrollmentIdGenerator(EnrollmentIdGenerator enrollmentIdGenerator) {
+        this.enrollmentIdGenerator = enrollmentIdGenerator;
+    }
+
+    /**
+     * Mencatat setiap enrollment dan drop ke journal sebelum Course di-update,
+     * sehingga peserta mata kuliah bisa dipulihkan setelah crash
+     * @param enrollmentJournal Journal enrollment, null untuk tidak mencatat
+     */
+    public void setEnrollmentJournal(EnrollmentJournal enrollmentJournal) {
+        this.enrollmentJournal = enrollmentJournal;
+    }
+
+    /**
+     * Menyimpan enrollment ke repository, sehingga pendaftaran ganda ditolak
+     * dan drop hanya bisa dilakukan oleh mahasiswa yang benar-benar terdaftar
+     * @param enrollmentRepository Repository enrollment, null untuk tidak menyimpan
+     * @throws IllegalStateException jika null sementara CreditLoadTracker aktif
+     */
+    public void setEnrollmentRepository(EnrollmentRepository enrollmentRepository) {
+        if (enrollmentRepository == null && creditLoadTracker != null) {
+            throw new IllegalStateException("CreditLoadTracker requires an EnrollmentRepository");
+        }
+        this.enrollmentRepository = enrollmentRepository;
+    }
+
+    /**
+     * Mengaktifkan waitlist: mahasiswa yang kehabisan kursi cukup masuk antrean sekali,
+     * dan kursi yang dilepas dropCourse langsung diberikan ke antrean terdepan yang masih memenuhi syarat.
+     * Selama waitlist mata kuliah tidak kosong, pendaftaran biasa ditolak dengan COURSE_FULL
+     * sehingga kursi yang dilepas tidak bisa diserobot pendaftar yang tidak mengantre
+     * @param waitlistEngine Waitlist per mata kuliah, null untuk menonaktifkan
+     * @param notificationExecutor Executor untuk mengirim notifikasi promosi tanpa menahan dropCourse
+     * @throws IllegalArgumentException jika waitlist aktif tanpa notificationExecutor
+     */
+    public void setWaitlistEngine(WaitlistEngine waitlistEngine, Executor notificationExecutor) {
+        if (waitlistEngine != null && notificationExecutor == null) {
+            throw new IllegalArgumentException("Notification executor must not be null");
+        }
+        this.waitlistEngine = waitlistEngine;
+        this.notificationExecutor = notificationExecutor;
+    }
+
+    /**
+     * Memasang admission control (rate limit per mahasiswa dan batas konkurensi global)
+     * di depan enrollCourse dan enrollCourses
+     * @param admissionController Admission control, null untuk menonaktifkan
+     */
+    public void setAdmissionController(AdmissionController admissionController) {
+        this.admissionController = admissionController;
+    }
+
+    /**
+     * Mengukur latensi per tahap dan menghitung penolakan enrollCourse
+     * @param metrics Metrik enrollment, null untuk menonaktifkan
+     */
+    public void setEnrollmentMetrics(EnrollmentMetrics metrics) {
+        this.metrics = metrics != null ? metrics : EnrollmentMetrics.disabled();
+    }
+
+    /**
+     * Melacak total SKS yang sedang diambil setiap mahasiswa. Jika aktif, setiap enrollment
+     * ditolak bila SKS-nya melewati GradeCalculator.calculateMaxCredits, dan validateCreditLimit
+     * memperhitungkan SKS yang sudah diambil.
+     * Membutuhkan EnrollmentRepository, karena hanya repository itu yang tahu apakah drop
+     * benar-benar melepas mata kuliah yang diambil mahasiswa
+     * @param creditLoadTracker Counter SKS per mahasiswa, null untuk menonaktifkan
+     * @throws IllegalStateException jika EnrollmentRepository belum dipasang
+     */
+    public void setCreditLoadTracker(CreditLoadTracker creditLoadTracker) {
+        if (creditLoadTracker != null && enrollmentRepository == null) {
+            throw new IllegalStateException("CreditLoadTracker requires an EnrollmentRepository");
+        }
+        this.creditLoadTracker = creditLoadTracker;
+    }
+
+    /**
+     * Mode stackless untuk exception penolakan bisnis dari enrollCourse, enrollCourses dan
+     * enrollCoursesAtomically: tanpa stack trace sehingga murah dibuat, tetapi asal lemparannya
+     * tidak terlihat di log. Default-nya mati
+     * @param stacklessRejections true untuk melempar exception penolakan tanpa stack trace
+     */
+    public void setStacklessRejections(boolean stacklessRejections) {
+        this.stacklessRejections = stacklessRejections;
+    }
+
     /**
      * Mendaftarkan mahasiswa ke mata kuliah
      * Method ini akan diuji dengan MOCK
+     * Penolakan bisnis dilempar sebagai exception, stackless jika setStacklessRejections aktif.
+     * Pemanggil yang sering ditolak sebaiknya memakai tryEnrollCourse
      *
      * @param studentId ID mahasiswa
      * @param courseCode Kode mata kuliah
      * @return Enrollment object jika berhasil
      * @throws StudentNotFoundException jika mahasiswa tidak ditemukan
-     * @throws EnrollmentException jika mahasiswa di-suspend
+     * @throws EnrollmentException jika mahasiswa di-suspend, sudah terdaftar di mata kuliah
+     *         atau batas SKS terlewati
      * @throws CourseNotFoundException jika mata kuliah tidak ditemukan
      * @throws CourseFullException jika mata kuliah sudah penuh
      * @throws PrerequisiteNotMetException jika prasyarat tidak terpenuhi
+     * @throws AdmissionRejectedException jika permintaan ditolak admission control
      */
     public Enrollment enrollCourse(String studentId, String courseCode) {
-        // Validate student
-        Student student = studentRepository.findById(studentId);
-        if (student == null) {
-            throw new StudentNotFoundException("Student not found: " + studentId);
+        EnrollmentOutcome outcome = tryEnrollCourse(studentId, courseCode);
+        if (!outcome.isEnrolled()) {
+            throw toException(outcome, studentId, courseCode);
         }
+        return outcome.getEnrollment();
+    }
 
-        // Check academic status
-        if ("SUSPENDED".equals(student.getAcademicStatus())) {
-            throw new EnrollmentException("Student is suspended");
+    /**
+     * Sama dengan enrollCourse, tetapi penolakan bisnis dikembalikan sebagai EnrollmentOutcome
+     * yang sudah dialokasikan sebelumnya, bukan dilempar sebagai exception.
+     * Cocok untuk pemanggil bervolume tinggi yang memang sering mendapati kelas penuh.
+     *
+     * @param studentId ID mahasiswa
+     * @param courseCode Kode mata kuliah
+     * @return Outcome berisi Enrollment, atau alasan penolakan
+     * @throws AdmissionRejectedException jika permintaan ditolak admission control
+     */
+    public EnrollmentOutcome tryEnrollCourse(String studentId, String courseCode) {
+        if (admissionController != null) {
+            return admissionController.execute(studentId, () -> doEnrollCourse(studentId, courseCode));
         }
+        return doEnrollCourse(studentId, courseCode);
+    }
 
-        // Validate course
-        Course course = courseRepository.findByCourseCode(courseCode);
-        if (course == null) {
-            throw new CourseNotFoundException("Course not found: " + courseCode);
+    private EnrollmentOutcome doEnrollCourse(String studentId, String courseCode) {
+        EnrollmentMetrics metrics = this.metrics;
+        if (metrics.sample()) {
+            return doEnrollCourseTimed(metrics, studentId, courseCode);
         }
 
-        // Check capacity
-        if (course.getEnrolledCount() >= course.getCapacity()) {
-            throw new CourseFullException("Course is full");
+        // Validate student and academic status
+        Student student = studentRepository.findById(studentId);
+        EnrollmentOutcome.Reason rejected = checkStudent(student);
+        if (rejected != null) {
+            return reject(metrics, rejected);
+        }
+
+        // Validate course, duplicates and capacity
+        Course course = courseRepository.findByCourseCode(courseCode);
+        rejected = checkCourse(studentId, course);
+        if (rejected != null) {
+            return reject(metrics, rejected);
         }
 
         // Check prerequisites
-        if (!courseRepository.isPrerequisiteMet(studentId, courseCode)) {
-            throw new PrerequisiteNotMetException("Prerequisites not met");
+        if (!isPrerequisiteMet(studentId, courseCode)) {
+            return reject(metrics, EnrollmentOutcome.Reason.PREREQUISITE_NOT_MET);
         }
 
-        // Create enrollment
-        Enrollment enrollment = new Enrollment();
-        enrollment.setEnrollmentId(generateEnrollmentId());
-        enrollment.setStudentId(studentId);
-        enrollment.setCourseCode(courseCode);
-        enrollment.setEnrollmentDate(LocalDateTime.now());
-        enrollment.setStatus("APPROVED");
+        EnrollmentOutcome outcome = admit(studentId, student, course);
+        if (!outcome.isEnrolled()) {
+            return reject(metrics, outcome.getReason());
+        }
 
-        // Update course enrollment count
-        course.setEnrolledCount(course.getEnrolledCount() + 1);
+        // Persist course enrollment count
         courseRepository.update(course);
+        sendEnrollmentConfirmation(student, course);
+        return outcome;
+    }
 
-        // Send notification
+    /**
+     * Alur yang sama dengan doEnrollCourse, ditambah pencatatan latensi per tahap.
+     * Dipisah agar permintaan yang tidak di-sampling tidak membayar System.nanoTime
+     * maupun kode histogram di jalur panasnya.
+     */
+    private EnrollmentOutcome doEnrollCourseTimed(EnrollmentMetrics metrics, String studentId, String courseCode) {
+        long mark = System.nanoTime();
+
+        Student student = studentRepository.findById(studentId);
+        mark = metrics.lap(EnrollmentMetrics.Stage.FIND_STUDENT, mark);
+        EnrollmentOutcome.Reason rejected = checkStudent(student);
+        if (rejected != null) {
+            return reject(metrics, rejected);
+        }
+
+        Course course = courseRepository.findByCourseCode(courseCode);
+        mark = metrics.lap(EnrollmentMetrics.Stage.FIND_COURSE, mark);
+        rejected = checkCourse(studentId, course);
+        if (rejected != null) {
+            return reject(metrics, rejected);
+        }
+
+        boolean prerequisiteMet = isPrerequisiteMet(studentId, courseCode);
+        mark = metrics.lap(EnrollmentMetrics.Stage.CHECK_PREREQUISITE, mark);
+        if (!prerequisiteMet) {
+            return reject(metrics, EnrollmentOutcome.Reason.PREREQUISITE_NOT_MET);
+        }
+
+        EnrollmentOutcome outcome = admit(studentId, student, course);
+        if (!outcome.isEnrolled()) {
+            return reject(metrics, outcome.getReason());
+        }
+        mark = metrics.lap(EnrollmentMetrics.Stage.PERSIST_ENROLLMENT, mark);
+
+        courseRepository.update(course);
+        mark = metrics.lap(EnrollmentMetrics.Stage.UPDATE_COURSE, mark);
+
+        sendEnrollmentConfirmation(student, course);
+        metrics.lap(EnrollmentMetrics.Stage.SEND_NOTIFICATION, mark);
+
+        return outcome;
+    }
+
+    /**
+     * @return Alasan penolakan, atau null jika mahasiswa boleh mendaftar
+     */
+    EnrollmentOutcome.Reason checkStudent(Student student) {
+        if (student == null) {
+            return EnrollmentOutcome.Reason.STUDENT_NOT_FOUND;
+        }
+        if (student.isSuspended()) {
+            return EnrollmentOutcome.Reason.STUDENT_SUSPENDED;
+        }
+        return null;
+    }
+
+    /**
+     * @return Alasan penolakan, atau null jika mata kuliah masih bisa diambil mahasiswa
+     */
+    EnrollmentOutcome.Reason checkCourse(String studentId, Course course) {
+        if (course == null) {
+            return EnrollmentOutcome.Reason.COURSE_NOT_FOUND;
+        }
+        // Reject duplicates before touching the seat counter
+        if (isEnrolled(studentId, course.getCourseCode())) {
+            return EnrollmentOutcome.Reason.ALREADY_ENROLLED;
+        }
+        // Fast path only, the seat itself is claimed atomically in admit
+        if (course.getEnrolledCount() >= course.getCapacity()) {
+            return EnrollmentOutcome.Reason.COURSE_FULL;
+        }
+        return null;
+    }
+
+    /**
+     * Mengklaim SKS dan kursi lalu menyimpan enrollment untuk mahasiswa yang sudah lolos validasi.
+     * Course belum di-update dan notifikasi belum dikirim.
+     * @return Outcome berisi Enrollment, atau alasan penolakan karena kalah balapan
+     */
+    EnrollmentOutcome admit(String studentId, Student student, Course course) {
+        // Lost races against concurrent enrollments end up here
+        EnrollmentOutcome.Reason rejected = claimSeat(studentId, student, course);
+        if (rejected != null) {
+            return EnrollmentOutcome.rejected(rejected);
+        }
+        Enrollment enrollment = commitEnrollment(studentId, course);
+        if (enrollment == null) {
+            return EnrollmentOutcome.rejected(EnrollmentOutcome.Reason.ALREADY_ENROLLED);
+        }
+        if (waitlistEngine != null) {
+            waitlistEngine.leave(studentId, course.getCourseCode());
+        }
+        return EnrollmentOutcome.enrolled(enrollment);
+    }
+
+    void sendEnrollmentConfirmation(Student student, Course course) {
         notificationService.sendEmail(student.getEmail(),
                 "Enrollment Confirmation",
                 "You have been enrolled in: " + course.getCourseName());
+    }
 
-        return enrollment;
+    /**
+     * Mencatat penolakan ke metrik
+     * @return Outcome bersama untuk alasan tersebut
+     */
+    EnrollmentOutcome reject(EnrollmentOutcome.Reason reason) {
+        return reject(metrics, reason);
+    }
+
+    /**
+     * Exception penolakan sesuai mode setStacklessRejections
+     */
+    RuntimeException toException(EnrollmentOutcome outcome, String studentId, String courseCode) {
+        return outcome.toException(studentId, courseCode, !stacklessRejections);
+    }
+
+    EnrollmentIdGenerator getEnrollmentIdGenerator() {
+        return enrollmentIdGenerator;
+    }
+
+    AdmissionController getAdmissionController() {
+        return admissionController;
+    }
+
+    PrerequisiteEngine getPrerequisiteEngine() {
+        return prerequisiteEngine;
+    }
+
+    private static EnrollmentOutcome reject(EnrollmentMetrics metrics, EnrollmentOutcome.Reason reason) {
+        metrics.reject(reason);
+        return EnrollmentOutcome.rejected(reason);
+    }
+
+    /**
+     * Mendaftarkan mahasiswa ke beberapa mata kuliah sekaligus (satu pengajuan KRS).
+     * Mahasiswa hanya dimuat sekali, mata kuliah diambil dengan satu bulk lookup,
+     * prasyarat dicek dalam satu kali panggilan, setiap Course di-update sekali
+     * dan hanya satu email ringkasan yang dikirim.
+     * Kegagalan per mata kuliah dicatat di hasil, bukan menghentikan proses.
+     *
+     * @param studentId ID mahasiswa
+     * @param courseCodes Daftar kode mata kuliah, duplikat diabaikan
+     * @return BatchEnrollmentResult berisi enrollment berhasil dan kegagalan per mata kuliah
+     * @throws StudentNotFoundException jika mahasiswa tidak ditemukan
+     * @throws EnrollmentException jika mahasiswa di-suspend
+     * @throws AdmissionRejectedException jika permintaan ditolak admission control
+     */
+    public BatchEnrollmentResult enrollCourses(String studentId, List<String> courseCodes) {
+        if (admissionController != null) {
+            return admissionController.execute(studentId, () -> doEnrollCourses(studentId, courseCodes));
+        }
+        return doEnrollCourses(studentId, courseCodes);
+    }
+
+    private BatchEnrollmentResult doEnrollCourses(String studentId, List<String> courseCodes) {
+        // Validate student once for the whole submission
+        Student student = studentRepository.findById(studentId);
+        if (student == null) {
+            throw new StudentNotFoundException("Student not found: " + studentId);
+        }
+        if (student.isSuspended()) {
+            throw new EnrollmentException("Student is suspended");
+        }
+
+        BatchEnrollmentResult result = new BatchEnrollmentResult(studentId);
+        Set<String> requested = new LinkedHashSet<>(courseCodes);
+
+        // Fetch all courses in one call, drop missing and full ones early
+        Map<String, Course> courses = courseRepository.findByCourseCodes(requested);
+        List<String> candidates = new ArrayList<>(requested.size());
+        for (String courseCode : requested) {
+            Course course = courses.get(courseCode);
+            if (course == null) {
+                addRejection(result, courseCode, EnrollmentOutcome.Reason.COURSE_NOT_FOUND);
+            } else if (isEnrolled(studentId, courseCode)) {
+                addRejection(result, courseCode, EnrollmentOutcome.Reason.ALREADY_ENROLLED);
+            } else if (course.getEnrolledCount() >= course.getCapacity()) {
+                addRejection(result, courseCode, EnrollmentOutcome.Reason.COURSE_FULL);
+            } else {
+                candidates.add(courseCode);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return result;
+        }
+
+        // Check prerequisites in one pass, then claim seats
+        Set<String> prerequisitesMet = findPrerequisitesMet(studentId, candidates);
+        List<Course> enrolledCourses = new ArrayList<>(candidates.size());
+        for (String courseCode : candidates) {
+            Course course = courses.get(courseCode);
+            if (!prerequisitesMet.contains(courseCode)) {
+                addRejection(result, courseCode, EnrollmentOutcome.Reason.PREREQUISITE_NOT_MET);
+                continue;
+            }
+            EnrollmentOutcome.Reason rejected = claimSeat(studentId, student, course);
+            if (rejected != null) {
+                addRejection(result, courseCode, rejected);
+                continue;
+            }
+            Enrollment enrollment = newEnrollment(studentId, courseCode);
+            if (enrollmentRepository != null && !enrollmentRepository.add(enrollment)) {
+                releaseSeat(studentId, course);
+                addRejection(result, courseCode, EnrollmentOutcome.Reason.ALREADY_ENROLLED);
+            } else {
+                result.addEnrollment(enrollment);
+                enrolledCourses.add(course);
+            }
+        }
+        if (enrolledCourses.isEmpty()) {
+            return result;
+        }
+
+        // All enrollments of the submission share one journal group commit
+        if (enrollmentJournal != null) {
+            try {
+                enrollmentJournal.recordEnrollments(result.getEnrollments().values());
+            } catch (RuntimeException e) {
+                for (Course course : enrolledCourses) {
+                    rollback(result.getEnrollments().get(course.getCourseCode()), course);
+                }
+                throw e;
+            }
+        }
+
+        // One update per course, one summary notification
+        StringBuilder message = new StringBuilder("You have been enrolled in:");
+        for (Course course : enrolledCourses) {
+            courseRepository.update(course);
+            message.append("\n- ").append(course.getCourseName());
+        }
+        if (!result.isAllSucceeded()) {
+            message.append("\nNot enrolled: ").append(String.join(", ", result.getFailures().keySet()));
+        }
+        notificationService.sendEmail(student.getEmail(), "Enrollment Summary", message.toString());
+
+        return result;
+    }
+
+    /**
+     * Mendaftarkan mahasiswa ke sekumpulan mata kuliah secara all-or-nothing,
+     * misalnya kuliah beserta praktikumnya. Jika satu saja gagal, tidak ada yang terdaftar.
+     *
+     * Total SKS harus muat di GradeCalculator.calculateMaxCredits. Kursi diklaim sambil memegang
+     * lock bergaris semua mata kuliah tersebut (diambil berurutan, bebas deadlock), sehingga transaksi
+     * yang tumpang tindih berjalan bergantian sementara transaksi pada mata kuliah lain tetap paralel.
+     * enrollCourse tunggal tidak mengambil lock, kursi yang sedang diklaim transaksi
+     * yang akhirnya gagal bisa membuatnya ditolak sesaat sebagai kelas penuh.
+     *
+     * @param studentId ID mahasiswa
+     * @param courseCodes Daftar kode mata kuliah, duplikat diabaikan
+     * @return Enrollment untuk setiap mata kuliah, sesuai urutan permintaan
+     * @throws IllegalArgumentException jika daftar mata kuliah kosong
+     * @throws StudentNotFoundException jika mahasiswa tidak ditemukan
+     * @throws EnrollmentException jika mahasiswa di-suspend, sudah terdaftar di salah satu
+     *         mata kuliah atau total SKS melebihi batas
+     * @throws CourseNotFoundException jika salah satu mata kuliah tidak ditemukan
+     * @throws CourseFullException jika salah satu mata kuliah sudah penuh
+     * @throws PrerequisiteNotMetException jika prasyarat salah satu mata kuliah tidak terpenuhi
+     * @throws AdmissionRejectedException jika permintaan ditolak admission control
+     */
+    public List<Enrollment> enrollCoursesAtomically(String studentId, List<String> courseCodes) {
+        if (admissionController != null) {
+            return admissionController.execute(studentId, () -> doEnrollCoursesAtomically(studentId, courseCodes));
+        }
+        return doEnrollCoursesAtomically(studentId, courseCodes);
+    }
+
+    private List<Enrollment> doEnrollCoursesAtomically(String studentId, List<String> courseCodes) {
+        Set<String> requested = new LinkedHashSet<>(courseCodes);
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("At least one course is required");
+        }
+        Student student = studentRepository.findById(studentId);
+        if (student == null) {
+            throw rejection(EnrollmentOutcome.Reason.STUDENT_NOT_FOUND, studentId, null);
+        }
+        if (student.isSuspended()) {
+            throw rejection(EnrollmentOutcome.Reason.STUDENT_SUSPENDED, studentId, null);
+        }
+
+        // Everything that does not depend on seats is checked before taking any lock
+        Map<String, Course> courses = courseRepository.findByCourseCodes(requested);
+        List<Course> bundle = new ArrayList<>(requested.size());
+        int totalCredits = 0;
+        for (String courseCode : requested) {
+            Course course = courses.get(courseCode);
+            if (course == null) {
+                throw rejection(EnrollmentOutcome.Reason.COURSE_NOT_FOUND, studentId, courseCode);
+            }
+            bundle.add(course);
+            totalCredits += course.getCredits();
+        }
+        int maxCredits = gradeCalculator.calculateMaxCredits(student.getMajor(), student.getGpa());
+        int load = creditLoadTracker != null ? creditLoadTracker.getLoad(studentId) + totalCredits : totalCredits;
+        if (load > maxCredits) {
+            throw new EnrollmentException("Credit limit exceeded: " + load + " > " + maxCredits);
+        }
+        Set<String> prerequisitesMet = findPrerequisitesMet(studentId, requested);
+        for (String courseCode : requested) {
+            if (!prerequisitesMet.contains(courseCode)) {
+                throw rejection(EnrollmentOutcome.Reason.PREREQUISITE_NOT_MET, studentId, courseCode);
+            }
+        }
+
+        List<Enrollment> enrollments = courseLocks.withLocks(requested, () -> claimAll(studentId, student, bundle));
+
+        StringBuilder message = new StringBuilder("You have been enrolled in:");
+        for (Course course : bundle) {
+            courseRepository.update(course);
+            if (waitlistEngine != null) {
+                waitlistEngine.leave(studentId, course.getCourseCode());
+            }
+            message.append("\n- ").append(course.getCourseName());
+        }
+        notificationService.sendEmail(student.getEmail(), "Enrollment Summary", message.toString());
+        return enrollments;
+    }
+
+    /**
+     * Mengklaim kursi dan menyimpan enrollment semua mata kuliah, dipanggil sambil memegang lock.
+     * Semua yang sudah diklaim dikembalikan begitu satu mata kuliah gagal.
+     */
+    private List<Enrollment> claimAll(String studentId, Student student, List<Course> bundle) {
+        List<Enrollment> enrollments = new ArrayList<>(bundle.size());
+        try {
+            for (Course course : bundle) {
+                String courseCode = course.getCourseCode();
+                if (isEnrolled(studentId, courseCode)) {
+                    throw rejection(EnrollmentOutcome.Reason.ALREADY_ENROLLED, studentId, courseCode);
+                }
+                EnrollmentOutcome.Reason rejected = claimSeat(studentId, student, course);
+                if (rejected != null) {
+                    throw rejection(rejected, studentId, courseCode);
+                }
+                Enrollment enrollment = newEnrollment(studentId, courseCode);
+                if (enrollmentRepository != null && !enrollmentRepository.add(enrollment)) {
+                    releaseSeat(studentId, course);
+                    throw rejection(EnrollmentOutcome.Reason.ALREADY_ENROLLED, studentId, courseCode);
+                }
+                enrollments.add(enrollment);
+            }
+            // One group commit for the whole bundle
+            if (enrollmentJournal != null) {
+                enrollmentJournal.recordEnrollments(enrollments);
+            }
+        } catch (RuntimeException e) {
+            for (int i = 0; i < enrollments.size(); i++) {
+                rollback(enrollments.get(i), bundle.get(i));
+            }
+            throw e;
+        }
+        return List.copyOf(enrollments);
+    }
+
+    private RuntimeException rejection(EnrollmentOutcome.Reason reason, String studentId, String courseCode) {
+        return toException(EnrollmentOutcome.rejected(reason), studentId, courseCode);
+    }
+
+    private void addRejection(BatchEnrollmentResult result, String courseCode, EnrollmentOutcome.Reason reason) {
+        result.addFailure(courseCode, rejection(reason, result.getStudentId(), courseCode));
     }
 
     /**
      * Validasi batas SKS yang boleh diambil mahasiswa
      * Method ini akan diuji dengan STUB
+     * Jika CreditLoadTracker aktif, SKS yang sudah diambil ikut dihitung
      *
      * @param studentId ID mahasiswa
-     * @param requestedCredits Jumlah SKS yang diminta
+     * @param requestedCredits Jumlah SKS yang diminta (tambahan, jika CreditLoadTracker aktif)
      * @return true jika SKS masih dalam batas, false jika melebihi
      * @throws StudentNotFoundException jika mahasiswa tidak ditemukan
      */
@@ -106,8 +611,9 @@ public class EnrollmentService {
             throw new StudentNotFoundException("Student not found");
         }
 
-        int maxCredits = gradeCalculator.calculateMaxCredits(student.getGpa());
-        return requestedCredits <= maxCredits;
+        int maxCredits = gradeCalculator.calculateMaxCredits(student.getMajor(), student.getGpa());
+        int currentLoad = creditLoadTracker != null ? creditLoadTracker.getLoad(studentId) : 0;
+        return currentLoad + requestedCredits <= maxCredits;
     }
 
     /**
@@ -118,6 +624,7 @@ public class EnrollmentService {
      * @param courseCode Kode mata kuliah
      * @throws StudentNotFoundException jika mahasiswa tidak ditemukan
      * @throws CourseNotFoundException jika mata kuliah tidak ditemukan
+     * @throws EnrollmentException jika mahasiswa tidak terdaftar atau mata kuliah tidak memiliki peserta
      */
     public void dropCourse(String studentId, String courseCode) {
         Student student = studentRepository.findById(studentId);
@@ -130,21 +637,246 @@ public class EnrollmentService {
             throw new CourseNotFoundException("Course not found");
         }
 
-        // Update enrollment count
-        course.setEnrolledCount(course.getEnrolledCount() - 1);
+        // Only an enrolled student can drop the course
+        Enrollment dropped = null;
+        if (enrollmentRepository != null) {
+            dropped = enrollmentRepository.remove(studentId, courseCode);
+            if (dropped == null) {
+                throw new EnrollmentException("Student is not enrolled in: " + courseCode);
+            }
+        }
+
+        if (course.getEnrolledCount() <= 0) {
+            if (dropped != null) {
+                enrollmentRepository.add(dropped);
+            }
+            throw new EnrollmentException("No enrolled seat to release in: " + courseCode);
+        }
+
+        // Journal while the seat is still held, so a failed write is undone without racing enrollments for it
+        if (enrollmentJournal != null) {
+            try {
+                enrollmentJournal.recordDrop(studentId, courseCode);
+            } catch (RuntimeException e) {
+                if (dropped != null) {
+                    enrollmentRepository.add(dropped);
+                }
+                throw e;
+            }
+        }
+
+        // Release the seat, the drop is durable by now so it is never undone
+        if (!course.releaseSeat()) {
+            throw new IllegalStateException("Drop from " + courseCode + " was recorded but the course had no "
+                    + "enrolled seat left to release, enrolledCount is out of sync with the roster");
+        }
+        if (dropped != null) {
+            releaseCredits(studentId, course);
+        }
         courseRepository.update(course);
 
         // Send notification
         notificationService.sendEmail(student.getEmail(),
                 "Course Drop Confirmation",
                 "You have dropped: " + course.getCourseName());
+
+        // Hand the freed seat to the waitlist
+        promoteFromWaitlist(course);
+    }
+
+    /**
+     * Memasukkan mahasiswa ke waitlist mata kuliah, menggantikan retry enrollCourse saat kelas penuh.
+     * Jika ternyata ada kursi kosong, antrean langsung diproses.
+     *
+     * @param studentId ID mahasiswa
+     * @param courseCode Kode mata kuliah
+     * @return Posisi di waitlist (mulai dari 1), atau 0 jika mahasiswa langsung mendapat kursi
+     * @throws IllegalStateException jika waitlist tidak diaktifkan
+     * @throws StudentNotFoundException jika mahasiswa tidak ditemukan
+     * @throws EnrollmentException jika mahasiswa di-suspend atau sudah terdaftar di mata kuliah
+     * @throws CourseNotFoundException jika mata kuliah tidak ditemukan
+     * @throws PrerequisiteNotMetException jika prasyarat tidak terpenuhi
+     */
+    public int joinWaitlist(String studentId, String courseCode) {
+        if (waitlistEngine == null) {
+            throw new IllegalStateException("Waitlist is not enabled");
+        }
+        Student student = studentRepository.findById(studentId);
+        if (student == null) {
+            throw new StudentNotFoundException("Student not found: " + studentId);
+        }
+        if (student.isSuspended()) {
+            throw new EnrollmentException("Student is suspended");
+        }
+        Course course = courseRepository.findByCourseCode(courseCode);
+        if (course == null) {
+            throw new CourseNotFoundException("Course not found: " + courseCode);
+        }
+        if (isEnrolled(studentId, courseCode)) {
+            throw new EnrollmentException("Student is already enrolled in: " + courseCode);
+        }
+        if (!isPrerequisiteMet(studentId, courseCode)) {
+            throw new PrerequisiteNotMetException("Prerequisites not met");
+        }
+
+        waitlistEngine.join(studentId, courseCode);
+        if (course.getEnrolledCount() < course.getCapacity()) {
+            promoteFromWaitlist(course);
+        }
+        return Math.max(0, waitlistEngine.position(studentId, courseCode));
+    }
+
+    /**
+     * Mengeluarkan mahasiswa dari waitlist mata kuliah
+     * @param studentId ID mahasiswa
+     * @param courseCode Kode mata kuliah
+     * @return true jika keluar, false jika memang tidak ada di waitlist
+     */
+    public boolean leaveWaitlist(String studentId, String courseCode) {
+        return waitlistEngine != null && waitlistEngine.leave(studentId, courseCode);
+    }
+
+    /**
+     * Mata kuliah yang ditambahkan setelah PrerequisiteEngine dikompilasi dicek lewat repository
+     */
+    private boolean isPrerequisiteMet(String studentId, String courseCode) {
+        PrerequisiteEngine engine = prerequisiteEngine;
+        return engine != null && engine.isCompiled(courseCode)
+                ? engine.isPrerequisiteMet(studentId, courseCode)
+                : courseRepository.isPrerequisiteMet(studentId, courseCode);
+    }
+
+    private Set<String> findPrerequisitesMet(String studentId, Collection<String> courseCodes) {
+        PrerequisiteEngine engine = prerequisiteEngine;
+        if (engine == null) {
+            return courseRepository.findPrerequisitesMet(studentId, courseCodes);
+        }
+        Set<String> met = engine.findPrerequisitesMet(studentId, courseCodes);
+        List<String> uncompiled = new ArrayList<>();
+        for (String courseCode : courseCodes) {
+            if (!engine.isCompiled(courseCode)) {
+                uncompiled.add(courseCode);
+            }
+        }
+        if (!uncompiled.isEmpty()) {
+            met.addAll(courseRepository.findPrerequisitesMet(studentId, uncompiled));
+        }
+        return met;
+    }
+
+    /**
+     * Membuat enrollment untuk kursi yang sudah diklaim: simpan ke repository
+     * lalu catat ke journal. Kursi dan SKS dikembalikan jika salah satunya gagal.
+     * Pemanggil tetap wajib meng-update Course setelahnya.
+     * @return Enrollment baru, atau null jika kalah balapan dengan pendaftaran ganda
+     */
+    private Enrollment commitEnrollment(String studentId, Course course) {
+        // A concurrent duplicate loses here and gives the seat back
+        Enrollment enrollment = newEnrollment(studentId, course.getCourseCode());
+        if (enrollmentRepository != null && !enrollmentRepository.add(enrollment)) {
+            releaseSeat(studentId, course);
+            return null;
+        }
+
+        // Make the enrollment durable, undo it if that fails
+        if (enrollmentJournal != null) {
+            try {
+                enrollmentJournal.recordEnrollment(enrollment);
+            } catch (RuntimeException e) {
+                rollback(enrollment, course);
+                throw e;
+            }
+        }
+        return enrollment;
+    }
+
+    /**
+     * Status dan prasyarat dicek ulang untuk setiap mahasiswa di depan antrean,
+     * karena keduanya bisa berubah selama menunggu
+     */
+    private void promoteFromWaitlist(Course course) {
+        if (waitlistEngine == null) {
+            return;
+        }
+        String courseCode = course.getCourseCode();
+        waitlistEngine.promote(courseCode, candidateId -> {
+            Student candidate = studentRepository.findById(candidateId);
+            if (candidate == null || candidate.isSuspended() || isEnrolled(candidateId, courseCode)
+                    || !isPrerequisiteMet(candidateId, courseCode)) {
+                return WaitlistEngine.Attempt.INELIGIBLE;
+            }
+            EnrollmentOutcome.Reason rejected = reserveSeat(candidateId, candidate, course);
+            if (rejected == EnrollmentOutcome.Reason.COURSE_FULL) {
+                return WaitlistEngine.Attempt.NO_SEAT;
+            }
+            if (rejected != null || commitEnrollment(candidateId, course) == null) {
+                return WaitlistEngine.Attempt.INELIGIBLE;
+            }
+            courseRepository.update(course);
+            notificationExecutor.execute(() -> notificationService.sendEmail(candidate.getEmail(),
+                    "Waitlist Promotion",
+                    "A seat opened up and you have been enrolled in: " + course.getCourseName()));
+            return WaitlistEngine.Attempt.ENROLLED;
+        });
+    }
+
+    private boolean isEnrolled(String studentId, String courseCode) {
+        return enrollmentRepository != null && enrollmentRepository.exists(studentId, courseCode);
+    }
+
+    /**
+     * Mengklaim kursi untuk pendaftaran biasa. Kursi kosong milik waitlist selama antreannya
+     * tidak kosong, jadi hanya promoteFromWaitlist yang boleh mengambilnya
+     * @return null jika berhasil, atau alasan penolakan
+     */
+    private EnrollmentOutcome.Reason claimSeat(String studentId, Student student, Course course) {
+        if (waitlistEngine != null && waitlistEngine.size(course.getCourseCode()) > 0) {
+            return EnrollmentOutcome.Reason.COURSE_FULL;
+        }
+        return reserveSeat(studentId, student, course);
     }
 
     /**
-     * Generate unique enrollment ID
-     * @return Enrollment ID
+     * Mengklaim SKS lalu kursi mata kuliah, SKS dikembalikan jika kursi habis
+     * @return null jika berhasil, atau alasan penolakan
      */
-    private String generateEnrollmentId() {
-        return "ENR-" + System.currentTimeMillis();
+    private EnrollmentOutcome.Reason reserveSeat(String studentId, Student student, Course course) {
+        if (creditLoadTracker != null && !creditLoadTracker.tryAdd(studentId, course.getCredits(),
+                gradeCalculator.calculateMaxCredits(student.getMajor(), student.getGpa()))) {
+            return EnrollmentOutcome.Reason.CREDIT_LIMIT_EXCEEDED;
+        }
+        if (!course.tryReserveSeat()) {
+            releaseCredits(studentId, course);
+            return EnrollmentOutcome.Reason.COURSE_FULL;
+        }
+        return null;
+    }
+
+    private void releaseSeat(String studentId, Course course) {
+        course.releaseSeat();
+        releaseCredits(studentId, course);
+    }
+
+    private void releaseCredits(String studentId, Course course) {
+        if (creditLoadTracker != null) {
+            creditLoadTracker.release(studentId, course.getCredits());
+        }
+    }
+
+    private void rollback(Enrollment enrollment, Course course) {
+        if (enrollmentRepository != null) {
+            enrollmentRepository.remove(enrollment.getStudentId(), enrollment.getCourseCode());
+        }
+        releaseSeat(enrollment.getStudentId(), course);
+    }
+
+    private Enrollment newEnrollment(String studentId, String courseCode) {
+        Enrollment enrollment = new Enrollment();
+        enrollment.setEnrollmentKey(enrollmentIdGenerator.nextId());
+        enrollment.setStudentId(studentId);
+        enrollment.setCourseCode(courseCode);
+        enrollment.setEnrollmentDate(LocalDateTime.now());
+        enrollment.setStatus(EnrollmentStatus.APPROVED);
+        return enrollment;
     }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.siakad.service;
+
+import com.siakad.model.CourseGrade;
+
+import java.util.List;
+
+/**
+ * Akumulator IPK inkremental untuk satu mahasiswa.
+ * Menyimpan total (Grade Point × SKS) dan total SKS, sehingga menambah, menghapus
+ * atau mengganti satu nilai cukup O(1) tanpa menghitung ulang seluruh transkrip.
+ *
+ * Total poin disimpan sebagai fixed-point (1/1.000.000 poin) agar tidak ada error
+ * pembulatan yang menumpuk akibat penambahan dan pengurangan berulang. IPK dihitung
+ * dengan rumus dan pembulatan yang sama dengan GradeCalculator.calculateGPA; hasilnya
+ * identik selama penjumlahan double di calculateGPA sendiri eksak (misalnya skala
+ * 4.0/3.5/3.0/.../0.0). Untuk grade point seperti 3.7 atau 3.3, calculateGPA
+ * bergantung pada urutan nilai, sedangkan akumulator selalu memakai total eksak.
+ */
+
+public class GpaAccumulator {
+    private static final double SCALE = 1_000_000.0;
+
+    private long totalPointsScaled;
+    private int totalCredits;
+    private int gradeCount;
+
+    public GpaAccumulator() {
+    }
+
+    /**
+     * Membuat akumulator dari transkrip yang sudah ada
+     * @param grades List of CourseGrade
+     * @return GpaAccumulator berisi semua nilai
+     * @throws IllegalArgumentException jika grade point invalid (< 0 atau > 4.0)
+     */
+    public static GpaAccumulator of(List<CourseGrade> grades) {
+        GpaAccumulator accumulator = new GpaAccumulator();
+        if (grades != null) {
+            for (CourseGrade grade : grades) {
+                accumulator.add(grade);
+            }
+        }
+        return accumulator;
+    }
+
+    /**
+     * Menambahkan satu nilai
+     * @param grade CourseGrade yang ditambahkan
+     * @throws IllegalArgumentException jika grade point invalid (< 0 atau > 4.0)
+     */
+    public void add(CourseGrade grade) {
+        totalPointsScaled += scaledPoints(grade);
+        totalCredits += grade.getCredits();
+        gradeCount++;
+    }
+
+    /**
+     * Menghapus satu nilai yang sebelumnya ditambahkan
+     * @param grade CourseGrade yang dihapus
+     * @throws IllegalArgumentException jika grade point invalid (< 0 atau > 4.0)
+     * @throws IllegalStateException jika tidak ada nilai yang bisa dihapus
+     */
+    public void remove(CourseGrade grade) {
+        long points = scaledPoints(grade);
+        if (gradeCount == 0 || grade.getCredits() > totalCredits) {
+            throw new IllegalStateException("Grade was not added: " + grade.getCourseCode());
+        }
+        totalPointsScaled -= points;
+        totalCredits -= grade.getCredits();
+        gradeCount--;
+    }
+
+    /**
+     * Mengganti satu nilai, misalnya saat perbaikan nilai
+     * @param oldGrade CourseGrade lama
+     * @param newGrade CourseGrade baru
+     * @throws IllegalArgumentException jika grade point invalid (< 0 atau > 4.0)
+     * @throws IllegalStateException jika nilai lama tidak bisa dihapus
+     */
+    public void replace(CourseGrade oldGrade, CourseGrade newGrade) {
+        long newPoints = scaledPoints(newGrade);
+        remove(oldGrade);
+        totalPointsScaled += newPoints;
+        totalCredits += newGrade.getCredits();
+        gradeCount++;
+    }
+
+    /**
+     * @return IPK dengan pembulatan 2 desimal, 0.0 jika belum ada SKS
+     */
+    public double getGpa() {
+        if (totalCredits == 0) {
+            return 0.0;
+        }
+        double totalPoints = totalPointsScaled / SCALE;
+        return Math.round((totalPoints / totalCredits) * 100.0) / 100.0;
+    }
+
+    public int getTotalCredits() {
+        return totalCredits;
+    }
+
+    public int getGradeCount() {
+        return gradeCount;
+    }
+
+    private static long scaledPoints(CourseGrade grade) {
+        if (grade.getGradePoint() < 0 || grade.getGradePoint() > 4.0) {
+            throw new IllegalArgumentException("Invalid grade point: " + grade.getGradePoint());
+        }
+        return Math.round(grade.getGradePoint() * grade.getCredits() * SCALE);
+    }
+}
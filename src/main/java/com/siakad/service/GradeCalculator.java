@@ -9,6 +9,23 @@ import java.util.List;
  */
 
 public class GradeCalculator {
+    private static final long MAX_GRADE_POINT_BITS = Double.doubleToRawLongBits(4.0);
+
+    private final AcademicPolicyEngine policyEngine;
+
+    /**
+     * Memakai aturan akademik default
+     */
+    public GradeCalculator() {
+        this(AcademicPolicyEngine.defaults());
+    }
+
+    /**
+     * @param policyEngine Aturan akademik per fakultas atau program studi
+     */
+    public GradeCalculator(AcademicPolicyEngine policyEngine) {
+        this.policyEngine = policyEngine;
+    }
 
     /**
      * Menghitung IPK (Indeks Prestasi Kumulatif) mahasiswa
@@ -42,10 +59,73 @@ public class GradeCalculator {
         return Math.round((totalPoints / totalCredits) * 100.0) / 100.0;
     }
 
+    /**
+     * Menghitung IPK banyak mahasiswa sekaligus dari data kolom (tanpa objek CourseGrade).
+     * Nilai mahasiswa ke-i berada di indeks offsets[i] sampai offsets[i + 1] - 1.
+     * Setiap IPK dijumlahkan berurutan seperti calculateGPA sehingga hasilnya identik,
+     * termasuk pengecekan grade point dan pembulatan 2 desimal. Urutan penjumlahan
+     * sengaja tidak diubah (tanpa reduksi SIMD) karena akan mengubah hasil pembulatan.
+     *
+     * @param gradePoints Grade point semua nilai
+     * @param credits SKS semua nilai, sejajar dengan gradePoints
+     * @param offsets Indeks awal nilai setiap mahasiswa, panjang = jumlah mahasiswa + 1
+     * @return IPK setiap mahasiswa
+     * @throws IllegalArgumentException jika ada grade point invalid (< 0 atau > 4.0)
+     *                                  atau ukuran array tidak konsisten
+     */
+    public double[] calculateGPAs(double[] gradePoints, int[] credits, int[] offsets) {
+        if (gradePoints.length != credits.length || offsets.length == 0
+                || offsets[0] != 0 || offsets[offsets.length - 1] != gradePoints.length) {
+            throw new IllegalArgumentException("Columns and offsets do not match");
+        }
+
+        // Integer-only pass: every bit pattern in [+0.0, 4.0] keeps both terms non-negative.
+        // -0.0 and NaN also land on the slow path, which applies the exact calculateGPA check
+        long outOfRange = 0;
+        for (double gradePoint : gradePoints) {
+            long bits = Double.doubleToRawLongBits(gradePoint);
+            outOfRange |= bits | (MAX_GRADE_POINT_BITS - bits);
+        }
+        if (outOfRange < 0) {
+            for (double gradePoint : gradePoints) {
+                if (gradePoint < 0 || gradePoint > 4.0) {
+                    throw new IllegalArgumentException("Invalid grade point: " + gradePoint);
+                }
+            }
+        }
+
+        for (int i = 1; i < offsets.length; i++) {
+            if (offsets[i] < offsets[i - 1]) {
+                throw new IllegalArgumentException("Offsets must not decrease");
+            }
+        }
+
+        double[] gpas = new double[offsets.length - 1];
+        for (int student = 0; student < gpas.length; student++) {
+            gpas[student] = columnGPA(gradePoints, credits, offsets[student], offsets[student + 1]);
+        }
+        return gpas;
+    }
+
+    private static double columnGPA(double[] gradePoints, int[] credits, int from, int to) {
+        // Sequential sum in transcript order, same as calculateGPA
+        double totalPoints = 0.0;
+        int totalCredits = 0;
+        for (int i = from; i < to; i++) {
+            totalPoints += gradePoints[i] * credits[i];
+            totalCredits += credits[i];
+        }
+        if (totalCredits == 0) {
+            return 0.0;
+        }
+        return Math.round((totalPoints / totalCredits) * 100.0) / 100.0;
+    }
+
     /**
      * Menentukan status akademik mahasiswa berdasarkan IPK dan semester
+     * dengan aturan default dari AcademicPolicyEngine
      *
-     * Aturan:
+     * Aturan default:
      * - Semester 1-2: IPK >= 2.0 → ACTIVE, IPK < 2.0 → PROBATION
      * - Semester 3-4: IPK >= 2.25 → ACTIVE, IPK 2.0-2.24 → PROBATION, IPK < 2.0 → SUSPENDED
      * - Semester 5+: IPK >= 2.5 → ACTIVE, IPK 2.0-2.49 → PROBATION, IPK < 2.0 → SUSPENDED
@@ -56,37 +136,27 @@ public class GradeCalculator {
      * @throws IllegalArgumentException jika gpa atau semester invalid
      */
     public String determineAcademicStatus(double gpa, int semester) {
-        if (gpa < 0 || gpa > 4.0) {
-            throw new IllegalArgumentException("GPA must be between 0 and 4.0");
-        }
-
-        if (semester < 1) {
-            throw new IllegalArgumentException("Semester must be positive");
-        }
-
-        // Semester 1-2: minimal IPK 2.0
-        if (semester <= 2) {
-            return gpa >= 2.0 ? "ACTIVE" : "PROBATION";
-        }
-
-        // Semester 3-4: minimal IPK 2.25
-        if (semester <= 4) {
-            if (gpa >= 2.25) return "ACTIVE";
-            if (gpa >= 2.0) return "PROBATION";
-            return "SUSPENDED";
-        }
+        return determineAcademicStatus(null, gpa, semester);
+    }
 
-        // Semester 5+: minimal IPK 2.5
-        if (gpa >= 2.5) return "ACTIVE";
-        if (gpa >= 2.0) return "PROBATION";
-        return "SUSPENDED";
+    /**
+     * Menentukan status akademik dengan aturan program studi mahasiswa
+     *
+     * @param major Program studi, null untuk aturan default
+     * @param gpa IPK mahasiswa (0.0 - 4.0)
+     * @param semester Semester mahasiswa (harus > 0)
+     * @return Status akademik: ACTIVE, PROBATION, atau SUSPENDED
+     * @throws IllegalArgumentException jika gpa atau semester invalid
+     */
+    public String determineAcademicStatus(String major, double gpa, int semester) {
+        return policyEngine.determineAcademicStatus(major, gpa, semester).name();
     }
 
     /**
      * Menghitung jumlah SKS maksimal yang boleh diambil mahasiswa
-     * berdasarkan IPK
+     * berdasarkan IPK, dengan aturan default dari AcademicPolicyEngine
      *
-     * Aturan:
+     * Aturan default:
      * - IPK >= 3.0: maksimal 24 SKS
      * - IPK 2.5-2.99: maksimal 21 SKS
      * - IPK 2.0-2.49: maksimal 18 SKS
@@ -97,13 +167,18 @@ public class GradeCalculator {
      * @throws IllegalArgumentException jika gpa invalid
      */
     public int calculateMaxCredits(double gpa) {
-        if (gpa < 0 || gpa > 4.0) {
-            throw new IllegalArgumentException("GPA must be between 0 and 4.0");
-        }
+        return calculateMaxCredits(null, gpa);
+    }
 
-        if (gpa >= 3.0) return 24;
-        if (gpa >= 2.5) return 21;
-        if (gpa >= 2.0) return 18;
-        return 15;
+    /**
+     * Menghitung jumlah SKS maksimal dengan aturan program studi mahasiswa
+     *
+     * @param major Program studi, null untuk aturan default
+     * @param gpa IPK mahasiswa (0.0 - 4.0)
+     * @return Jumlah SKS maksimal yang boleh diambil
+     * @throws IllegalArgumentException jika gpa invalid
+     */
+    public int calculateMaxCredits(String major, double gpa) {
+        return policyEngine.calculateMaxCredits(major, gpa);
     }
 }
@@ -0,0 +1,100 @@
+package com.siakad.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram latensi lock-free dengan bucket log-linear (gaya HdrHistogram).
+ * Setiap pangkat dua dibagi 64 sub-bucket, sehingga nilai persentil
+ * memiliki galat relatif paling besar 1/64 (sekitar 1.6%).
+ * record hanya melakukan satu increment atomik, tanpa lock dan tanpa alokasi.
+ */
+
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS * (Long.SIZE - SUB_BUCKET_BITS);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * @param nanos Latensi dalam nanodetik, nilai negatif dianggap 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(value));
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * Snapshot tidak atomik terhadap record yang sedang berjalan,
+     * tetapi setiap bucket terbaca utuh
+     * @return Ringkasan persentil saat ini
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        long observedMax = max.get();
+        return new Snapshot(count,
+                percentile(copy, count, 0.50, observedMax),
+                percentile(copy, count, 0.99, observedMax),
+                percentile(copy, count, 0.999, observedMax),
+                observedMax);
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        max.set(0);
+    }
+
+    static int indexOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS * shift + (int) (value >>> shift);
+    }
+
+    /**
+     * @return Nilai tertinggi yang masuk ke bucket tersebut
+     */
+    static long highestValueAt(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >> SUB_BUCKET_BITS) - 1;
+        long mantissa = (index & (SUB_BUCKETS - 1)) + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    private static long percentile(long[] counts, long total, double quantile, long observedMax) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueAt(i), observedMax);
+            }
+        }
+        return observedMax;
+    }
+
+    /**
+     * Ringkasan histogram dalam nanodetik
+     */
+    public record Snapshot(long count, long p50, long p99, long p999, long max) {
+    }
+}
@@ -0,0 +1,170 @@
+package com.siakad.service;
+
+import com.siakad.model.Course;
+import com.siakad.repository.StudentRepository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Engine pengecekan prasyarat berbasis PrerequisiteGraph.
+ * Mata kuliah yang sudah diselesaikan setiap mahasiswa (dari StudentRepository.getCompletedCourses)
+ * disimpan sebagai bitset, sehingga isPrerequisiteMet tidak lagi membandingkan string.
+ *
+ * Cache bitset dibatasi jumlah mahasiswa dan umurnya. Entry mahasiswa langsung dibuang ketika
+ * repository melaporkan perubahan mata kuliah yang sudah diselesaikan (addCompletedCoursesListener);
+ * TTL menangkap perubahan yang tidak lewat repository tersebut.
+ * Mata kuliah yang ditambahkan setelah kompilasi tidak dikenal graf (isCompiled false)
+ * sampai recompile dipanggil; EnrollmentService memeriksanya lewat CourseRepository.
+ */
+
+public class PrerequisiteEngine {
+    private static final long DEFAULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final int DEFAULT_MAX_CACHED_STUDENTS = 100_000;
+
+    private final StudentRepository studentRepository;
+    private final long ttlNanos;
+    private final int maxCachedStudents;
+    private volatile Compiled compiled;
+
+    /**
+     * @param studentRepository Sumber mata kuliah yang sudah diselesaikan mahasiswa
+     * @param catalog Seluruh mata kuliah
+     * @throws IllegalArgumentException jika terdapat siklus prasyarat
+     */
+    public PrerequisiteEngine(StudentRepository studentRepository, Collection<Course> catalog) {
+        this(studentRepository, catalog, DEFAULT_TTL_MILLIS, DEFAULT_MAX_CACHED_STUDENTS);
+    }
+
+    /**
+     * @param studentRepository Sumber mata kuliah yang sudah diselesaikan mahasiswa
+     * @param catalog Seluruh mata kuliah
+     * @param ttlMillis Umur maksimal bitset mahasiswa di cache
+     * @param maxCachedStudents Jumlah maksimal mahasiswa di cache
+     * @throws IllegalArgumentException jika terdapat siklus prasyarat atau batas cache tidak positif
+     */
+    public PrerequisiteEngine(StudentRepository studentRepository, Collection<Course> catalog,
+                              long ttlMillis, int maxCachedStudents) {
+        if (ttlMillis < 1 || maxCachedStudents < 1) {
+            throw new IllegalArgumentException("Cache TTL and size must be positive");
+        }
+        this.studentRepository = studentRepository;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.maxCachedStudents = maxCachedStudents;
+        this.compiled = new Compiled(PrerequisiteGraph.compile(catalog));
+        studentRepository.addCompletedCoursesListener(this::invalidate);
+    }
+
+    /**
+     * @param courseCode Kode mata kuliah
+     * @return true jika mata kuliah ada di katalog saat kompilasi terakhir
+     */
+    public boolean isCompiled(String courseCode) {
+        return compiled.graph.idOf(courseCode) >= 0;
+    }
+
+    /**
+     * Mengecek apakah prasyarat mata kuliah sudah terpenuhi
+     * @param studentId ID mahasiswa
+     * @param courseCode Kode mata kuliah
+     * @return true jika prasyarat terpenuhi, false jika tidak atau mata kuliah tidak dikenal
+     */
+    public boolean isPrerequisiteMet(String studentId, String courseCode) {
+        Compiled current = compiled;
+        int courseId = current.graph.idOf(courseCode);
+        if (courseId < 0) {
+            return false;
+        }
+        return current.graph.isSatisfied(courseId, current.completedCourses(studentId));
+    }
+
+    /**
+     * Mengecek prasyarat beberapa mata kuliah sekaligus untuk satu mahasiswa
+     * @param studentId ID mahasiswa
+     * @param courseCodes Kode-kode mata kuliah
+     * @return Set kode mata kuliah yang prasyaratnya terpenuhi
+     */
+    public Set<String> findPrerequisitesMet(String studentId, Collection<String> courseCodes) {
+        Compiled current = compiled;
+        PrerequisiteGraph.CompletedCourses completed = current.completedCourses(studentId);
+        Set<String> met = new HashSet<>();
+        for (String courseCode : courseCodes) {
+            int courseId = current.graph.idOf(courseCode);
+            if (courseId >= 0 && current.graph.isSatisfied(courseId, completed)) {
+                met.add(courseCode);
+            }
+        }
+        return met;
+    }
+
+    /**
+     * Menghapus bitset mahasiswa dari cache. Dipanggil otomatis oleh repository yang melaporkan
+     * perubahan, panggil manual jika mata kuliah yang sudah diselesaikan berubah di luar repository
+     * @param studentId ID mahasiswa
+     */
+    public void invalidate(String studentId) {
+        compiled.completedByStudent.remove(studentId);
+    }
+
+    /**
+     * Mengkompilasi ulang katalog dan menggantinya secara atomik.
+     * Cache bitset mahasiswa ikut diganti karena id mata kuliah bisa berubah.
+     * @param catalog Seluruh mata kuliah
+     * @throws IllegalArgumentException jika terdapat siklus prasyarat, graf lama tetap dipakai
+     */
+    public void recompile(Collection<Course> catalog) {
+        compiled = new Compiled(PrerequisiteGraph.compile(catalog));
+    }
+
+    /**
+     * @return Graf prasyarat yang sedang dipakai
+     */
+    public PrerequisiteGraph getGraph() {
+        return compiled.graph;
+    }
+
+    /**
+     * Graf beserta cache bitset mahasiswa yang dihitung terhadap graf tersebut
+     */
+    private final class Compiled {
+        private final PrerequisiteGraph graph;
+        private final ConcurrentHashMap<String, Cached> completedByStudent = new ConcurrentHashMap<>();
+
+        private Compiled(PrerequisiteGraph graph) {
+            this.graph = graph;
+        }
+
+        private PrerequisiteGraph.CompletedCourses completedCourses(String studentId) {
+            long now = System.nanoTime();
+            Cached cached = completedByStudent.get(studentId);
+            if (cached != null && now - cached.loadedAt < ttlNanos) {
+                return cached.courses;
+            }
+            // Loading inside compute means an invalidate racing with the load waits for it and then wins
+            cached = completedByStudent.compute(studentId, (id, current) ->
+                    current != null && now - current.loadedAt < ttlNanos ? current
+                            : new Cached(graph.toCompletedCourses(studentRepository.getCompletedCourses(id)), now));
+            if (completedByStudent.size() > maxCachedStudents) {
+                evictOne(studentId);
+            }
+            return cached.courses;
+        }
+
+        private void evictOne(String keep) {
+            Iterator<String> keys = completedByStudent.keySet().iterator();
+            while (keys.hasNext()) {
+                if (!keys.next().equals(keep)) {
+                    keys.remove();
+                    return;
+                }
+            }
+        }
+    }
+
+    private record Cached(PrerequisiteGraph.CompletedCourses courses, long loadedAt) {
+    }
+}
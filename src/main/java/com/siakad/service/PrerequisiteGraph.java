@@ -0,0 +1,239 @@
+package com.siakad.service;
+
+import com.siakad.model.Course;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Graf prasyarat seluruh katalog mata kuliah yang sudah dikompilasi (immutable DAG).
+ * Setiap kode mata kuliah dipetakan ke id integer, prasyarat setiap mata kuliah
+ * disimpan sebagai bitset (pasangan indeks word dan mask), sehingga pengecekan
+ * prasyarat hanya berupa beberapa operasi AND per word tanpa perbandingan string.
+ */
+
+public final class PrerequisiteGraph {
+    private static final int[] NO_WORDS = new int[0];
+    private static final long[] NO_BITS = new long[0];
+
+    private final Map<String, Integer> ids;
+    private final String[] codes;
+    private final int[][] requiredWords;
+    private final long[][] requiredBits;
+
+    private PrerequisiteGraph(Map<String, Integer> ids, String[] codes,
+                              int[][] requiredWords, long[][] requiredBits) {
+        this.ids = ids;
+        this.codes = codes;
+        this.requiredWords = requiredWords;
+        this.requiredBits = requiredBits;
+    }
+
+    /**
+     * Mengkompilasi katalog mata kuliah menjadi graf prasyarat.
+     * Kode prasyarat yang tidak ada di katalog tetap mendapat id.
+     *
+     * @param catalog Seluruh mata kuliah
+     * @return Graf prasyarat immutable
+     * @throws IllegalArgumentException jika terdapat siklus prasyarat
+     */
+    public static PrerequisiteGraph compile(Collection<Course> catalog) {
+        Map<String, Integer> ids = new HashMap<>(Math.max(16, catalog.size() * 4 / 3 + 1));
+        List<String> codes = new ArrayList<>(catalog.size());
+        for (Course course : catalog) {
+            assignId(course.getCourseCode(), ids, codes);
+        }
+        for (Course course : catalog) {
+            if (course.getPrerequisites() != null) {
+                for (String prerequisite : course.getPrerequisites()) {
+                    assignId(prerequisite, ids, codes);
+                }
+            }
+        }
+
+        int size = codes.size();
+        int[][] edges = new int[size][];
+        Arrays.fill(edges, NO_WORDS);
+        for (Course course : catalog) {
+            List<String> prerequisites = course.getPrerequisites();
+            if (prerequisites == null || prerequisites.isEmpty()) {
+                continue;
+            }
+            int[] targets = new int[prerequisites.size()];
+            for (int i = 0; i < targets.length; i++) {
+                targets[i] = ids.get(prerequisites.get(i));
+            }
+            edges[ids.get(course.getCourseCode())] = targets;
+        }
+        detectCycle(edges, codes);
+
+        int[][] requiredWords = new int[size][];
+        long[][] requiredBits = new long[size][];
+        for (int id = 0; id < size; id++) {
+            long[] dense = toWords(edges[id], size);
+            requiredWords[id] = NO_WORDS;
+            requiredBits[id] = NO_BITS;
+            if (edges[id].length > 0) {
+                compress(dense, requiredWords, requiredBits, id);
+            }
+        }
+        return new PrerequisiteGraph(Map.copyOf(ids), codes.toArray(new String[0]), requiredWords, requiredBits);
+    }
+
+    /**
+     * @param courseCode Kode mata kuliah
+     * @return Id integer mata kuliah, atau -1 jika tidak ada di graf
+     */
+    public int idOf(String courseCode) {
+        Integer id = courseCode == null ? null : ids.get(courseCode);
+        return id == null ? -1 : id;
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    /**
+     * Mengubah daftar mata kuliah yang sudah diselesaikan menjadi bitset sparse
+     * @param completed Mata kuliah yang sudah diselesaikan
+     * @return Bitset mata kuliah yang sudah diselesaikan
+     */
+    public CompletedCourses toCompletedCourses(Collection<Course> completed) {
+        if (completed == null || completed.isEmpty()) {
+            return CompletedCourses.EMPTY;
+        }
+        int[] completedIds = new int[completed.size()];
+        int count = 0;
+        for (Course course : completed) {
+            int id = idOf(course.getCourseCode());
+            if (id >= 0) {
+                completedIds[count++] = id;
+            }
+        }
+        long[] dense = toWords(Arrays.copyOf(completedIds, count), codes.length);
+        int[][] words = new int[1][];
+        long[][] bits = new long[1][];
+        compress(dense, words, bits, 0);
+        return new CompletedCourses(words[0], bits[0]);
+    }
+
+    /**
+     * Mengecek prasyarat mata kuliah terhadap bitset mata kuliah yang sudah diselesaikan
+     * @param courseId Id mata kuliah dari idOf
+     * @param completed Bitset mata kuliah yang sudah diselesaikan
+     * @return true jika semua prasyarat terpenuhi
+     */
+    public boolean isSatisfied(int courseId, CompletedCourses completed) {
+        int[] words = requiredWords[courseId];
+        long[] bits = requiredBits[courseId];
+        for (int i = 0; i < words.length; i++) {
+            if ((completed.word(words[i]) & bits[i]) != bits[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void assignId(String courseCode, Map<String, Integer> ids, List<String> codes) {
+        if (courseCode != null && !ids.containsKey(courseCode)) {
+            ids.put(courseCode, codes.size());
+            codes.add(courseCode);
+        }
+    }
+
+    private static long[] toWords(int[] members, int size) {
+        long[] words = new long[(size + 63) >>> 6];
+        for (int member : members) {
+            words[member >>> 6] |= 1L << member;
+        }
+        return words;
+    }
+
+    private static void compress(long[] dense, int[][] wordsOut, long[][] bitsOut, int slot) {
+        int nonZero = 0;
+        for (long word : dense) {
+            if (word != 0) nonZero++;
+        }
+        int[] words = new int[nonZero];
+        long[] bits = new long[nonZero];
+        int next = 0;
+        for (int i = 0; i < dense.length; i++) {
+            if (dense[i] != 0) {
+                words[next] = i;
+                bits[next++] = dense[i];
+            }
+        }
+        wordsOut[slot] = words;
+        bitsOut[slot] = bits;
+    }
+
+    private static void detectCycle(int[][] edges, List<String> codes) {
+        // Iterative DFS: 0 = unvisited, 1 = on stack, 2 = done
+        byte[] state = new byte[edges.length];
+        int[] parent = new int[edges.length];
+        int[] cursor = new int[edges.length];
+        Deque<Integer> stack = new ArrayDeque<>();
+        for (int root = 0; root < edges.length; root++) {
+            if (state[root] != 0) {
+                continue;
+            }
+            state[root] = 1;
+            parent[root] = -1;
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                int node = stack.peek();
+                if (cursor[node] == edges[node].length) {
+                    state[node] = 2;
+                    stack.pop();
+                    continue;
+                }
+                int next = edges[node][cursor[node]++];
+                if (state[next] == 1) {
+                    throw new IllegalArgumentException("Prerequisite cycle detected: "
+                            + describeCycle(next, node, parent, codes));
+                }
+                if (state[next] == 0) {
+                    state[next] = 1;
+                    parent[next] = node;
+                    stack.push(next);
+                }
+            }
+        }
+    }
+
+    private static String describeCycle(int start, int end, int[] parent, List<String> codes) {
+        Deque<String> path = new ArrayDeque<>();
+        path.push(codes.get(start));
+        for (int node = end; node != start && node >= 0; node = parent[node]) {
+            path.push(codes.get(node));
+        }
+        path.push(codes.get(start));
+        return String.join(" -> ", path);
+    }
+
+    /**
+     * Bitset sparse mata kuliah yang sudah diselesaikan seorang mahasiswa
+     */
+    public static final class CompletedCourses {
+        static final CompletedCourses EMPTY = new CompletedCourses(NO_WORDS, NO_BITS);
+
+        private final int[] words;
+        private final long[] bits;
+
+        private CompletedCourses(int[] words, long[] bits) {
+            this.words = words;
+            this.bits = bits;
+        }
+
+        long word(int index) {
+            int slot = Arrays.binarySearch(words, index);
+            return slot < 0 ? 0L : bits[slot];
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.siakad.service;
+
+import com.siakad.model.EnrollmentId;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Pembuat ID enrollment gaya Snowflake yang lock-free.
+ *
+ * Layout 63 bit: 41 bit milidetik sejak 2025-01-01 UTC, 12 bit sequence, 10 bit node id.
+ * Node id ditaruh di bit terendah sehingga kelebihan sequence dalam satu milidetik
+ * cukup "meminjam" milidetik berikutnya tanpa menunggu; ID tetap unik dan monoton
+ * naik per node walaupun jam sistem mundur.
+ *
+ * Dua generator dengan node id yang sama menghasilkan ID yang bentrok dalam milidetik yang sama,
+ * jadi di dalam satu JVM pakai forNode agar semua pemakai node id tersebut berbagi satu sequence.
+ * Antar proses node id harus dibagikan unik oleh deployment.
+ */
+
+public class SnowflakeIdGenerator implements EnrollmentIdGenerator {
+    public static final long EPOCH_MILLIS = 1_735_689_600_000L; // 2025-01-01T00:00:00Z
+    public static final int MAX_NODE_ID = (1 << 10) - 1;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+    private static final long SEQUENCE_INCREMENT = 1L << NODE_BITS;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private final AtomicLong last = new AtomicLong();
+
+    private static final AtomicReferenceArray<SnowflakeIdGenerator> NODES = new AtomicReferenceArray<>(MAX_NODE_ID + 1);
+
+    /**
+     * @param nodeId Id node pembuat ID (0 - 1023)
+     * @return Generator bersama JVM ini untuk node id tersebut
+     */
+    public static SnowflakeIdGenerator forNode(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID);
+        }
+        SnowflakeIdGenerator generator = NODES.get(nodeId);
+        if (generator == null) {
+            NODES.compareAndSet(nodeId, null, new SnowflakeIdGenerator(nodeId));
+            generator = NODES.get(nodeId);
+        }
+        return generator;
+    }
+
+    /**
+     * @param nodeId Id node pembuat ID (0 - 1023), tidak boleh dipakai generator lain;
+     *               gunakan forNode untuk berbagi generator di satu JVM
+     */
+    public SnowflakeIdGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    /**
+     * @param nodeId Id node pembuat ID (0 - 1023)
+     * @param clock Sumber waktu dalam milidetik epoch
+     */
+    public SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public EnrollmentId nextId() {
+        return new EnrollmentId(nextValue());
+    }
+
+    /**
+     * Membuat ID baru dalam bentuk long tanpa alokasi objek
+     * @return Nilai ID
+     */
+    public long nextValue() {
+        long now = ((clock.getAsLong() - EPOCH_MILLIS) << TIMESTAMP_SHIFT) | nodeId;
+        while (true) {
+            long previous = last.get();
+            long next = Math.max(now, previous + SEQUENCE_INCREMENT);
+            if (last.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * @param value Nilai ID
+     * @return Waktu pembuatan ID dalam milidetik epoch
+     */
+    public static long timestampOf(long value) {
+        return (value >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS;
+    }
+
+    /**
+     * @param value Nilai ID
+     * @return Node id pembuat ID
+     */
+    public static int nodeIdOf(long value) {
+        return (int) (value & MAX_NODE_ID);
+    }
+}
@@ -0,0 +1,270 @@
+package com.siakad.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Waitlist FIFO per mata kuliah.
+ *
+ * - join dan leave idempoten: satu mahasiswa paling banyak punya satu antrean per mata kuliah
+ * - Setiap join mendapat tiket baru, jadi mahasiswa yang keluar lalu masuk lagi
+ *   kembali ke belakang antrean. Entry milik tiket lama dibuang saat antrean dibaca,
+ *   atau dipadatkan sekaligus saat jumlahnya melebihi jumlah mahasiswa yang masih menunggu
+ * - promote dijalankan bergantian per mata kuliah, sehingga satu mahasiswa
+ *   tidak pernah dipromosikan dua kali oleh dua drop yang bersamaan
+ */
+
+public class WaitlistEngine {
+
+    /**
+     * Hasil percobaan memindahkan mahasiswa dari waitlist ke mata kuliah
+     */
+    public enum Attempt {
+        /** Mahasiswa berhasil didaftarkan dan keluar dari waitlist */
+        ENROLLED,
+        /** Mahasiswa tidak lagi memenuhi syarat, dikeluarkan dari waitlist */
+        INELIGIBLE,
+        /** Tidak ada kursi kosong, mahasiswa tetap di depan antrean */
+        NO_SEAT
+    }
+
+    /**
+     * Callback yang mencoba mendaftarkan satu mahasiswa dari waitlist
+     */
+    @FunctionalInterface
+    public interface Promoter {
+        Attempt tryPromote(String studentId);
+    }
+
+    private final ConcurrentHashMap<String, CourseWaitlist> waitlists = new ConcurrentHashMap<>();
+    private final AtomicLong tickets = new AtomicLong();
+
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder left = new LongAdder();
+    private final LongAdder promoted = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder promotionFailures = new LongAdder();
+
+    /**
+     * Memasukkan mahasiswa ke waitlist mata kuliah
+     * @param studentId ID mahasiswa
+     * @param courseCode Kode mata kuliah
+     * @return true jika baru masuk, false jika sudah ada di waitlist
+     */
+    public boolean join(String studentId, String courseCode) {
+        requireIds(studentId, courseCode);
+        CourseWaitlist waitlist = waitlists.computeIfAbsent(courseCode, code -> new CourseWaitlist());
+        long ticket = tickets.incrementAndGet();
+        if (waitlist.members.putIfAbsent(studentId, ticket) != null) {
+            return false;
+        }
+        waitlist.queue.add(new Ticket(studentId, ticket));
+        joined.increment();
+        return true;
+    }
+
+    /**
+     * Mengeluarkan mahasiswa dari waitlist mata kuliah
+     * @param studentId ID mahasiswa
+     * @param courseCode Kode mata kuliah
+     * @return true jika keluar, false jika memang tidak ada di waitlist
+     */
+    public boolean leave(String studentId, String courseCode) {
+        CourseWaitlist waitlist = studentId == null || courseCode == null ? null : waitlists.get(courseCode);
+        if (waitlist == null || waitlist.members.remove(studentId) == null) {
+            return false;
+        }
+        left.increment();
+        // Join/leave churn would otherwise grow the queue without bound
+        if (waitlist.stale.incrementAndGet() > waitlist.members.size()) {
+            waitlist.compact();
+        }
+        return true;
+    }
+
+    /**
+     * @param studentId ID mahasiswa
+     * @param courseCode Kode mata kuliah
+     * @return true jika mahasiswa sedang ada di waitlist
+     */
+    public boolean contains(String studentId, String courseCode) {
+        CourseWaitlist waitlist = studentId == null || courseCode == null ? null : waitlists.get(courseCode);
+        return waitlist != null && waitlist.members.containsKey(studentId);
+    }
+
+    /**
+     * @param studentId ID mahasiswa
+     * @param courseCode Kode mata kuliah
+     * @return Posisi mahasiswa di antrean (mulai dari 1), atau -1 jika tidak ada di waitlist
+     */
+    public int position(String studentId, String courseCode) {
+        CourseWaitlist waitlist = studentId == null || courseCode == null ? null : waitlists.get(courseCode);
+        Long ticket = waitlist == null ? null : waitlist.members.get(studentId);
+        if (ticket == null) {
+            return -1;
+        }
+        int position = 0;
+        for (Ticket queued : waitlist.queue) {
+            if (waitlist.isCurrent(queued)) {
+                position++;
+                if (queued.ticket == ticket) {
+                    return position;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param courseCode Kode mata kuliah
+     * @return Jumlah mahasiswa di waitlist mata kuliah
+     */
+    public int size(String courseCode) {
+        CourseWaitlist waitlist = courseCode == null ? null : waitlists.get(courseCode);
+        return waitlist == null ? 0 : waitlist.members.size();
+    }
+
+    /**
+     * @param courseCode Kode mata kuliah
+     * @return Student ID di waitlist sesuai urutan antrean
+     */
+    public List<String> getWaitlist(String courseCode) {
+        CourseWaitlist waitlist = courseCode == null ? null : waitlists.get(courseCode);
+        if (waitlist == null) {
+            return List.of();
+        }
+        List<String> studentIds = new ArrayList<>();
+        for (Ticket queued : waitlist.queue) {
+            if (waitlist.isCurrent(queued)) {
+                studentIds.add(queued.studentId);
+            }
+        }
+        return studentIds;
+    }
+
+    /**
+     * Memindahkan mahasiswa dari depan antrean selama promoter masih bisa mendaftarkan mereka.
+     * Berhenti saat antrean habis atau promoter mengembalikan NO_SEAT. Mahasiswa yang membuat
+     * promoter melempar exception dikeluarkan seperti INELIGIBLE dan dihitung di promotionFailures,
+     * supaya satu data yang rusak tidak menahan antrean (dan kursi mata kuliah) selamanya.
+     * @param courseCode Kode mata kuliah
+     * @param promoter Callback yang mencoba mendaftarkan satu mahasiswa
+     * @return Student ID yang berhasil dipromosikan, sesuai urutan
+     */
+    public List<String> promote(String courseCode, Promoter promoter) {
+        CourseWaitlist waitlist = courseCode == null ? null : waitlists.get(courseCode);
+        if (waitlist == null || waitlist.members.isEmpty()) {
+            return List.of();
+        }
+        List<String> promotedIds = new ArrayList<>(1);
+        waitlist.promotionLock.lock();
+        try {
+            Ticket head;
+            while ((head = waitlist.peekCurrent()) != null) {
+                Attempt attempt;
+                try {
+                    attempt = promoter.tryPromote(head.studentId);
+                } catch (RuntimeException e) {
+                    waitlist.removeHead(head);
+                    promotionFailures.increment();
+                    continue;
+                }
+                if (attempt == Attempt.NO_SEAT) {
+                    break;
+                }
+                waitlist.removeHead(head);
+                if (attempt == Attempt.ENROLLED) {
+                    promoted.increment();
+                    promotedIds.add(head.studentId);
+                } else {
+                    skipped.increment();
+                }
+            }
+        } finally {
+            waitlist.promotionLock.unlock();
+        }
+        return promotedIds;
+    }
+
+    /**
+     * @return Snapshot statistik waitlist
+     */
+    public Stats getStats() {
+        int waiting = 0;
+        for (CourseWaitlist waitlist : waitlists.values()) {
+            waiting += waitlist.members.size();
+        }
+        return new Stats(joined.sum(), left.sum(), promoted.sum(), skipped.sum(),
+                promotionFailures.sum(), waiting);
+    }
+
+    /**
+     * @return Jumlah entry di antrean, termasuk tiket lama yang belum dibuang
+     */
+    int queuedEntries(String courseCode) {
+        CourseWaitlist waitlist = waitlists.get(courseCode);
+        return waitlist == null ? 0 : waitlist.queue.size();
+    }
+
+    private static void requireIds(String studentId, String courseCode) {
+        if (studentId == null || courseCode == null) {
+            throw new IllegalArgumentException("Student ID and course code must not be null");
+        }
+    }
+
+    private record Ticket(String studentId, long ticket) {
+    }
+
+    private static final class CourseWaitlist {
+        final ConcurrentLinkedQueue<Ticket> queue = new ConcurrentLinkedQueue<>();
+        final ConcurrentHashMap<String, Long> members = new ConcurrentHashMap<>();
+        final ReentrantLock promotionLock = new ReentrantLock();
+        // Tickets left behind by leave since the last compaction, an upper bound
+        final AtomicInteger stale = new AtomicInteger();
+
+        boolean isCurrent(Ticket queued) {
+            Long current = members.get(queued.studentId);
+            return current != null && current == queued.ticket;
+        }
+
+        /**
+         * Membuang entry milik mahasiswa yang sudah keluar, hanya dipanggil dengan promotionLock
+         */
+        Ticket peekCurrent() {
+            Ticket head;
+            while ((head = queue.peek()) != null && !isCurrent(head)) {
+                queue.poll();
+            }
+            return head;
+        }
+
+        /**
+         * Mengeluarkan tiket di depan antrean, hanya dipanggil dengan promotionLock
+         */
+        void removeHead(Ticket head) {
+            queue.poll();
+            members.remove(head.studentId, head.ticket);
+        }
+
+        /**
+         * Membuang semua entry milik tiket lama dari antrean
+         */
+        void compact() {
+            stale.set(0);
+            queue.removeIf(queued -> !isCurrent(queued));
+        }
+    }
+
+    /**
+     * Snapshot statistik waitlist
+     */
+    public record Stats(long joined, long left, long promoted, long skipped,
+                        long promotionFailures, int waiting) {
+    }
+}
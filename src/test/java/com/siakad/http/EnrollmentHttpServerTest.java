@@ -0,0 +1,159 @@
+package com.siakad.http;
+
+import com.siakad.model.Course;
+import com.siakad.model.Student;
+import com.siakad.repository.InMemoryCourseRepository;
+import com.siakad.repository.InMemoryEnrollmentRepository;
+import com.siakad.repository.InMemoryStudentRepository;
+import com.siakad.service.EnrollmentService;
+import com.siakad.service.GradeCalculator;
+import com.siakad.service.NotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit Test untuk EnrollmentHttpServer
+ */
+@DisplayName("Test Enrollment HTTP Server")
+class EnrollmentHttpServerTest {
+
+    private InMemoryCourseRepository courseRepository;
+    private EnrollmentHttpServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryStudentRepository studentRepository = new InMemoryStudentRepository();
+        courseRepository = new InMemoryCourseRepository(studentRepository);
+        studentRepository.save(new Student("S1", "Naura", "naura@mail.com", "TI", 4, 3.7, "ACTIVE"));
+        studentRepository.save(new Student("S+2", "Budi", "budi@mail.com", "SI", 2, 3.0, "ACTIVE"));
+        courseRepository.save(new Course("IF101", "Pemrograman Java", 3, 30, 25, "Dosen A"));
+
+        GradeCalculator gradeCalculator = new GradeCalculator();
+        EnrollmentService enrollmentService = new EnrollmentService(studentRepository, courseRepository,
+                mock(NotificationService.class), gradeCalculator);
+        enrollmentService.setEnrollmentRepository(new InMemoryEnrollmentRepository());
+
+        server = new EnrollmentHttpServer(enrollmentService, studentRepository, gradeCalculator,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Test POST dan DELETE /enrollments - enroll, duplikat, drop dan drop ulang")
+    void testEnrollAndDrop() throws Exception {
+        HttpResponse<String> enrolled = send("POST", "/enrollments?studentId=S1&courseCode=IF101");
+        assertEquals(201, enrolled.statusCode());
+        assertEquals("application/json", enrolled.headers().firstValue("Content-Type").orElse(null));
+        assertTrue(enrolled.body().startsWith("{\"enrollmentId\":\""));
+        assertTrue(enrolled.body().contains("\"studentId\":\"S1\",\"courseCode\":\"IF101\""));
+        assertEquals(26, courseRepository.findByCourseCode("IF101").getEnrolledCount());
+
+        HttpResponse<String> duplicate = send("POST", "/enrollments?studentId=S1&courseCode=IF101");
+        assertEquals(409, duplicate.statusCode());
+        assertEquals("{\"error\":\"ALREADY_ENROLLED\",\"message\":\"Student is already enrolled in: IF101\"}",
+                duplicate.body());
+
+        assertEquals(404, send("POST", "/enrollments?studentId=S1&courseCode=NONE").statusCode());
+
+        HttpResponse<String> dropped = send("DELETE", "/enrollments?studentId=S1&courseCode=IF101");
+        assertEquals(204, dropped.statusCode());
+        assertEquals(25, courseRepository.findByCourseCode("IF101").getEnrolledCount());
+
+        HttpResponse<String> droppedAgain = send("DELETE", "/enrollments?studentId=S1&courseCode=IF101");
+        assertEquals(409, droppedAgain.statusCode());
+        assertTrue(droppedAgain.body().startsWith("{\"error\":\"CONFLICT\""));
+    }
+
+    @Test
+    @DisplayName("Test GET /credit-limit dan /students - batas SKS, IPK dan status akademik")
+    void testQueries() throws Exception {
+        assertEquals("{\"studentId\":\"S1\",\"requestedCredits\":3,\"allowed\":true}",
+                send("GET", "/credit-limit?studentId=S1&credits=3").body());
+        assertEquals("{\"studentId\":\"S1\",\"requestedCredits\":30,\"allowed\":false}",
+                send("GET", "/credit-limit?studentId=S1&credits=30").body());
+        assertEquals(400, send("GET", "/credit-limit?studentId=S1").statusCode());
+        assertEquals(400, send("GET", "/credit-limit?studentId=S1&credits=abc").statusCode());
+        assertEquals(404, send("GET", "/credit-limit?studentId=NONE&credits=3").statusCode());
+
+        HttpResponse<String> student = send("GET", "/students/S1");
+        assertEquals(200, student.statusCode());
+        assertEquals("{\"studentId\":\"S1\",\"major\":\"TI\",\"semester\":4,\"gpa\":3.7,"
+                + "\"academicStatus\":\"ACTIVE\",\"maxCredits\":24}", student.body());
+        assertEquals(404, send("GET", "/students/NONE").statusCode());
+
+        // '+' in a path is a literal character, only the query string treats it as a space
+        assertTrue(send("GET", "/students/S+2").body().startsWith("{\"studentId\":\"S+2\""));
+        assertEquals(200, send("GET", "/students/S%2B2").statusCode());
+    }
+
+    @Test
+    @DisplayName("Test metrik per endpoint dan method yang tidak didukung")
+    void testMetricsAndMethodNotAllowed() throws Exception {
+        send("POST", "/enrollments?studentId=S1&courseCode=IF101");
+        send("POST", "/enrollments?studentId=S1");
+        send("GET", "/students/S1");
+
+        HttpResponse<String> notAllowed = send("PUT", "/enrollments?studentId=S1&courseCode=IF101");
+        assertEquals(405, notAllowed.statusCode());
+        assertEquals("POST, DELETE", notAllowed.headers().firstValue("Allow").orElse(null));
+        assertEquals(405, send("POST", "/students/S1").statusCode());
+
+        EnrollmentHttpServer.Snapshot snapshot = server.snapshot();
+        EnrollmentHttpServer.EndpointStats enroll = snapshot.endpoint(EnrollmentHttpServer.Endpoint.ENROLL);
+        assertEquals(2, enroll.requests());
+        assertEquals(1, enroll.clientErrors());
+        assertEquals(0, enroll.serverErrors());
+        assertEquals(2, enroll.latency().count());
+        assertEquals(1, snapshot.endpoint(EnrollmentHttpServer.Endpoint.STUDENT).requests());
+        assertEquals(0, snapshot.endpoint(EnrollmentHttpServer.Endpoint.DROP).requests());
+
+        HttpResponse<String> metrics = send("GET", "/metrics");
+        assertEquals(200, metrics.statusCode());
+        assertTrue(metrics.body().startsWith("{\"ENROLL\":{\"requests\":2,\"clientErrors\":1,\"serverErrors\":0,"));
+    }
+
+    @Test
+    @DisplayName("Test parseQuery dan escaping JsonWriter")
+    void testQueryParsingAndJsonEscaping() {
+        assertEquals(Map.of("studentId", "S 1", "courseCode", "IF&101"),
+                EnrollmentHttpServer.parseQuery("studentId=S+1&&courseCode=IF%26101&flag&=x&studentId=S2"));
+        assertTrue(EnrollmentHttpServer.parseQuery(null).isEmpty());
+
+        String json = new String(new JsonWriter()
+                .field("text", "a\"b\\c\nd\u0001")
+                .field("none", (String) null)
+                .field("nan", Double.NaN)
+                .beginObject("nested").field("n", 1).endObject()
+                .toBytes(), StandardCharsets.UTF_8);
+        assertEquals("{\"text\":\"a\\\"b\\\\c\\nd\\u0001\",\"none\":null,\"nan\":null,\"nested\":{\"n\":1}}", json);
+    }
+
+    private HttpResponse<String> send(String method, String path) throws Exception {
+        URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path);
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
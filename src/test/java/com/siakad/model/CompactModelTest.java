@@ -0,0 +1,98 @@
+package com.siakad.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test untuk layout ringkas Student, Course dan Enrollment:
+ * getter/setter lama harus tetap berperilaku sama
+ */
+@DisplayName("Test Compact Model")
+class CompactModelTest {
+
+    @Test
+    @DisplayName("Test status akademik disimpan sebagai enum dan tetap terbaca sebagai String")
+    void testStudentStatus() {
+        Student student = new Student("S1", "Naura", "naura@mail.com", "TI", 4, 3.7, new String("SUSPENDED"));
+
+        assertEquals("SUSPENDED", student.getAcademicStatus());
+        assertEquals(AcademicStatus.SUSPENDED, student.getAcademicStatusCode());
+        assertTrue(student.isSuspended());
+
+        student.setAcademicStatus("GRADUATED");
+        assertEquals("GRADUATED", student.getAcademicStatus(), "Unknown statuses are kept as-is");
+        assertNull(student.getAcademicStatusCode());
+        assertFalse(student.isSuspended());
+
+        student.setAcademicStatus((String) null);
+        assertNull(student.getAcademicStatus());
+    }
+
+    @Test
+    @DisplayName("Test kode mata kuliah dan jurusan memakai instance String yang sama, student ID tidak")
+    void testIdsInterned() {
+        Student first = new Student(new String("S77"), "A", "a@mail.com", new String("TI"), 1, 3.0, "ACTIVE");
+        Student second = new Student(new String("S77"), "B", "b@mail.com", new String("TI"), 1, 3.0, "ACTIVE");
+        Course course = new Course(new String("CS101"), "X", 3, 10, 0, "Dosen");
+        Enrollment enrollment = new Enrollment("E1", new String("S77"), new String("CS101"), null, "APPROVED");
+
+        assertSame(first.getMajor(), second.getMajor());
+        assertSame(course.getCourseCode(), enrollment.getCourseCode());
+        // Unique per student, interning them would only grow the table
+        assertEquals(first.getStudentId(), second.getStudentId());
+        assertNotSame(first.getStudentId(), second.getStudentId());
+        assertNotSame(first.getStudentId(), enrollment.getStudentId());
+    }
+
+    @Test
+    @DisplayName("Test symbol table berhenti bertambah setelah mencapai batas")
+    void testSymbolTableBounded() {
+        SymbolTable table = new SymbolTable(2);
+        String a = table.internValue(new String("A"));
+        table.internValue(new String("B"));
+        String c = new String("C");
+
+        assertSame(a, table.internValue(new String("A")));
+        assertSame(c, table.internValue(c));
+        assertNotSame(c, table.internValue(new String("C")));
+        assertEquals(2, table.symbolCount());
+        assertNull(table.internValue(null));
+    }
+
+    @Test
+    @DisplayName("Test tanggal enrollment disimpan sebagai epoch dan kembali utuh")
+    void testEnrollmentDateRoundTrip() {
+        LocalDateTime date = LocalDateTime.of(2025, 9, 1, 7, 30, 15, 123_456_000);
+        LocalDateTime beforeEpoch = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000);
+        Enrollment enrollment = new Enrollment();
+
+        assertNull(enrollment.getEnrollmentDate());
+        enrollment.setEnrollmentDate(date);
+        assertEquals(date, enrollment.getEnrollmentDate());
+        enrollment.setEnrollmentDate(beforeEpoch);
+        assertEquals(beforeEpoch, enrollment.getEnrollmentDate());
+        assertEquals(-1L, enrollment.getEnrollmentDateMicros());
+    }
+
+    @Test
+    @DisplayName("Test status dan ID enrollment tetap kompatibel")
+    void testEnrollmentStatusAndId() {
+        Enrollment enrollment = new Enrollment();
+        enrollment.setStatus("PENDING");
+        enrollment.setEnrollmentKey(new EnrollmentId(42));
+
+        assertEquals(EnrollmentStatus.PENDING, enrollment.getStatusCode());
+        assertEquals("PENDING", enrollment.getStatus());
+        assertEquals(new EnrollmentId(42).toString(), enrollment.getEnrollmentId());
+
+        enrollment.setEnrollmentId("ENR-LEGACY");
+        enrollment.setStatus(EnrollmentStatus.REJECTED);
+        assertEquals("ENR-LEGACY", enrollment.getEnrollmentId());
+        assertNull(enrollment.getEnrollmentKey());
+        assertEquals("REJECTED", enrollment.getStatus());
+    }
+}
@@ -0,0 +1,120 @@
+package com.siakad.repository;
+
+import com.siakad.model.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit Test untuk CachingStudentRepository
+ * MOCK: memverifikasi berapa kali repository asal dibaca
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingStudentRepositoryTest {
+
+    @Mock private StudentRepository delegate;
+
+    private final AtomicLong clock = new AtomicLong();
+    private CachingStudentRepository repository;
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingStudentRepository(delegate, 2, 10, TimeUnit.SECONDS, clock::get);
+        student = new Student("S1", "Naura", "naura@mail.com", "TI", 4, 3.7, "ACTIVE");
+    }
+
+    @Test
+    @DisplayName("Test lookup berulang dilayani dari cache")
+    void testRepeatedLookupHitsCache() {
+        when(delegate.findById("S1")).thenReturn(student);
+
+        for (int i = 0; i < 10; i++) {
+            assertSame(student, repository.findById("S1"));
+        }
+
+        verify(delegate, times(1)).findById("S1");
+        assertEquals(9, repository.getStats().hits());
+        assertEquals(1, repository.getStats().misses());
+        assertEquals(0.9, repository.getStats().hitRate(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Test entry kedaluwarsa setelah TTL")
+    void testEntryExpires() {
+        when(delegate.findById("S1")).thenReturn(student);
+
+        repository.findById("S1");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        repository.findById("S1");
+
+        verify(delegate, times(2)).findById("S1");
+    }
+
+    @Test
+    @DisplayName("Test update meng-invalidate entry cache")
+    void testUpdateInvalidates() {
+        when(delegate.findById("S1")).thenReturn(student);
+
+        repository.findById("S1");
+        repository.update(student);
+        repository.findById("S1");
+
+        verify(delegate).update(student);
+        verify(delegate, times(2)).findById("S1");
+    }
+
+    @Test
+    @DisplayName("Test ukuran cache dibatasi dengan eviction")
+    void testEvictionBoundsSize() {
+        when(delegate.findById(anyString())).thenAnswer(invocation ->
+                new Student(invocation.getArgument(0), "X", "x@mail.com", "TI", 1, 3.0, "ACTIVE"));
+
+        repository.findById("S1");
+        repository.findById("S2");
+        repository.findById("S3");
+
+        assertEquals(2, repository.getStats().size());
+        assertEquals(1, repository.getStats().evictions());
+    }
+
+    @Test
+    @DisplayName("Test eviction membuang entry yang paling lama tidak diakses")
+    void testEvictsLeastRecentlyAccessed() {
+        when(delegate.findById(anyString())).thenAnswer(invocation ->
+                new Student(invocation.getArgument(0), "X", "x@mail.com", "TI", 1, 3.0, "ACTIVE"));
+
+        clock.set(1);
+        repository.findById("S1");
+        clock.set(2);
+        repository.findById("S2");
+        clock.set(3);
+        repository.findById("S1");
+        clock.set(4);
+        repository.findById("S3");
+
+        repository.findById("S1");
+        assertEquals(2, repository.getStats().hits());
+        verify(delegate, times(1)).findById("S1");
+        verify(delegate, times(1)).findById("S2");
+    }
+
+    @Test
+    @DisplayName("Test mahasiswa yang tidak ditemukan tidak di-cache")
+    void testMissingStudentNotCached() {
+        assertNull(repository.findById("S0"));
+        assertNull(repository.findById("S0"));
+
+        verify(delegate, times(2)).findById("S0");
+        assertEquals(0, repository.getStats().size());
+    }
+}
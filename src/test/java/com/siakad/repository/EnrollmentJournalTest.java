@@ -0,0 +1,378 @@
+package com.siakad.repository;
+
+import com.siakad.model.Course;
+import com.siakad.model.Enrollment;
+import com.siakad.model.EnrollmentId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test untuk EnrollmentJournal: group commit, recovery, segment rolling dan compaction
+ */
+@DisplayName("Test Enrollment Journal")
+class EnrollmentJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private EnrollmentJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        journal = new EnrollmentJournal(tempDir, 4096, 64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Test roster dibangun ulang setelah journal dibuka kembali")
+    void testRecoverAfterReopen() {
+        LocalDateTime date = LocalDateTime.of(2025, 8, 1, 8, 0, 0, 123_000);
+        journal.recordEnrollment(enrollment(1, "S1", "CS101", date));
+        journal.recordEnrollment(enrollment(2, "S2", "CS101", date));
+        journal.recordEnrollment(enrollment(3, "S1", "CS201", date));
+        journal.recordDrop("S2", "CS101");
+        journal.close();
+
+        journal = new EnrollmentJournal(tempDir, 4096, 64);
+
+        assertEquals(Set.of("S1"), journal.getRoster("CS101"));
+        assertEquals(Set.of("S1"), journal.getRoster("CS201"));
+        assertEquals(0, journal.getEnrolledCount("NONE"));
+        assertEquals(4, journal.getStats().recoveredRecords());
+
+        Enrollment recovered = journal.getActiveEnrollments().stream()
+                .filter(e -> e.getCourseCode().equals("CS201")).findFirst().orElseThrow();
+        assertEquals(new EnrollmentId(3), recovered.getEnrollmentKey());
+        assertEquals(date, recovered.getEnrollmentDate());
+        assertEquals("APPROVED", recovered.getStatus());
+    }
+
+    @Test
+    @DisplayName("Test ekor segment yang rusak karena crash dipotong saat recovery")
+    void testTornTailTruncated() throws Exception {
+        journal.recordEnrollment(enrollment(1, "S1", "CS101", null));
+        journal.recordEnrollment(enrollment(2, "S2", "CS101", null));
+        journal.close();
+
+        // Simulate a crash in the middle of the last record
+        Path segment = segments().get(0);
+        long size = Files.size(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 3);
+        }
+
+        journal = new EnrollmentJournal(tempDir, 4096, 64);
+
+        assertEquals(Set.of("S1"), journal.getRoster("CS101"));
+        assertTrue(journal.getStats().truncatedBytes() > 0);
+
+        journal.recordEnrollment(enrollment(3, "S3", "CS101", null));
+        journal.close();
+        journal = new EnrollmentJournal(tempDir, 4096, 64);
+        assertEquals(Set.of("S1", "S3"), journal.getRoster("CS101"));
+    }
+
+    @Test
+    @DisplayName("Test record dengan checksum salah tidak diterapkan")
+    void testChecksumMismatch() throws Exception {
+        journal.recordEnrollment(enrollment(1, "S1", "CS101", null));
+        journal.recordEnrollment(enrollment(2, "S2", "CS101", null));
+        journal.close();
+
+        // Flip one byte inside the course code of the last record
+        Path segment = segments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), Files.size(segment) - 1);
+        }
+
+        journal = new EnrollmentJournal(tempDir, 4096, 64);
+
+        assertEquals(Set.of("S1"), journal.getRoster("CS101"));
+        assertTrue(journal.getRoster("CS10X").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test segment baru dibuka dan compaction menyisakan enrollment aktif saja")
+    void testRollingAndCompaction() throws Exception {
+        for (int i = 0; i < 300; i++) {
+            journal.recordEnrollment(enrollment(i, "S" + i, "CS101", null));
+        }
+        for (int i = 0; i < 300; i += 2) {
+            journal.recordDrop("S" + i, "CS101");
+        }
+        int segmentsBefore = segments().size();
+        assertTrue(segmentsBefore > 2, "Expected several segments, got " + segmentsBefore);
+
+        int removed = journal.compact();
+        journal.recordEnrollment(enrollment(1000, "S1000", "CS101", null));
+
+        assertEquals(segmentsBefore, removed);
+        assertEquals(2, segments().size());
+        assertEquals(151, journal.getEnrolledCount("CS101"));
+
+        journal.close();
+        journal = new EnrollmentJournal(tempDir, 4096, 64);
+
+        assertEquals(151, journal.getEnrolledCount("CS101"));
+        assertEquals(151, journal.getStats().recoveredRecords());
+        assertTrue(journal.getRoster("CS101").contains("S1"));
+        assertFalse(journal.getRoster("CS101").contains("S0"));
+    }
+
+    @Test
+    @DisplayName("Test penulisan bersamaan digabung dalam group commit")
+    void testGroupCommit() throws Exception {
+        int threads = 16;
+        int perThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        journal.recordEnrollment(enrollment(thread * perThread + i, "S" + thread + "-" + i,
+                                "CS" + thread, null));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        EnrollmentJournal.Stats stats = journal.getStats();
+        assertEquals(threads * perThread, stats.appended());
+        assertTrue(stats.batches() < stats.appended(), "Expected batched fsyncs: " + stats);
+        for (int t = 0; t < threads; t++) {
+            assertEquals(perThread, journal.getEnrolledCount("CS" + t));
+        }
+    }
+
+    @Test
+    @DisplayName("Test close di tengah penulisan tidak membuat pemanggil menunggu selamanya")
+    void testCloseWhileWriting() throws Exception {
+        int threads = 8;
+        AtomicInteger written = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; ; i++) {
+                        try {
+                            journal.recordDrop("S" + thread + "-" + i, "CS101");
+                            written.incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            rejected.incrementAndGet();
+                            return;
+                        }
+                    }
+                }));
+            }
+            while (written.get() < 100) {
+                Thread.onSpinWait();
+            }
+            journal.close();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads, rejected.get());
+    }
+
+    @Test
+    @DisplayName("Test batch yang gagal di-fsync dipotong dari segment dan tidak muncul saat recovery")
+    void testFailedBatchIsTruncated() throws Exception {
+        journal.recordEnrollment(enrollment(1, "S1", "CS101", null));
+        Field active = EnrollmentJournal.class.getDeclaredField("active");
+        active.setAccessible(true);
+        active.set(journal, new ForceFailingChannel((FileChannel) active.get(journal)));
+
+        assertThrows(UncheckedIOException.class, () -> journal.recordEnrollment(enrollment(2, "S2", "CS101", null)));
+        assertEquals(Set.of("S1"), journal.getRoster("CS101"));
+
+        // The journal is healthy again after the truncation
+        journal.recordEnrollment(enrollment(3, "S3", "CS101", null));
+        journal.close();
+        journal = new EnrollmentJournal(tempDir, 4096, 64);
+
+        assertEquals(Set.of("S1", "S3"), journal.getRoster("CS101"));
+        assertEquals(0, journal.getStats().truncatedBytes());
+    }
+
+    @Test
+    @DisplayName("Test enrolledCount mata kuliah dipulihkan dari journal")
+    void testRestoreEnrolledCounts() {
+        InMemoryCourseRepository courses = new InMemoryCourseRepository(new InMemoryStudentRepository());
+        courses.save(new Course("CS101", "Dasar Pemrograman", 3, 40, 17, "Dosen A"));
+        journal.recordEnrollment(enrollment(1, "S1", "CS101", null));
+        journal.recordEnrollment(enrollment(2, "S2", "CS101", null));
+        journal.recordEnrollment(enrollment(3, "S2", "GONE", null));
+
+        assertEquals(1, journal.restoreEnrolledCounts(courses));
+        assertEquals(2, courses.findByCourseCode("CS101").getEnrolledCount());
+    }
+
+    @Test
+    @DisplayName("Test journal yang sudah ditutup menolak record baru")
+    void testClosed() {
+        journal.close();
+
+        assertThrows(IllegalStateException.class, () -> journal.recordDrop("S1", "CS101"));
+        assertThrows(IllegalStateException.class, () -> journal.compact());
+    }
+
+    /**
+     * Channel yang meneruskan write ke file asli tetapi selalu gagal saat fsync
+     */
+    private static final class ForceFailingChannel extends FileChannel {
+        private final FileChannel delegate;
+
+        ForceFailingChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            throw new IOException("Simulated fsync failure");
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return delegate.write(src);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+
+    private static Enrollment enrollment(long id, String studentId, String courseCode, LocalDateTime date) {
+        Enrollment enrollment = new Enrollment();
+        enrollment.setEnrollmentKey(new EnrollmentId(id));
+        enrollment.setStudentId(studentId);
+        enrollment.setCourseCode(courseCode);
+        enrollment.setEnrollmentDate(date);
+        enrollment.setStatus("APPROVED");
+        return enrollment;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+}
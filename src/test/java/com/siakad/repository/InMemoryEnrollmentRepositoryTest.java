@@ -0,0 +1,152 @@
+package com.siakad.repository;
+
+import com.siakad.model.Enrollment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test untuk InMemoryEnrollmentRepository: index utama, index per mahasiswa
+ * dan roster per mata kuliah
+ */
+@DisplayName("Test In-Memory Enrollment Repository")
+class InMemoryEnrollmentRepositoryTest {
+
+    private InMemoryEnrollmentRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryEnrollmentRepository();
+    }
+
+    @Test
+    @DisplayName("Test pendaftaran ganda ditolak")
+    void testDuplicateRejected() {
+        Enrollment first = enrollment("S1", "CS101");
+
+        assertTrue(repository.add(first));
+        assertFalse(repository.add(enrollment("S1", "CS101")));
+
+        assertSame(first, repository.find("S1", "CS101"));
+        assertTrue(repository.exists("S1", "CS101"));
+        assertFalse(repository.exists("S2", "CS101"));
+        assertEquals(1, repository.countByCourse("CS101"));
+        assertThrows(IllegalArgumentException.class, () -> repository.add(enrollment(null, "CS101")));
+    }
+
+    @Test
+    @DisplayName("Test index per mahasiswa dan per mata kuliah ikut diperbarui saat remove")
+    void testIndexesFollowRemove() {
+        repository.add(enrollment("S1", "CS101"));
+        repository.add(enrollment("S1", "CS201"));
+        repository.add(enrollment("S2", "CS101"));
+
+        assertEquals(Set.of("CS101", "CS201"), courseCodes(repository.findByStudent("S1")));
+        assertEquals(2, repository.countByCourse("CS101"));
+
+        assertNotNull(repository.remove("S1", "CS101"));
+        assertNull(repository.remove("S1", "CS101"));
+        assertNull(repository.remove(null, "CS101"));
+
+        assertEquals(Set.of("CS201"), courseCodes(repository.findByStudent("S1")));
+        assertEquals(1, repository.countByCourse("CS101"));
+        assertEquals("S2", repository.findByCourse("CS101", null, 10).get(0).getStudentId());
+        assertTrue(repository.findByStudent("S9").isEmpty());
+        assertEquals(0, repository.countByCourse("NONE"));
+    }
+
+    @Test
+    @DisplayName("Test roster dipaginasi berdasarkan student ID terakhir")
+    void testRosterPagination() {
+        for (int i = 0; i < 25; i++) {
+            repository.add(enrollment(String.format("S%03d", i), "CS101"));
+        }
+
+        List<String> seen = new ArrayList<>();
+        String after = null;
+        List<Enrollment> page;
+        int pages = 0;
+        do {
+            page = repository.findByCourse("CS101", after, 10);
+            for (Enrollment enrollment : page) {
+                seen.add(enrollment.getStudentId());
+            }
+            after = page.isEmpty() ? after : page.get(page.size() - 1).getStudentId();
+            pages++;
+        } while (page.size() == 10);
+
+        assertEquals(3, pages);
+        assertEquals(25, seen.size());
+        assertEquals("S000", seen.get(0));
+        assertEquals("S024", seen.get(24));
+        assertTrue(repository.findByCourse("NONE", null, 10).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> repository.findByCourse("CS101", null, 0));
+    }
+
+    @Test
+    @DisplayName("Test add dan remove bersamaan menjaga index tetap konsisten")
+    void testConcurrentAddRemove() throws Exception {
+        int threads = 8;
+        AtomicInteger added = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        String studentId = "S" + (i % 50);
+                        if (repository.add(enrollment(studentId, "CS" + (i % 7)))) {
+                            added.incrementAndGet();
+                        }
+                        if (i % 3 == 0 && repository.remove(studentId, "CS" + (i % 5)) != null) {
+                            added.decrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(added.get(), repository.size());
+        int rosterTotal = 0;
+        for (int c = 0; c < 7; c++) {
+            String courseCode = "CS" + c;
+            int count = repository.countByCourse(courseCode);
+            assertEquals(count, repository.findByCourse(courseCode, null, 1_000).size());
+            rosterTotal += count;
+        }
+        int studentTotal = 0;
+        for (int s = 0; s < 50; s++) {
+            studentTotal += repository.findByStudent("S" + s).size();
+        }
+        assertEquals(repository.size(), rosterTotal);
+        assertEquals(repository.size(), studentTotal);
+    }
+
+    private static Enrollment enrollment(String studentId, String courseCode) {
+        Enrollment enrollment = new Enrollment();
+        enrollment.setStudentId(studentId);
+        enrollment.setCourseCode(courseCode);
+        enrollment.setStatus("APPROVED");
+        return enrollment;
+    }
+
+    private static Set<String> courseCodes(List<Enrollment> enrollments) {
+        return enrollments.stream().map(Enrollment::getCourseCode).collect(Collectors.toSet());
+    }
+}
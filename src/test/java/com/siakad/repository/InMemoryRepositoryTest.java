@@ -0,0 +1,111 @@
+package com.siakad.repository;
+
+import com.siakad.exception.CourseNotFoundException;
+import com.siakad.exception.StudentNotFoundException;
+import com.siakad.model.Course;
+import com.siakad.model.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test untuk InMemoryStudentRepository dan InMemoryCourseRepository.
+ * Latensi lookup diukur di RepositoryLookupBenchmark (profile jmh), bukan di sini
+ */
+@DisplayName("Test In-Memory Repository")
+class InMemoryRepositoryTest {
+
+    private static final int CATALOG_COURSES = 20_000;
+    private static final int CATALOG_STUDENTS = 200_000;
+
+    private InMemoryStudentRepository studentRepository;
+    private InMemoryCourseRepository courseRepository;
+    private Course basic;
+    private Course advanced;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository = new InMemoryStudentRepository();
+        courseRepository = new InMemoryCourseRepository(studentRepository);
+
+        basic = new Course("CS101", "Dasar Pemrograman", 3, 40, 0, "Dosen A");
+        advanced = new Course("CS201", "Struktur Data", 3, 40, 0, "Dosen B");
+        advanced.addPrerequisite("CS101");
+        courseRepository.saveAll(List.of(basic, advanced));
+        studentRepository.save(new Student("S1", "Naura", "naura@mail.com", "TI", 3, 3.2, "ACTIVE"));
+    }
+
+    @Test
+    @DisplayName("Test findByCourseCode mengembalikan instance yang sama")
+    void testFindByCourseCode_SameInstance() {
+        assertSame(basic, courseRepository.findByCourseCode("CS101"));
+        assertNull(courseRepository.findByCourseCode("NONE"));
+        assertNull(courseRepository.findByCourseCode(null));
+    }
+
+    @Test
+    @DisplayName("Test update data yang belum tersimpan harus gagal")
+    void testUpdate_Missing() {
+        assertThrows(CourseNotFoundException.class,
+                () -> courseRepository.update(new Course("NONE", "X", 1, 1, 0, "Y")));
+        assertThrows(StudentNotFoundException.class,
+                () -> studentRepository.update(new Student("S0", "X", "x@mail.com", "TI", 1, 0, "ACTIVE")));
+    }
+
+    @Test
+    @DisplayName("Test prasyarat dicek dari mata kuliah yang sudah diselesaikan")
+    void testPrerequisites() {
+        assertTrue(courseRepository.isPrerequisiteMet("S1", "CS101"));
+        assertFalse(courseRepository.isPrerequisiteMet("S1", "CS201"));
+        assertEquals(Set.of("CS101"), courseRepository.findPrerequisitesMet("S1", List.of("CS101", "CS201", "NONE")));
+
+        studentRepository.addCompletedCourse("S1", basic);
+
+        assertTrue(courseRepository.isPrerequisiteMet("S1", "CS201"));
+        assertEquals(Set.of("CS101", "CS201"), courseRepository.findPrerequisitesMet("S1", List.of("CS101", "CS201")));
+    }
+
+    @Test
+    @DisplayName("Test bulk lookup hanya berisi mata kuliah yang ditemukan")
+    void testFindByCourseCodes() {
+        Map<String, Course> found = courseRepository.findByCourseCodes(List.of("CS101", "NONE"));
+        assertEquals(Map.of("CS101", basic), found);
+    }
+
+    @Test
+    @DisplayName("Test lookup pada data seukuran katalog")
+    void testCatalogSizedLookup() {
+        InMemoryStudentRepository students = new InMemoryStudentRepository(CATALOG_STUDENTS);
+        InMemoryCourseRepository courses = new InMemoryCourseRepository(students, CATALOG_COURSES);
+        List<Course> courseBatch = new ArrayList<>(CATALOG_COURSES);
+        for (int i = 0; i < CATALOG_COURSES; i++) {
+            courseBatch.add(new Course("C" + i, "Course " + i, 3, 40, 0, "Dosen"));
+        }
+        List<Student> studentBatch = new ArrayList<>(CATALOG_STUDENTS);
+        for (int i = 0; i < CATALOG_STUDENTS; i++) {
+            studentBatch.add(new Student("S" + i, "Student " + i, "s" + i + "@mail.com", "TI", 1, 3.0, "ACTIVE"));
+        }
+        courses.saveAll(courseBatch);
+        students.saveAll(studentBatch);
+        assertEquals(CATALOG_COURSES, courses.size());
+        assertEquals(CATALOG_STUDENTS, students.size());
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 4096; i++) {
+            String studentId = "S" + random.nextInt(CATALOG_STUDENTS);
+            String courseCode = "C" + random.nextInt(CATALOG_COURSES);
+            assertEquals(studentId, students.findById(studentId).getStudentId());
+            assertEquals(courseCode, courses.findByCourseCode(courseCode).getCourseCode());
+        }
+        assertNull(students.findById("S" + CATALOG_STUDENTS));
+        assertNull(courses.findByCourseCode("C" + CATALOG_COURSES));
+    }
+}
@@ -0,0 +1,244 @@
+package com.siakad.repository;
+
+import com.siakad.exception.StudentNotFoundException;
+import com.siakad.model.Course;
+import com.siakad.model.Student;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test untuk MappedStudentRepository (store mahasiswa off-heap di file memory-mapped)
+ */
+@DisplayName("Test Mapped Student Repository")
+class MappedStudentRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private MappedStudentRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("students.dat");
+        repository = new MappedStudentRepository(file, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("Test simpan dan cari mahasiswa")
+    void testSaveAndFind() {
+        repository.save(new Student("S1", "Naura Syifa", "naura@mail.com", "TI", 3, 3.45, "ACTIVE"));
+        repository.save(new Student("S2", "Budi", null, "SI", 9, 1.5, "GRADUATED"));
+
+        Student found = repository.findById("S1");
+        assertEquals("S1", found.getStudentId());
+        assertEquals("Naura Syifa", found.getName());
+        assertEquals("naura@mail.com", found.getEmail());
+        assertEquals("TI", found.getMajor());
+        assertEquals(3, found.getSemester());
+        assertEquals(3.45, found.getGpa());
+        assertEquals("ACTIVE", found.getAcademicStatus());
+
+        Student other = repository.findById("S2");
+        assertNull(other.getEmail());
+        assertEquals("GRADUATED", other.getAcademicStatus());
+
+        assertNull(repository.findById("S3"));
+        assertNull(repository.findById(null));
+        assertEquals(2, repository.size());
+    }
+
+    @Test
+    @DisplayName("Test update menulis record di tempat yang sama")
+    void testUpdateInPlace() {
+        repository.save(new Student("S1", "Naura", "naura@mail.com", "TI", 3, 3.2, "ACTIVE"));
+        long sizeBefore = file.toFile().length();
+
+        repository.update(new Student("S1", "Naura", "naura@mail.com", "TI", 4, 1.9, "SUSPENDED"));
+
+        Student found = repository.findById("S1");
+        assertEquals(4, found.getSemester());
+        assertEquals(1.9, found.getGpa());
+        assertEquals("SUSPENDED", found.getAcademicStatus());
+        assertEquals(1, repository.size());
+        assertEquals(sizeBefore, file.toFile().length());
+        assertThrows(StudentNotFoundException.class,
+                () -> repository.update(new Student("S0", "X", "x@mail.com", "TI", 1, 0, "ACTIVE")));
+    }
+
+    @Test
+    @DisplayName("Test updateAll dengan ID tidak dikenal tidak menulis sebagian batch")
+    void testUpdateAllIsAllOrNothing() {
+        repository.save(new Student("S1", "Naura", "naura@mail.com", "TI", 3, 3.2, "ACTIVE"));
+        repository.save(new Student("S2", "Budi", "budi@mail.com", "SI", 3, 2.8, "ACTIVE"));
+
+        assertThrows(StudentNotFoundException.class, () -> repository.updateAll(List.of(
+                new Student("S1", "Naura", "naura@mail.com", "TI", 4, 1.9, "SUSPENDED"),
+                new Student("S0", "X", "x@mail.com", "TI", 1, 0, "ACTIVE"),
+                new Student("S2", "Budi", "budi@mail.com", "SI", 4, 1.5, "SUSPENDED"))));
+
+        assertEquals("ACTIVE", repository.findById("S1").getAcademicStatus());
+        assertEquals("ACTIVE", repository.findById("S2").getAcademicStatus());
+    }
+
+    @Test
+    @DisplayName("Test student ID kosong ditolak agar record berikutnya tidak hilang saat dibuka ulang")
+    void testEmptyIdRejected() {
+        repository.save(new Student("S1", "Naura", "naura@mail.com", "TI", 3, 3.2, "ACTIVE"));
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.save(new Student("", "X", "x@mail.com", "TI", 1, 3.0, "ACTIVE")));
+        repository.save(new Student("S2", "Budi", "budi@mail.com", "SI", 3, 2.8, "ACTIVE"));
+        repository.close();
+
+        repository = new MappedStudentRepository(file, 100);
+        assertEquals(2, repository.size());
+        assertNotNull(repository.findById("S2"));
+    }
+
+    @Test
+    @DisplayName("Test record view membaca dan menulis field langsung di file")
+    void testRecordView() {
+        repository.save(new Student("S1", "Naura", "naura@mail.com", "TI", 3, 3.2, "ACTIVE"));
+
+        MappedStudentRepository.StudentRecord record = repository.findRecord("S1");
+        assertEquals("S1", record.getStudentId());
+        assertEquals(3.2, record.getGpa());
+        assertFalse(record.isSuspended());
+
+        record.setGpa(1.7);
+        record.setAcademicStatus("SUSPENDED");
+
+        assertTrue(record.isSuspended());
+        assertEquals(1.7, repository.findById("S1").getGpa());
+        assertEquals("SUSPENDED", repository.findById("S1").getAcademicStatus());
+        assertNull(repository.findRecord("S9"));
+    }
+
+    @Test
+    @DisplayName("Test data tetap ada setelah store dibuka ulang")
+    void testReopen() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            students.add(new Student("S" + i, "Mahasiswa " + i, "s" + i + "@mail.com", "TI", 1 + i % 14,
+                    i % 40 / 10.0, "PROBATION"));
+        }
+        repository.saveAll(students);
+        repository.close();
+
+        repository = new MappedStudentRepository(file, 1);
+
+        assertEquals(100, repository.getCapacity());
+        assertEquals(100, repository.size());
+        for (int i = 0; i < 100; i++) {
+            Student found = repository.findById("S" + i);
+            assertEquals("Mahasiswa " + i, found.getName());
+            assertEquals(i % 40 / 10.0, found.getGpa());
+        }
+    }
+
+    @Test
+    @DisplayName("Test index diperbaiki saat dibuka ulang setelah insert yang terpotong crash")
+    void testReopenRepairsTornInsert() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            repository.save(new Student("S" + i, "Mahasiswa " + i, "s" + i + "@mail.com", "TI", 1, 3.0, "ACTIVE"));
+        }
+        repository.close();
+
+        // Index slot reached the disk but the count did not
+        writeCount(2);
+        repository = new MappedStudentRepository(file, 1);
+        assertEquals(2, repository.size());
+        assertNotNull(repository.findById("S1"));
+        assertNull(repository.findById("S2"));
+        repository.save(new Student("S2", "Baru", "s2@mail.com", "SI", 1, 3.0, "ACTIVE"));
+        assertEquals("Baru", repository.findById("S2").getName());
+        repository.close();
+
+        // Count reached the disk but the index slots did not
+        clearIndex();
+        repository = new MappedStudentRepository(file, 1);
+        assertEquals(3, repository.size());
+        for (int i = 0; i < 3; i++) {
+            assertNotNull(repository.findById("S" + i));
+        }
+        repository.close();
+
+        // Count reached the disk but the record did not
+        writeCount(4);
+        repository = new MappedStudentRepository(file, 1);
+        assertEquals(3, repository.size());
+        assertEquals("Baru", repository.findById("S2").getName());
+    }
+
+    private void writeCount(int count) throws Exception {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, count), 20);
+        }
+    }
+
+    private void clearIndex() throws Exception {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer slots = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(slots, 16);
+            channel.write(ByteBuffer.allocate(slots.getInt(0) * Long.BYTES), 64);
+        }
+    }
+
+    @Test
+    @DisplayName("Test store penuh dan field terlalu panjang ditolak")
+    void testLimits() {
+        MappedStudentRepository small = new MappedStudentRepository(tempDir.resolve("small.dat"), 2);
+        try {
+            small.save(new Student("S1", "A", "a@mail.com", "TI", 1, 3.0, "ACTIVE"));
+            small.save(new Student("S2", "B", "b@mail.com", "TI", 1, 3.0, "ACTIVE"));
+            small.save(new Student("S1", "A2", "a@mail.com", "TI", 2, 3.1, "ACTIVE"));
+
+            assertEquals("A2", small.findById("S1").getName());
+            assertThrows(IllegalStateException.class,
+                    () -> small.save(new Student("S3", "C", "c@mail.com", "TI", 1, 3.0, "ACTIVE")));
+            assertThrows(IllegalArgumentException.class,
+                    () -> small.update(new Student("S1", "x".repeat(80), "a@mail.com", "TI", 1, 3.0, "ACTIVE")));
+            assertEquals("A2", small.findById("S1").getName());
+        } finally {
+            small.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Test file yang bukan student store ditolak")
+    void testForeignFile() throws Exception {
+        Path foreign = tempDir.resolve("foreign.dat");
+        Files.writeString(foreign, "not a student store, just some text that is long enough for a header");
+
+        assertThrows(IllegalStateException.class, () -> new MappedStudentRepository(foreign, 10));
+    }
+
+    @Test
+    @DisplayName("Test mata kuliah yang sudah diselesaikan disimpan di heap")
+    void testCompletedCourses() {
+        Course course = new Course("CS101", "Dasar Pemrograman", 3, 40, 0, "Dosen A");
+
+        repository.addCompletedCourse("S1", course);
+
+        assertEquals(List.of(course), repository.getCompletedCourses("S1"));
+        assertTrue(repository.getCompletedCourses("S2").isEmpty());
+    }
+}
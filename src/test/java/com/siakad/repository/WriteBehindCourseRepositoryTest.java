@@ -0,0 +1,142 @@
+package com.siakad.repository;
+
+import com.siakad.model.Course;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit Test untuk WriteBehindCourseRepository
+ * MOCK: memverifikasi jumlah penulisan ke repository asal
+ */
+@ExtendWith(MockitoExtension.class)
+class WriteBehindCourseRepositoryTest {
+
+    @Mock private CourseRepository delegate;
+
+    private WriteBehindCourseRepository repository;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        repository = new WriteBehindCourseRepository(delegate, 1, TimeUnit.HOURS, 1_000);
+        course = new Course("PPL301", "Pemrograman Java", 3, 300, 0, "Dosen A");
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("Test banyak update digabung menjadi satu penulisan")
+    void testUpdatesCoalesced() {
+        when(delegate.findByCourseCode("PPL301")).thenReturn(course);
+
+        for (int i = 0; i < 300; i++) {
+            Course resident = repository.findByCourseCode("PPL301");
+            assertTrue(resident.tryReserveSeat());
+            repository.update(resident);
+        }
+        verify(delegate, never()).update(any());
+
+        assertEquals(1, repository.flush());
+        verify(delegate, times(1)).update(course);
+        verify(delegate, times(1)).findByCourseCode("PPL301");
+        assertEquals(300, course.getEnrolledCount());
+        assertEquals(300, repository.getStats().updatesReceived());
+        assertEquals(0, repository.getStats().pending());
+    }
+
+    @Test
+    @DisplayName("Test close menulis sisa perubahan")
+    void testCloseFlushesPending() {
+        repository.update(course);
+        repository.close();
+
+        verify(delegate).update(course);
+        assertThrows(IllegalStateException.class, () -> repository.update(course));
+    }
+
+    @Test
+    @DisplayName("Test penulisan gagal tetap dirty untuk flush berikutnya")
+    void testFailedWriteStaysDirty() {
+        doThrow(new IllegalStateException("db down")).doNothing().when(delegate).update(course);
+        repository.update(course);
+
+        assertThrows(IllegalStateException.class, () -> repository.flush());
+        assertEquals(1, repository.getStats().pending());
+        assertEquals(1, repository.flush());
+        assertEquals(1, repository.getStats().flushFailures());
+    }
+
+    @Test
+    @DisplayName("Test flush dipicu saat jumlah dirty mencapai batas")
+    void testThresholdTriggersFlush() {
+        WriteBehindCourseRepository eager = new WriteBehindCourseRepository(delegate, 1, TimeUnit.HOURS, 1);
+        eager.update(course);
+        verify(delegate, timeout(5_000)).update(course);
+        eager.close();
+    }
+
+    @Test
+    @DisplayName("Test update yang bersaing dengan close tetap tertulis dan tidak ditolak executor")
+    void testUpdateRacingClose() throws Exception {
+        Set<String> written = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> written.add(invocation.<Course>getArgument(0).getCourseCode()))
+                .when(delegate).update(any());
+        WriteBehindCourseRepository eager = new WriteBehindCourseRepository(delegate, 1, TimeUnit.HOURS, 1);
+        Set<String> accepted = ConcurrentHashMap.newKeySet();
+        AtomicReference<Throwable> unexpected = new AtomicReference<>();
+        CountDownLatch started = new CountDownLatch(4);
+
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int writer = t;
+            Thread thread = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; ; i++) {
+                    String code = "C" + writer + "-" + i;
+                    try {
+                        eager.update(new Course(code, "Course", 3, 40, 0, "Dosen"));
+                        accepted.add(code);
+                    } catch (IllegalStateException closed) {
+                        return;
+                    } catch (Throwable e) {
+                        unexpected.set(e);
+                        return;
+                    }
+                }
+            });
+            thread.start();
+            writers.add(thread);
+        }
+        started.await();
+        while (accepted.size() < 100 && unexpected.get() == null) {
+            Thread.onSpinWait();
+        }
+        eager.close();
+        for (Thread thread : writers) {
+            thread.join(5_000);
+        }
+
+        assertNull(unexpected.get());
+        assertTrue(written.containsAll(accepted));
+        assertEquals(0, eager.getStats().pending());
+    }
+}
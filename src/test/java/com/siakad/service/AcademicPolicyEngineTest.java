@@ -0,0 +1,140 @@
+package com.siakad.service;
+
+import com.siakad.model.AcademicStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test untuk AcademicPolicyEngine
+ */
+@DisplayName("Test Academic Policy Engine")
+class AcademicPolicyEngineTest {
+
+    private static final String RULES = String.join("\n",
+            "default.maxCredits = 3.00:24, 2.50:21, 2.00:18, 0.00:15",
+            "default.status.1-2 = 2.00:ACTIVE, 0.00:PROBATION",
+            "default.status.3-4 = 2.25:ACTIVE, 2.00:PROBATION, 0.00:SUSPENDED",
+            "default.status.5+ = 2.50:ACTIVE, 2.00:PROBATION, 0.00:SUSPENDED",
+            "faculty.FT = TI, SI",
+            "FT.maxCredits = 3.50:24, 3.00:22, 0.00:16",
+            "TI.status.1 = 1.50:ACTIVE, 0.00:PROBATION",
+            "TI.status.2+ = 2.75:ACTIVE, 0.00:SUSPENDED");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Test aturan default identik dengan aturan lama untuk semua IPK dan semester")
+    void testDefaultsMatchLegacyRules() {
+        AcademicPolicyEngine engine = AcademicPolicyEngine.defaults();
+        for (int hundredths = 0; hundredths <= 400; hundredths++) {
+            double gpa = hundredths / 100.0;
+            assertEquals(legacyMaxCredits(gpa), engine.calculateMaxCredits(null, gpa), "GPA " + gpa);
+            for (int semester = 1; semester <= 14; semester++) {
+                assertEquals(legacyStatus(gpa, semester), engine.determineAcademicStatus(null, gpa, semester).name(),
+                        "GPA " + gpa + " semester " + semester);
+            }
+        }
+        assertEquals(AcademicStatus.ACTIVE, engine.determineAcademicStatus("UNKNOWN", 2.3, 3));
+        assertThrows(IllegalArgumentException.class, () -> engine.calculateMaxCredits(null, 4.01));
+        assertThrows(IllegalArgumentException.class, () -> engine.determineAcademicStatus(null, 3.0, 0));
+    }
+
+    @Test
+    @DisplayName("Test program studi memakai aturannya sendiri, lalu fakultas, lalu default")
+    void testScopeResolution() throws IOException {
+        AcademicPolicyEngine engine = new AcademicPolicyEngine(write(RULES));
+
+        // TI: own status rules, faculty credit rules
+        assertEquals(AcademicStatus.ACTIVE, engine.determineAcademicStatus("TI", 1.5, 1));
+        assertEquals(AcademicStatus.SUSPENDED, engine.determineAcademicStatus("TI", 2.74, 9));
+        assertEquals(22, engine.calculateMaxCredits("TI", 3.2));
+        // SI: faculty credit rules, default status rules
+        assertEquals(16, engine.calculateMaxCredits("SI", 2.9));
+        assertEquals(AcademicStatus.PROBATION, engine.determineAcademicStatus("SI", 2.3, 5));
+        // Other majors: defaults
+        assertEquals(21, engine.calculateMaxCredits("SK", 2.9));
+        assertEquals(1, engine.getVersion());
+    }
+
+    @Test
+    @DisplayName("Test reload mengganti aturan dan konfigurasi invalid tidak dipasang")
+    void testHotReload() throws IOException {
+        Path file = write(RULES);
+        AcademicPolicyEngine engine = new AcademicPolicyEngine(file);
+        assertFalse(engine.reloadIfModified());
+
+        Files.writeString(file, RULES.replace("FT.maxCredits = 3.50:24, 3.00:22, 0.00:16",
+                "FT.maxCredits = 0.00:12"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1_000));
+        assertTrue(engine.reloadIfModified());
+        assertEquals(12, engine.calculateMaxCredits("TI", 4.0));
+        assertEquals(2, engine.getVersion());
+
+        Files.writeString(file, RULES.replace("default.status.3-4", "default.status.4-5"));
+        assertThrows(IllegalArgumentException.class, engine::reload);
+        assertEquals(12, engine.calculateMaxCredits("TI", 4.0));
+        assertEquals(2, engine.getVersion());
+    }
+
+    @Test
+    @DisplayName("Test aturan invalid ditolak dengan pesan yang jelas")
+    void testInvalidRules() {
+        assertInvalid("default.maxCredits = 3.00:24, 2.00:18");
+        assertInvalid("default.maxCredits = 2.00:18, 3.00:24, 0.00:15");
+        assertInvalid("default.maxCredits = 3.005:24, 0.00:15");
+        assertInvalid("default.status.1+ = 2.00:GRADUATED, 0.00:PROBATION");
+        assertInvalid("default.status.1-2 = 2.00:ACTIVE, 0.00:PROBATION\ndefault.status.4+ = 0.00:ACTIVE");
+        assertInvalid("default.status.1-4 = 0.00:ACTIVE");
+        assertInvalid("default.bonus = 1");
+        assertThrows(IllegalStateException.class, () -> AcademicPolicyEngine.defaults().reload());
+    }
+
+    private void assertInvalid(String override) {
+        Properties rules = new Properties();
+        rules.setProperty("default.maxCredits", "0.00:15");
+        rules.setProperty("default.status.1+", "0.00:ACTIVE");
+        for (String line : override.split("\n")) {
+            String[] pair = line.split("=", 2);
+            rules.setProperty(pair[0].trim(), pair[1].trim());
+        }
+        if (override.contains("status.1-")) {
+            rules.remove("default.status.1+");
+        }
+        assertThrows(IllegalArgumentException.class, () -> AcademicPolicyEngine.fromProperties(rules), override);
+    }
+
+    private Path write(String rules) throws IOException {
+        return Files.writeString(tempDir.resolve("academic-policy.properties"), rules);
+    }
+
+    private static int legacyMaxCredits(double gpa) {
+        if (gpa >= 3.0) return 24;
+        if (gpa >= 2.5) return 21;
+        if (gpa >= 2.0) return 18;
+        return 15;
+    }
+
+    private static String legacyStatus(double gpa, int semester) {
+        if (semester <= 2) {
+            return gpa >= 2.0 ? "ACTIVE" : "PROBATION";
+        }
+        if (semester <= 4) {
+            if (gpa >= 2.25) return "ACTIVE";
+            if (gpa >= 2.0) return "PROBATION";
+            return "SUSPENDED";
+        }
+        if (gpa >= 2.5) return "ACTIVE";
+        if (gpa >= 2.0) return "PROBATION";
+        return "SUSPENDED";
+    }
+}
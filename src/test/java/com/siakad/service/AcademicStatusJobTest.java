@@ -0,0 +1,147 @@
+package com.siakad.service;
+
+import com.siakad.model.CourseGrade;
+import com.siakad.model.Student;
+import com.siakad.repository.InMemoryStudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test untuk AcademicStatusJob
+ */
+@DisplayName("Test Academic Status Job")
+class AcademicStatusJobTest {
+
+    private static final int STUDENTS = 1_000;
+
+    @TempDir Path tempDir;
+
+    private InMemoryStudentRepository studentRepository;
+    private List<String> studentIds;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository = new InMemoryStudentRepository();
+        studentIds = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            String id = "S" + i;
+            studentIds.add(id);
+            // Even students already hold the GPA/status their transcript produces
+            boolean upToDate = i % 2 == 0;
+            studentRepository.save(new Student(id, "Mhs " + i, id + "@mail.com", "TI", 5,
+                    upToDate ? 3.0 : 0.0, upToDate ? "ACTIVE" : "SUSPENDED"));
+        }
+    }
+
+    private static List<CourseGrade> transcript(String studentId) {
+        return List.of(new CourseGrade("CS101", 3, 3.0), new CourseGrade("CS102", 3, 3.0));
+    }
+
+    @Test
+    @DisplayName("Test hanya mahasiswa yang berubah yang ditulis kembali")
+    void testOnlyChangedStudentsWritten() {
+        AtomicLong lastProgress = new AtomicLong();
+        AcademicStatusJob job = new AcademicStatusJob(studentRepository, AcademicStatusJobTest::transcript,
+                new GradeCalculator(), 4, 64, null);
+
+        AcademicStatusJob.Report report = job.run(studentIds, (processed, total) -> lastProgress.set(processed));
+
+        assertEquals(STUDENTS, report.processed());
+        assertEquals(STUDENTS / 2, report.changed());
+        assertEquals(0, report.failed());
+        assertEquals(STUDENTS, lastProgress.get());
+        assertEquals(Long.valueOf(STUDENTS), report.creditLimits().get(24));
+        assertTrue(report.studentsPerSecond() > 0);
+        Student updated = studentRepository.findById("S1");
+        assertEquals(3.0, updated.getGpa());
+        assertEquals("ACTIVE", updated.getAcademicStatus());
+    }
+
+    @Test
+    @DisplayName("Test mahasiswa di repository tidak berubah jika updateAll gagal")
+    void testFailedWriteLeavesStudentsUntouched() {
+        InMemoryStudentRepository failingRepository = new InMemoryStudentRepository() {
+            @Override
+            public void updateAll(Collection<Student> students) {
+                throw new IllegalStateException("Database unavailable");
+            }
+        };
+        Student stale = new Student("S1", "Mhs 1", "s1@mail.com", "TI", 5, 0.0, "SUSPENDED");
+        failingRepository.save(stale);
+        AcademicStatusJob job = new AcademicStatusJob(failingRepository, AcademicStatusJobTest::transcript,
+                new GradeCalculator(), 1, 10, null);
+
+        assertThrows(IllegalStateException.class, () -> job.run(List.of("S1"), null));
+
+        assertSame(stale, failingRepository.findById("S1"));
+        assertEquals(0.0, stale.getGpa());
+        assertEquals("SUSPENDED", stale.getAcademicStatus());
+    }
+
+    @Test
+    @DisplayName("Test data invalid dihitung gagal tanpa menghentikan job")
+    void testInvalidDataCountedAsFailed() {
+        studentRepository.save(new Student("S3", "Mhs 3", "s3@mail.com", "TI", 0, 0.0, "ACTIVE"));
+        AcademicStatusJob job = new AcademicStatusJob(studentRepository, AcademicStatusJobTest::transcript,
+                new GradeCalculator(), 2, 100, null);
+
+        AcademicStatusJob.Report report = job.run(new ArrayList<>(List.of("S3", "S1", "MISSING")), null);
+
+        assertEquals(1, report.processed());
+        assertEquals(2, report.failed());
+    }
+
+    @Test
+    @DisplayName("Test job dilanjutkan dari checkpoint setelah crash")
+    void testResumeFromCheckpoint() {
+        Path checkpoint = tempDir.resolve("status-job.checkpoint");
+        AtomicBoolean crash = new AtomicBoolean(true);
+        Set<String> computed = ConcurrentHashMap.newKeySet();
+        AcademicStatusJob.TranscriptSource source = studentId -> {
+            if (studentId.equals("S500") && crash.get()) {
+                throw new IllegalStateException("Grade store unavailable");
+            }
+            computed.add(studentId);
+            return transcript(studentId);
+        };
+
+        AcademicStatusJob job = new AcademicStatusJob(studentRepository, source, new GradeCalculator(), 4, 100, checkpoint);
+        assertThrows(IllegalStateException.class, () -> job.run(studentIds, null));
+        assertTrue(Files.exists(checkpoint));
+
+        crash.set(false);
+        computed.clear();
+        AcademicStatusJob.Report report = job.run(studentIds, null);
+
+        assertEquals(100, report.processed(), "Only the failed partition runs again");
+        assertEquals(900, report.resumed());
+        assertTrue(computed.contains("S500"));
+        assertEquals(100, computed.size());
+        assertFalse(Files.exists(checkpoint), "Checkpoint is removed after a complete run");
+    }
+
+    @Test
+    @DisplayName("Test checkpoint dari job berbeda ditolak")
+    void testForeignCheckpointRejected() throws Exception {
+        Path checkpoint = tempDir.resolve("other.checkpoint");
+        Files.writeString(checkpoint, "students=5 partitionSize=1\n0\n");
+        AcademicStatusJob job = new AcademicStatusJob(studentRepository, AcademicStatusJobTest::transcript,
+                new GradeCalculator(), 1, 100, checkpoint);
+
+        assertThrows(IllegalStateException.class, () -> job.run(studentIds, null));
+    }
+}
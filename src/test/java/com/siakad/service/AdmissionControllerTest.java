@@ -0,0 +1,204 @@
+package com.siakad.service;
+
+import com.siakad.exception.AdmissionRejectedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test untuk AdmissionController: rate limit per mahasiswa dan batas konkurensi global
+ */
+@DisplayName("Test Admission Controller")
+class AdmissionControllerTest {
+
+    @Test
+    @DisplayName("Test rate limit per mahasiswa dengan burst dan retry-after")
+    void testRateLimit() {
+        AtomicLong clock = new AtomicLong();
+        AdmissionController controller = new AdmissionController(2, 3, 10, 10, 0, TimeUnit.MILLISECONDS,
+                1_000, clock::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("ok", controller.execute("S1", () -> "ok"));
+        }
+        AdmissionRejectedException rejected = assertThrows(AdmissionRejectedException.class,
+                () -> controller.execute("S1", () -> "ok"));
+        assertEquals(AdmissionRejectedException.Reason.RATE_LIMITED, rejected.getReason());
+        assertEquals(500, rejected.getRetryAfterMillis());
+
+        // Other students have their own bucket
+        assertEquals("ok", controller.execute("S2", () -> "ok"));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals("ok", controller.execute("S1", () -> "ok"));
+        assertThrows(AdmissionRejectedException.class, () -> controller.execute("S1", () -> "ok"));
+
+        AdmissionController.Metrics metrics = controller.getMetrics();
+        assertEquals(5, metrics.admitted());
+        assertEquals(2, metrics.rateLimited());
+        assertEquals(0, metrics.inFlight());
+    }
+
+    @Test
+    @DisplayName("Test bucket mahasiswa yang sudah penuh dibuang saat jumlahnya melewati batas")
+    void testIdleBucketsSwept() {
+        AtomicLong clock = new AtomicLong();
+        AdmissionController controller = new AdmissionController(1, 1, 10, 10, 0, TimeUnit.MILLISECONDS,
+                4, clock::get);
+
+        for (int i = 0; i < 4; i++) {
+            controller.execute("S" + i, () -> null);
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        controller.execute("S4", () -> null);
+
+        assertEquals(1, controller.getMetrics().trackedStudents());
+    }
+
+    @Test
+    @DisplayName("Test sweep bucket dibatasi sekali per interval isi ulang")
+    void testSweepRateLimited() {
+        AtomicLong clock = new AtomicLong();
+        // Two tokens at one per second, an empty bucket refills in two seconds
+        AdmissionController controller = new AdmissionController(1, 2, 10, 10, 0, TimeUnit.MILLISECONDS,
+                4, clock::get);
+
+        for (int i = 0; i < 4; i++) {
+            controller.execute("S" + i, () -> null);
+        }
+        clock.set(TimeUnit.SECONDS.toNanos(2));
+        controller.execute("S4", () -> null);
+        assertEquals(1, controller.getMetrics().trackedStudents());
+
+        // Over the limit again, but the next sweep is not due yet
+        clock.set(TimeUnit.SECONDS.toNanos(3));
+        for (int i = 5; i < 9; i++) {
+            controller.execute("S" + i, () -> null);
+        }
+        assertEquals(5, controller.getMetrics().trackedStudents());
+
+        clock.set(TimeUnit.SECONDS.toNanos(4));
+        controller.execute("S9", () -> null);
+        assertEquals(1, controller.getMetrics().trackedStudents());
+    }
+
+    @Test
+    @DisplayName("Test permintaan ditolak cepat saat antrean global penuh")
+    void testShedWhenSaturated() throws Exception {
+        AdmissionController controller = new AdmissionController(1_000, 1_000, 2, 1, 5, TimeUnit.SECONDS);
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<String>> holders = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                String studentId = "H" + i;
+                holders.add(executor.submit(() -> controller.execute(studentId, () -> {
+                    running.countDown();
+                    awaitQuietly(release);
+                    return studentId;
+                })));
+            }
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+
+            Future<String> queued = executor.submit(() -> controller.execute("Q", () -> "Q"));
+            while (controller.getMetrics().queueDepth() < 1) {
+                Thread.onSpinWait();
+            }
+
+            AdmissionRejectedException rejected = assertThrows(AdmissionRejectedException.class,
+                    () -> controller.execute("X", () -> "X"));
+            assertEquals(AdmissionRejectedException.Reason.OVERLOADED, rejected.getReason());
+            assertTrue(rejected.getRetryAfterMillis() >= 1);
+
+            release.countDown();
+            assertEquals("Q", queued.get(5, TimeUnit.SECONDS));
+            for (Future<String> holder : holders) {
+                holder.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+
+        AdmissionController.Metrics metrics = controller.getMetrics();
+        assertEquals(3, metrics.admitted());
+        assertEquals(1, metrics.shedQueueFull());
+        assertEquals(0, metrics.queueDepth());
+    }
+
+    @Test
+    @DisplayName("Test permintaan yang menunggu terlalu lama ditolak")
+    void testQueueTimeout() throws Exception {
+        AdmissionController controller = new AdmissionController(1_000, 1_000, 1, 10, 20, TimeUnit.MILLISECONDS);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> holder = executor.submit(() -> controller.execute("H", () -> {
+                running.countDown();
+                awaitQuietly(release);
+                return null;
+            }));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+
+            assertThrows(AdmissionRejectedException.class, () -> controller.execute("X", () -> "X"));
+
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+        assertEquals(1, controller.getMetrics().shedTimeout());
+    }
+
+    @Test
+    @DisplayName("Test konkurensi tidak pernah melewati batas")
+    void testConcurrencyBound() throws Exception {
+        AdmissionController controller = new AdmissionController(1_000_000, 1_000_000, 3, 1_000, 5,
+                TimeUnit.SECONDS);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                String studentId = "S" + i;
+                futures.add(executor.submit(() -> controller.execute(studentId, () -> {
+                    peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    Thread.yield();
+                    active.decrementAndGet();
+                    return null;
+                })));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(peak.get() <= 3, "Peak concurrency " + peak.get());
+        assertEquals(400, controller.getMetrics().admitted());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.siakad.service;
+
+import com.siakad.exception.AdmissionRejectedException;
+import com.siakad.exception.CourseFullException;
+import com.siakad.model.Course;
+import com.siakad.model.Enrollment;
+import com.siakad.model.EnrollmentOutcome;
+import com.siakad.model.Student;
+import com.siakad.repository.AsyncCourseRepository;
+import com.siakad.repository.AsyncStudentRepository;
+import com.siakad.repository.InMemoryCourseRepository;
+import com.siakad.repository.InMemoryEnrollmentRepository;
+import com.siakad.repository.InMemoryStudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit Test untuk AsyncEnrollmentService
+ */
+@DisplayName("Test Async Enrollment Service")
+class AsyncEnrollmentServiceTest {
+
+    private InMemoryStudentRepository studentRepository;
+    private InMemoryCourseRepository courseRepository;
+    private NotificationService notificationService;
+    private EnrollmentService enrollmentService;
+    private ExecutorService executor;
+    private AsyncEnrollmentService asyncService;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository = new InMemoryStudentRepository();
+        courseRepository = new InMemoryCourseRepository(studentRepository);
+        studentRepository.save(new Student("S1", "Naura", "naura@mail.com", "TI", 4, 3.7, "ACTIVE"));
+        studentRepository.save(new Student("S2", "Rina", "rina@mail.com", "SI", 5, 1.0, "SUSPENDED"));
+        courseRepository.save(new Course("IF101", "Pemrograman Java", 3, 30, 25, "Dosen A"));
+        courseRepository.save(new Course("DB201", "Basis Data", 3, 25, 25, "Dosen B"));
+
+        notificationService = mock(NotificationService.class);
+        enrollmentService = new EnrollmentService(studentRepository, courseRepository,
+                notificationService, new GradeCalculator());
+        enrollmentService.setEnrollmentRepository(new InMemoryEnrollmentRepository());
+        executor = Executors.newFixedThreadPool(4);
+        asyncService = new AsyncEnrollmentService(enrollmentService,
+                AsyncStudentRepository.of(studentRepository, executor),
+                AsyncCourseRepository.of(courseRepository, executor),
+                executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Test enrollCourse async berhasil - course di-update dan email terkirim")
+    void testEnrollCourseSuccess() throws Exception {
+        Enrollment enrollment = asyncService.enrollCourse("S1", "IF101").get(5, TimeUnit.SECONDS);
+
+        assertEquals("S1", enrollment.getStudentId());
+        assertEquals("IF101", enrollment.getCourseCode());
+        assertEquals(26, courseRepository.findByCourseCode("IF101").getEnrolledCount());
+        assertEquals(EnrollmentOutcome.Reason.ALREADY_ENROLLED,
+                enrollmentService.tryEnrollCourse("S1", "IF101").getReason());
+        verify(notificationService).sendEmail(eq("naura@mail.com"), eq("Enrollment Confirmation"), anyString());
+    }
+
+    @Test
+    @DisplayName("Test tryEnrollCourse async memberi alasan penolakan yang sama dengan API sinkron")
+    void testTryEnrollCourseRejections() throws Exception {
+        Course advanced = new Course("IF301", "Kompilator", 3, 30, 0, "Dosen C");
+        advanced.addPrerequisite("IF201");
+        courseRepository.save(advanced);
+
+        assertEquals(EnrollmentOutcome.Reason.STUDENT_NOT_FOUND, reasonOf("NONE", "IF101"));
+        assertEquals(EnrollmentOutcome.Reason.STUDENT_SUSPENDED, reasonOf("S2", "IF101"));
+        assertEquals(EnrollmentOutcome.Reason.COURSE_NOT_FOUND, reasonOf("S1", "NONE"));
+        assertEquals(EnrollmentOutcome.Reason.COURSE_FULL, reasonOf("S1", "DB201"));
+        assertEquals(EnrollmentOutcome.Reason.PREREQUISITE_NOT_MET, reasonOf("S1", "IF301"));
+
+        assertTrue(asyncService.tryEnrollCourse("S1", "IF101").get(5, TimeUnit.SECONDS).isEnrolled());
+        assertEquals(EnrollmentOutcome.Reason.ALREADY_ENROLLED, reasonOf("S1", "IF101"));
+        verify(notificationService, times(1)).sendEmail(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Test enrollCourse async gagal dengan exception yang sama seperti enrollCourse")
+    void testEnrollCourseFailsWithException() {
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> asyncService.enrollCourse("S1", "DB201").get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(CourseFullException.class, e.getCause());
+        assertEquals("Course is full", e.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("Test lookup mahasiswa dan mata kuliah dijalankan bersamaan")
+    void testLookupsRunInParallel() throws Exception {
+        // Each lookup waits for the other one to start, so sequential lookups would never finish
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        AsyncStudentRepository students = new AsyncStudentRepository() {
+            @Override
+            public CompletableFuture<Student> findById(String studentId) {
+                return CompletableFuture.supplyAsync(() -> {
+                    await(bothStarted);
+                    return studentRepository.findById(studentId);
+                }, executor);
+            }
+
+            @Override
+            public CompletableFuture<Void> update(Student student) {
+                return CompletableFuture.runAsync(() -> studentRepository.update(student), executor);
+            }
+        };
+        AsyncCourseRepository delegate = AsyncCourseRepository.of(courseRepository, executor);
+        AsyncCourseRepository courses = new AsyncCourseRepository() {
+            @Override
+            public CompletableFuture<Course> findByCourseCode(String courseCode) {
+                return CompletableFuture.supplyAsync(() -> {
+                    await(bothStarted);
+                    return courseRepository.findByCourseCode(courseCode);
+                }, executor);
+            }
+
+            @Override
+            public CompletableFuture<Void> update(Course course) {
+                return delegate.update(course);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> isPrerequisiteMet(String studentId, String courseCode) {
+                return delegate.isPrerequisiteMet(studentId, courseCode);
+            }
+        };
+        asyncService = new AsyncEnrollmentService(enrollmentService, students, courses, executor);
+
+        EnrollmentOutcome outcome = asyncService.tryEnrollCourse("S1", "IF101").get(5, TimeUnit.SECONDS);
+
+        assertTrue(outcome.isEnrolled());
+    }
+
+    @Test
+    @DisplayName("Test admission control berlaku untuk API async tanpa memblokir pemanggil")
+    void testAdmissionControl() throws Exception {
+        AdmissionController admissionController = new AdmissionController(1, 1, 1, 10, 5, TimeUnit.SECONDS);
+        enrollmentService.setAdmissionController(admissionController);
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncStudentRepository delegate = AsyncStudentRepository.of(studentRepository, executor);
+        AsyncStudentRepository students = new AsyncStudentRepository() {
+            @Override
+            public CompletableFuture<Student> findById(String studentId) {
+                return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return studentRepository.findById(studentId);
+                }, executor);
+            }
+
+            @Override
+            public CompletableFuture<Void> update(Student student) {
+                return delegate.update(student);
+            }
+        };
+        asyncService = new AsyncEnrollmentService(enrollmentService, students,
+                AsyncCourseRepository.of(courseRepository, executor), executor);
+
+        CompletableFuture<EnrollmentOutcome> holder = asyncService.tryEnrollCourse("S1", "IF101");
+        assertEquals(1, admissionController.getMetrics().inFlight());
+
+        // The only slot is taken, the second student is shed instead of queued
+        ExecutionException overloaded = assertThrows(ExecutionException.class,
+                () -> asyncService.tryEnrollCourse("S2", "IF101").get(5, TimeUnit.SECONDS));
+        assertEquals(AdmissionRejectedException.Reason.OVERLOADED,
+                ((AdmissionRejectedException) overloaded.getCause()).getReason());
+
+        // One token per second, the same student is rate limited right away
+        ExecutionException rateLimited = assertThrows(ExecutionException.class,
+                () -> asyncService.tryEnrollCourse("S1", "DB201").get(5, TimeUnit.SECONDS));
+        assertEquals(AdmissionRejectedException.Reason.RATE_LIMITED,
+                ((AdmissionRejectedException) rateLimited.getCause()).getReason());
+
+        release.countDown();
+        assertTrue(holder.get(5, TimeUnit.SECONDS).isEnrolled());
+        AdmissionController.Metrics metrics = admissionController.getMetrics();
+        assertEquals(0, metrics.inFlight());
+        assertEquals(1, metrics.admitted());
+        assertEquals(1, metrics.shedQueueFull());
+        assertEquals(1, metrics.rateLimited());
+    }
+
+    private EnrollmentOutcome.Reason reasonOf(String studentId, String courseCode) throws Exception {
+        EnrollmentOutcome outcome = asyncService.tryEnrollCourse(studentId, courseCode).get(5, TimeUnit.SECONDS);
+        assertFalse(outcome.isEnrolled());
+        return outcome.getReason();
+    }
+
+    private static void await(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Lookups did not run in parallel");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
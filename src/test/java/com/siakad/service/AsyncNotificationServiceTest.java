@@ -0,0 +1,142 @@
+package com.siakad.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit Test untuk AsyncNotificationService
+ */
+@DisplayName("Test Async Notification Service")
+class AsyncNotificationServiceTest {
+
+    @Test
+    @DisplayName("Test pengiriman lambat tidak menahan pemanggil")
+    void testSlowDelegateDoesNotBlockCaller() throws InterruptedException {
+        CountDownLatch delivering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        NotificationService slow = mock(NotificationService.class);
+        doAnswer(invocation -> {
+            delivering.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(slow).sendEmail(anyString(), anyString(), anyString());
+
+        AsyncNotificationService async = new AsyncNotificationService(slow);
+        for (int i = 0; i < 50; i++) {
+            async.sendEmail("s" + i + "@mail.com", "Enrollment Confirmation", "Enrolled");
+        }
+        // Every send returned while the first delivery is still stuck in the delegate
+        assertTrue(delivering.await(5, TimeUnit.SECONDS));
+        assertEquals(0, async.getMetrics().delivered());
+        assertEquals(50, async.getMetrics().enqueued());
+
+        release.countDown();
+        async.close();
+
+        verify(slow, times(50)).sendEmail(anyString(), eq("Enrollment Confirmation"), eq("Enrolled"));
+        AsyncNotificationService.Metrics metrics = async.getMetrics();
+        assertEquals(50, metrics.enqueued());
+        assertEquals(50, metrics.delivered());
+        assertEquals(0, metrics.dropped());
+        assertEquals(0, metrics.queueDepth());
+    }
+
+    @Test
+    @DisplayName("Test buffer penuh dengan kebijakan DROP_NEWEST")
+    void testDropNewestWhenFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivering = new CountDownLatch(1);
+        NotificationService blocked = mock(NotificationService.class);
+        doAnswer(invocation -> {
+            delivering.countDown();
+            release.await();
+            return null;
+        }).when(blocked).sendSMS(anyString(), anyString());
+
+        AsyncNotificationService async = new AsyncNotificationService(blocked, 2, 1, 1,
+                AsyncNotificationService.OverflowPolicy.DROP_NEWEST, 0);
+        async.sendSMS("0811", "first");
+        assertTrue(delivering.await(5, TimeUnit.SECONDS));
+        // Dispatcher holds one more message while waiting for the delivery slot
+        for (int i = 0; i < 10; i++) {
+            async.sendSMS("0811", "more");
+        }
+        release.countDown();
+        async.close();
+
+        AsyncNotificationService.Metrics metrics = async.getMetrics();
+        assertTrue(metrics.dropped() >= 7, "Dropped " + metrics.dropped());
+        assertEquals(11, metrics.enqueued() + metrics.dropped());
+        assertEquals(metrics.enqueued(), metrics.delivered());
+    }
+
+    @Test
+    @DisplayName("Test close bersamaan dengan pengiriman tidak kehilangan pesan")
+    void testCloseWhileSending() throws InterruptedException {
+        NotificationService delegate = mock(NotificationService.class);
+        AsyncNotificationService async = new AsyncNotificationService(delegate);
+        int threads = 4;
+        int perThread = 500;
+        CountDownLatch started = new CountDownLatch(threads);
+        Thread[] senders = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            senders[t] = Thread.ofVirtual().start(() -> {
+                started.countDown();
+                for (int i = 0; i < perThread; i++) {
+                    async.sendSMS("0811", "m" + i);
+                }
+            });
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        async.close();
+        for (Thread sender : senders) {
+            sender.join();
+        }
+
+        // Accepted messages are all delivered, the rest are counted as dropped
+        AsyncNotificationService.Metrics metrics = async.getMetrics();
+        assertEquals(threads * perThread, metrics.enqueued() + metrics.dropped());
+        assertEquals(metrics.enqueued(), metrics.delivered());
+        verify(delegate, times((int) metrics.delivered())).sendSMS(eq("0811"), anyString());
+        assertEquals(0, metrics.queueDepth());
+    }
+
+    @Test
+    @DisplayName("Test close tetap selesai saat thread pemanggil di-interrupt")
+    void testCloseWhenInterrupted() {
+        NotificationService delegate = mock(NotificationService.class);
+        AsyncNotificationService async = new AsyncNotificationService(delegate);
+        async.sendEmail("a@mail.com", "s", "m");
+
+        Thread.currentThread().interrupt();
+        async.close();
+
+        assertTrue(Thread.interrupted(), "Interrupt status is restored");
+        assertEquals(1, async.getMetrics().delivered());
+    }
+
+    @Test
+    @DisplayName("Test kegagalan pengiriman dicatat di metrik")
+    void testFailedDeliveryCounted() {
+        NotificationService failing = mock(NotificationService.class);
+        doThrow(new IllegalStateException("relay down"))
+                .when(failing).sendEmail(anyString(), anyString(), anyString());
+
+        AsyncNotificationService async = new AsyncNotificationService(failing);
+        async.sendEmail("a@mail.com", "s", "m");
+        async.close();
+        async.sendEmail("late@mail.com", "s", "m");
+
+        AsyncNotificationService.Metrics metrics = async.getMetrics();
+        assertEquals(1, metrics.failed());
+        assertEquals(0, metrics.delivered());
+        assertEquals(1, metrics.dropped(), "Messages after close are dropped");
+    }
+}
@@ -0,0 +1,87 @@
+package com.siakad.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test untuk CourseLockStripes
+ */
+@DisplayName("Test Course Lock Stripes")
+class CourseLockStripesTest {
+
+    @Test
+    @DisplayName("Test transaksi tumpang tindih dengan urutan acak tidak deadlock dan tidak kehilangan update")
+    void testOverlappingTransactions() throws Exception {
+        CourseLockStripes locks = new CourseLockStripes(4);
+        String[] codes = {"C0", "C1", "C2", "C3", "C4", "C5", "C6", "C7"};
+        long[] counters = new long[codes.length];
+        int threads = 8;
+        int rounds = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < rounds; i++) {
+                        int first = random.nextInt(codes.length);
+                        int second = random.nextInt(codes.length);
+                        locks.withLocks(List.of(codes[first], codes[second], codes[first]), () -> {
+                            counters[first]++;
+                            if (second != first) {
+                                counters[second]++;
+                            }
+                            return null;
+                        });
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long total = 0;
+        for (long counter : counters) {
+            total += counter;
+        }
+        assertTrue(total > (long) threads * rounds);
+        assertTrue(total <= 2L * threads * rounds);
+    }
+
+    @Test
+    @DisplayName("Test lock dilepas walaupun action gagal")
+    void testUnlockOnFailure() throws Exception {
+        CourseLockStripes locks = new CourseLockStripes(2);
+        assertThrows(IllegalStateException.class, () -> locks.withLocks(List.of("A", "B"), () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        // Another thread can take the same stripes afterwards
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals("ok", executor.submit(() -> locks.withLocks(List.of("A", "B"), () -> "ok"))
+                    .get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+        assertThrows(IllegalArgumentException.class, () -> new CourseLockStripes(3));
+    }
+}
@@ -0,0 +1,107 @@
+package com.siakad.service;
+
+import com.siakad.model.Course;
+import com.siakad.model.Enrollment;
+import com.siakad.repository.InMemoryCourseRepository;
+import com.siakad.repository.InMemoryStudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test untuk CreditLoadTracker
+ */
+@DisplayName("Test Credit Load Tracker")
+class CreditLoadTrackerTest {
+
+    private CreditLoadTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new CreditLoadTracker();
+    }
+
+    @Test
+    @DisplayName("Test tryAdd menolak penambahan yang melewati batas dan release tidak di bawah 0")
+    void testAddAndRelease() {
+        assertEquals(0, tracker.getLoad("S1"));
+        assertTrue(tracker.tryAdd("S1", 20, 24));
+        assertFalse(tracker.tryAdd("S1", 5, 24));
+        assertTrue(tracker.tryAdd("S1", 4, 24));
+        assertEquals(24, tracker.getLoad("S1"));
+
+        tracker.release("S1", 3);
+        assertEquals(21, tracker.getLoad("S1"));
+        tracker.release("S1", 100);
+        assertEquals(0, tracker.getLoad("S1"));
+        tracker.release("NONE", 3);
+        assertEquals(0, tracker.getLoad("NONE"));
+        assertThrows(IllegalArgumentException.class, () -> tracker.tryAdd("S1", -1, 24));
+    }
+
+    @Test
+    @DisplayName("Test tryAdd bersamaan tidak pernah melewati batas")
+    void testConcurrentAddRespectsLimit() throws Exception {
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 1_000; i++) {
+                        if (tracker.tryAdd("S1", 3, 24)) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(8, accepted.get());
+        assertEquals(24, tracker.getLoad("S1"));
+    }
+
+    @Test
+    @DisplayName("Test rebuild dari data enrollment menggantikan counter lama")
+    void testRebuild() {
+        InMemoryCourseRepository courses = new InMemoryCourseRepository(new InMemoryStudentRepository());
+        courses.save(new Course("C1", "Satu", 3, 40, 0, "Dosen A"));
+        courses.save(new Course("C2", "Dua", 2, 40, 0, "Dosen A"));
+        tracker.tryAdd("STALE", 10, 24);
+
+        int students = tracker.rebuild(List.of(enrollment("S1", "C1"), enrollment("S1", "C2"),
+                enrollment("S2", "C2"), enrollment("S3", "GONE")), courses);
+
+        assertEquals(2, students);
+        assertEquals(5, tracker.getLoad("S1"));
+        assertEquals(2, tracker.getLoad("S2"));
+        assertEquals(0, tracker.getLoad("S3"));
+        assertEquals(0, tracker.getLoad("STALE"));
+    }
+
+    private static Enrollment enrollment(String studentId, String courseCode) {
+        Enrollment enrollment = new Enrollment();
+        enrollment.setStudentId(studentId);
+        enrollment.setCourseCode(courseCode);
+        return enrollment;
+    }
+}
@@ -3,6 +3,8 @@ package com.siakad.service;
 import com.siakad.exception.*;
 import com.siakad.model.*;
 import com.siakad.repository.CourseRepository;
+import com.siakad.repository.EnrollmentJournal;
+import com.siakad.repository.InMemoryEnrollmentRepository;
 import com.siakad.repository.StudentRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,7 +14,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -126,7 +139,7 @@ public class EnrollmentServiceTest {
     @DisplayName("Test validasi SKS melebihi batas maksimum - return false")
     void testValidateCreditLimit_ExceedsLimit() { // STUB - CREDIT VALIDATION: EXCEEDS LIMIT
         when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
-        when(gradeCalculator.calculateMaxCredits(activeStudent.getGpa())).thenReturn(24);
+        when(gradeCalculator.calculateMaxCredits(activeStudent.getMajor(), activeStudent.getGpa())).thenReturn(24);
 
         boolean result = enrollmentService.validateCreditLimit(STUDENT_ID, 25);
 
@@ -137,7 +150,7 @@ public class EnrollmentServiceTest {
     @DisplayName("Test validasi SKS dalam batas - return true")
     void testValidateCreditLimit_WithinLimit() { // STUB - CREDIT VALIDATION: WITHIN LIMIT
         when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
-        when(gradeCalculator.calculateMaxCredits(activeStudent.getGpa())).thenReturn(24);
+        when(gradeCalculator.calculateMaxCredits(activeStudent.getMajor(), activeStudent.getGpa())).thenReturn(24);
 
         boolean result = enrollmentService.validateCreditLimit(STUDENT_ID, 20);
 
@@ -148,7 +161,7 @@ public class EnrollmentServiceTest {
     @DisplayName("Test validasi SKS sama dengan batas - return true")
     void testValidateCreditLimit_EqualLimit() { // STUB - CREDIT VALIDATION: EQUAL LIMIT
         when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
-        when(gradeCalculator.calculateMaxCredits(activeStudent.getGpa())).thenReturn(24);
+        when(gradeCalculator.calculateMaxCredits(activeStudent.getMajor(), activeStudent.getGpa())).thenReturn(24);
 
         boolean result = enrollmentService.validateCreditLimit(STUDENT_ID, 24);
 
@@ -320,4 +333,556 @@ public class EnrollmentServiceTest {
         verify(courseRepository, never()).update(any());
         verify(notificationService, never()).sendEmail(anyString(), anyString(), anyString());
     }
-}
\ No newline at end of file
+
+    // ==================== CONCURRENCY TESTS ====================
+    @Test
+    @DisplayName("Test enrollment paralel tidak melebihi kapasitas mata kuliah")
+    void testConcurrentEnroll_NeverOversells() throws InterruptedException {
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCode(COURSE_CODE)).thenReturn(availableCourse);
+        when(courseRepository.isPrerequisiteMet(STUDENT_ID, COURSE_CODE)).thenReturn(true);
+
+        int attempts = 64;
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < attempts; i++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    enrollmentService.enrollCourse(STUDENT_ID, COURSE_CODE);
+                    succeeded.incrementAndGet();
+                } catch (CourseFullException e) {
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(5, succeeded.get(), "Only the 5 remaining seats can be claimed");
+        assertEquals(attempts - 5, rejected.get());
+        assertEquals(30, availableCourse.getEnrolledCount());
+    }
+
+    @Test
+    @DisplayName("Test drop course tanpa peserta tidak membuat jumlah peserta negatif")
+    void testDropCourse_EmptyCourse_NoUpdate() {
+        Course emptyCourse = new Course("EMP101", "Kosong", 2, 10, 0, "Dosen C");
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCode("EMP101")).thenReturn(emptyCourse);
+
+        assertThrows(EnrollmentException.class,
+                () -> enrollmentService.dropCourse(STUDENT_ID, "EMP101"));
+
+        assertEquals(0, emptyCourse.getEnrolledCount());
+        verify(courseRepository, never()).update(any());
+        verify(notificationService, never()).sendEmail(anyString(), anyString(), anyString());
+    }
+
+    // ==================== JOURNAL TESTS ====================
+    @Test
+    @DisplayName("Test enrollment dan drop dicatat ke journal sebelum Course di-update")
+    void testJournal_RecordedBeforeUpdate() {
+        EnrollmentJournal journal = mock(EnrollmentJournal.class);
+        enrollmentService.setEnrollmentJournal(journal);
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCode(COURSE_CODE)).thenReturn(availableCourse);
+        when(courseRepository.isPrerequisiteMet(STUDENT_ID, COURSE_CODE)).thenReturn(true);
+
+        Enrollment result = enrollmentService.enrollCourse(STUDENT_ID, COURSE_CODE);
+        enrollmentService.dropCourse(STUDENT_ID, COURSE_CODE);
+
+        var inOrder = inOrder(journal, courseRepository);
+        inOrder.verify(journal).recordEnrollment(result);
+        inOrder.verify(courseRepository).update(availableCourse);
+        inOrder.verify(journal).recordDrop(STUDENT_ID, COURSE_CODE);
+        inOrder.verify(courseRepository).update(availableCourse);
+        assertEquals(25, availableCourse.getEnrolledCount());
+    }
+
+    @Test
+    @DisplayName("Test kursi dikembalikan jika journal gagal menulis")
+    void testJournal_FailureReleasesSeat() {
+        EnrollmentJournal journal = mock(EnrollmentJournal.class);
+        enrollmentService.setEnrollmentJournal(journal);
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCode(COURSE_CODE)).thenReturn(availableCourse);
+        when(courseRepository.isPrerequisiteMet(STUDENT_ID, COURSE_CODE)).thenReturn(true);
+        doThrow(new UncheckedIOException(new IOException("disk full"))).when(journal).recordEnrollment(any());
+
+        assertThrows(UncheckedIOException.class, () -> enrollmentService.enrollCourse(STUDENT_ID, COURSE_CODE));
+
+        assertEquals(25, availableCourse.getEnrolledCount());
+        verify(courseRepository, never()).update(any());
+        verify(notificationService, never()).sendEmail(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Test drop yang gagal ditulis ke journal tidak pernah melepas kursi")
+    void testJournal_DropFailureKeepsSeat() {
+        InMemoryEnrollmentRepository enrollments = new InMemoryEnrollmentRepository();
+        enrollmentService.setEnrollmentRepository(enrollments);
+        EnrollmentJournal journal = mock(EnrollmentJournal.class);
+        enrollmentService.setEnrollmentJournal(journal);
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCode(COURSE_CODE)).thenReturn(availableCourse);
+        when(courseRepository.isPrerequisiteMet(STUDENT_ID, COURSE_CODE)).thenReturn(true);
+        Enrollment enrolled = enrollmentService.enrollCourse(STUDENT_ID, COURSE_CODE);
+        int[] seatsDuringWrite = new int[1];
+        doAnswer(invocation -> {
+            seatsDuringWrite[0] = availableCourse.getEnrolledCount();
+            throw new UncheckedIOException(new IOException("disk full"));
+        }).when(journal).recordDrop(STUDENT_ID, COURSE_CODE);
+
+        assertThrows(UncheckedIOException.class, () -> enrollmentService.dropCourse(STUDENT_ID, COURSE_CODE));
+
+        // The seat was never up for grabs, so restoring the roster cannot oversell the course
+        assertEquals(26, seatsDuringWrite[0]);
+        assertEquals(26, availableCourse.getEnrolledCount());
+        assertSame(enrolled, enrollments.find(STUDENT_ID, COURSE_CODE));
+        verify(courseRepository, times(1)).update(availableCourse);
+    }
+
+    // ==================== ENROLLMENT REPOSITORY TESTS ====================
+    @Test
+    @DisplayName("Test pendaftaran ganda ditolak tanpa mengambil kursi")
+    void testEnrollTwice_Rejected() {
+        InMemoryEnrollmentRepository enrollments = new InMemoryEnrollmentRepository();
+        enrollmentService.setEnrollmentRepository(enrollments);
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCode(COURSE_CODE)).thenReturn(availableCourse);
+        when(courseRepository.isPrerequisiteMet(STUDENT_ID, COURSE_CODE)).thenReturn(true);
+
+        Enrollment first = enrollmentService.enrollCourse(STUDENT_ID, COURSE_CODE);
+
+        assertThrows(EnrollmentException.class, () -> enrollmentService.enrollCourse(STUDENT_ID, COURSE_CODE));
+        assertEquals(26, availableCourse.getEnrolledCount());
+        assertSame(first, enrollments.find(STUDENT_ID, COURSE_CODE));
+        assertEquals(List.of(first), enrollments.findByStudent(STUDENT_ID));
+        verify(courseRepository, times(1)).update(availableCourse);
+    }
+
+    @Test
+    @DisplayName("Test drop oleh mahasiswa yang tidak terdaftar ditolak")
+    void testDropCourse_NotEnrolled() {
+        InMemoryEnrollmentRepository enrollments = new InMemoryEnrollmentRepository();
+        enrollmentService.setEnrollmentRepository(enrollments);
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCode(COURSE_CODE)).thenReturn(availableCourse);
+        when(courseRepository.isPrerequisiteMet(STUDENT_ID, COURSE_CODE)).thenReturn(true);
+
+        assertThrows(EnrollmentException.class, () -> enrollmentService.dropCourse(STUDENT_ID, COURSE_CODE));
+        assertEquals(25, availableCourse.getEnrolledCount());
+
+        enrollmentService.enrollCourse(STUDENT_ID, COURSE_CODE);
+        enrollmentService.dropCourse(STUDENT_ID, COURSE_CODE);
+
+        assertEquals(25, availableCourse.getEnrolledCount());
+        assertFalse(enrollments.exists(STUDENT_ID, COURSE_CODE));
+        assertEquals(0, enrollments.countByCourse(COURSE_CODE));
+    }
+
+    @Test
+    @DisplayName("Test pendaftaran KRS sekaligus melewati mata kuliah yang sudah diambil")
+    void testEnrollCourses_SkipsAlreadyEnrolled() {
+        InMemoryEnrollmentRepository enrollments = new InMemoryEnrollmentRepository();
+        enrollmentService.setEnrollmentRepository(enrollments);
+        Course second = new Course("ALG202", "Algoritma", 3, 40, 10, "Dosen D");
+        Enrollment existing = new Enrollment();
+        existing.setStudentId(STUDENT_ID);
+        existing.setCourseCode(COURSE_CODE);
+        enrollments.add(existing);
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCodes(Set.of(COURSE_CODE, "ALG202")))
+                .thenReturn(Map.of(COURSE_CODE, availableCourse, "ALG202", second));
+        when(courseRepository.findPrerequisitesMet(STUDENT_ID, List.of("ALG202"))).thenReturn(Set.of("ALG202"));
+
+        BatchEnrollmentResult result = enrollmentService.enrollCourses(STUDENT_ID, List.of(COURSE_CODE, "ALG202"));
+
+        assertEquals(Set.of("ALG202"), result.getEnrollments().keySet());
+        assertInstanceOf(EnrollmentException.class, result.getFailures().get(COURSE_CODE));
+        assertEquals(25, availableCourse.getEnrolledCount());
+        assertEquals(2, enrollments.findByStudent(STUDENT_ID).size());
+    }
+
+    // ==================== WAITLIST TESTS ====================
+    @Test
+    @DisplayName("Test drop mempromosikan mahasiswa terdepan yang masih memenuhi syarat")
+    void testDropCourse_PromotesFromWaitlist() {
+        Student waiting = new Student("S789", "Dewi", "dewi@mail.com", "TI", 3, 3.1, "ACTIVE");
+        Student nowSuspended = new Student("S790", "Eko", "eko@mail.com", "TI", 3, 1.2, "ACTIVE");
+        WaitlistEngine waitlist = new WaitlistEngine();
+        List<Runnable> notifications = new ArrayList<>();
+        enrollmentService.setWaitlistEngine(waitlist, notifications::add);
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(studentRepository.findById("S789")).thenReturn(waiting);
+        when(studentRepository.findById("S790")).thenReturn(nowSuspended);
+        when(courseRepository.findByCourseCode("DB201")).thenReturn(fullCourse);
+        when(courseRepository.isPrerequisiteMet(anyString(), eq("DB201"))).thenReturn(true);
+
+        assertEquals(1, enrollmentService.joinWaitlist("S790", "DB201"));
+        assertEquals(2, enrollmentService.joinWaitlist("S789", "DB201"));
+        assertEquals(2, enrollmentService.joinWaitlist("S789", "DB201"), "Joining twice keeps the position");
+        nowSuspended.setAcademicStatus("SUSPENDED");
+
+        enrollmentService.dropCourse(STUDENT_ID, "DB201");
+
+        assertEquals(25, fullCourse.getEnrolledCount());
+        assertEquals(0, waitlist.size("DB201"));
+        verify(notificationService, never()).sendEmail(eq("dewi@mail.com"), anyString(), anyString());
+        assertEquals(1, notifications.size());
+        notifications.get(0).run();
+        verify(notificationService).sendEmail(eq("dewi@mail.com"), eq("Waitlist Promotion"), contains("Basis Data"));
+        verify(notificationService, never()).sendEmail(eq("eko@mail.com"), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Test kursi kosong tidak bisa diserobot selama waitlist belum kosong")
+    void testEnroll_SeatHeldForWaitlist() {
+        WaitlistEngine waitlist = new WaitlistEngine();
+        enrollmentService.setWaitlistEngine(waitlist, Runnable::run);
+        Student waiting = new Student("S789", "Dewi", "dewi@mail.com", "TI", 3, 3.1, "ACTIVE");
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(studentRepository.findById("S789")).thenReturn(waiting);
+        when(courseRepository.findByCourseCode("DB201")).thenReturn(fullCourse);
+        when(courseRepository.isPrerequisiteMet(anyString(), eq("DB201"))).thenReturn(true);
+        assertEquals(1, enrollmentService.joinWaitlist("S789", "DB201"));
+
+        // A seat frees up before the waitlist has been served
+        fullCourse.releaseSeat();
+        assertEquals(EnrollmentOutcome.Reason.COURSE_FULL,
+                enrollmentService.tryEnrollCourse(STUDENT_ID, "DB201").getReason());
+        assertEquals(24, fullCourse.getEnrolledCount());
+
+        // The next promotion hands it to the head of the queue
+        assertEquals(1, enrollmentService.joinWaitlist(STUDENT_ID, "DB201"));
+        assertEquals(25, fullCourse.getEnrolledCount());
+        assertEquals(List.of(STUDENT_ID), waitlist.getWaitlist("DB201"));
+        verify(notificationService).sendEmail(eq("dewi@mail.com"), eq("Waitlist Promotion"), anyString());
+    }
+
+    @Test
+    @DisplayName("Test waitlist aktif wajib punya executor notifikasi")
+    void testSetWaitlistEngine_RequiresExecutor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> enrollmentService.setWaitlistEngine(new WaitlistEngine(), null));
+        enrollmentService.setWaitlistEngine(null, null);
+    }
+
+    @Test
+    @DisplayName("Test join waitlist saat ada kursi kosong langsung mendapat kursi")
+    void testJoinWaitlist_SeatAvailable() {
+        enrollmentService.setWaitlistEngine(new WaitlistEngine(), Runnable::run);
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCode(COURSE_CODE)).thenReturn(availableCourse);
+        when(courseRepository.isPrerequisiteMet(STUDENT_ID, COURSE_CODE)).thenReturn(true);
+
+        assertEquals(0, enrollmentService.joinWaitlist(STUDENT_ID, COURSE_CODE));
+
+        assertEquals(26, availableCourse.getEnrolledCount());
+        verify(courseRepository).update(availableCourse);
+        verify(notificationService).sendEmail(eq("naura@mail.com"), eq("Waitlist Promotion"), anyString());
+        assertFalse(enrollmentService.leaveWaitlist(STUDENT_ID, COURSE_CODE));
+    }
+
+    @Test
+    @DisplayName("Test join waitlist ditolak untuk mahasiswa suspended dan tanpa waitlist aktif")
+    void testJoinWaitlist_Rejected() {
+        assertThrows(IllegalStateException.class, () -> enrollmentService.joinWaitlist(STUDENT_ID, COURSE_CODE));
+
+        enrollmentService.setWaitlistEngine(new WaitlistEngine(), Runnable::run);
+        when(studentRepository.findById("S456")).thenReturn(suspendedStudent);
+
+        assertThrows(EnrollmentException.class, () -> enrollmentService.joinWaitlist("S456", COURSE_CODE));
+        verify(courseRepository, never()).findByCourseCode(anyString());
+    }
+
+    // ==================== ADMISSION CONTROL TESTS ====================
+    @Test
+    @DisplayName("Test permintaan yang melewati rate limit ditolak sebelum menyentuh repository")
+    void testEnroll_RateLimited() {
+        enrollmentService.setAdmissionController(new AdmissionController(0.001, 1, 10, 10, 0, TimeUnit.MILLISECONDS));
+        when(studentRepository.findById("S456")).thenReturn(suspendedStudent);
+
+        assertThrows(EnrollmentException.class, () -> enrollmentService.enrollCourse("S456", COURSE_CODE));
+        AdmissionRejectedException rejected = assertThrows(AdmissionRejectedException.class,
+                () -> enrollmentService.enrollCourses("S456", List.of(COURSE_CODE)));
+
+        assertEquals(AdmissionRejectedException.Reason.RATE_LIMITED, rejected.getReason());
+        assertTrue(rejected.getRetryAfterMillis() > 0);
+        verify(studentRepository, times(1)).findById("S456");
+    }
+
+    // ==================== METRICS TESTS ====================
+    @Test
+    @DisplayName("Test metrik mencatat latensi per tahap dan penolakan per alasan")
+    void testEnroll_MetricsRecorded() {
+        EnrollmentMetrics metrics = new EnrollmentMetrics(1);
+        enrollmentService.setEnrollmentMetrics(metrics);
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(studentRepository.findById("S456")).thenReturn(suspendedStudent);
+        when(courseRepository.findByCourseCode(COURSE_CODE)).thenReturn(availableCourse);
+        when(courseRepository.findByCourseCode("DB201")).thenReturn(fullCourse);
+        when(courseRepository.isPrerequisiteMet(STUDENT_ID, COURSE_CODE)).thenReturn(true, false);
+
+        enrollmentService.enrollCourse(STUDENT_ID, COURSE_CODE);
+        assertThrows(PrerequisiteNotMetException.class, () -> enrollmentService.enrollCourse(STUDENT_ID, COURSE_CODE));
+        assertThrows(CourseFullException.class, () -> enrollmentService.enrollCourse(STUDENT_ID, "DB201"));
+        assertThrows(EnrollmentException.class, () -> enrollmentService.enrollCourse("S456", COURSE_CODE));
+        assertThrows(StudentNotFoundException.class, () -> enrollmentService.enrollCourse("S000", COURSE_CODE));
+
+        EnrollmentMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(5, snapshot.stage(EnrollmentMetrics.Stage.FIND_STUDENT).count());
+        assertEquals(3, snapshot.stage(EnrollmentMetrics.Stage.FIND_COURSE).count());
+        assertEquals(2, snapshot.stage(EnrollmentMetrics.Stage.CHECK_PREREQUISITE).count());
+        assertEquals(1, snapshot.stage(EnrollmentMetrics.Stage.UPDATE_COURSE).count());
+        assertEquals(1, snapshot.stage(EnrollmentMetrics.Stage.SEND_NOTIFICATION).count());
+        assertEquals(1, snapshot.rejected(EnrollmentOutcome.Reason.STUDENT_NOT_FOUND));
+        assertEquals(1, snapshot.rejected(EnrollmentOutcome.Reason.STUDENT_SUSPENDED));
+        assertEquals(1, snapshot.rejected(EnrollmentOutcome.Reason.COURSE_FULL));
+        assertEquals(1, snapshot.rejected(EnrollmentOutcome.Reason.PREREQUISITE_NOT_MET));
+        assertEquals(0, snapshot.rejected(EnrollmentOutcome.Reason.COURSE_NOT_FOUND));
+    }
+
+    // ==================== RESULT API TESTS ====================
+    @Test
+    @DisplayName("Test tryEnrollCourse mengembalikan outcome bersama untuk penolakan tanpa exception")
+    void testTryEnroll_RejectionOutcome() {
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCode("DB201")).thenReturn(fullCourse);
+
+        EnrollmentOutcome first = enrollmentService.tryEnrollCourse(STUDENT_ID, "DB201");
+        EnrollmentOutcome second = enrollmentService.tryEnrollCourse(STUDENT_ID, "DB201");
+
+        assertFalse(first.isEnrolled());
+        assertNull(first.getEnrollment());
+        assertEquals(EnrollmentOutcome.Reason.COURSE_FULL, first.getReason());
+        assertSame(first, second);
+        verify(courseRepository, never()).update(any());
+        verify(notificationService, never()).sendEmail(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Test tryEnrollCourse berhasil mengembalikan enrollment")
+    void testTryEnroll_Success() {
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCode(COURSE_CODE)).thenReturn(availableCourse);
+        when(courseRepository.isPrerequisiteMet(STUDENT_ID, COURSE_CODE)).thenReturn(true);
+
+        EnrollmentOutcome outcome = enrollmentService.tryEnrollCourse(STUDENT_ID, COURSE_CODE);
+
+        assertTrue(outcome.isEnrolled());
+        assertNull(outcome.getReason());
+        assertEquals(COURSE_CODE, outcome.getEnrollment().getCourseCode());
+        assertThrows(IllegalStateException.class, () -> outcome.toException(STUDENT_ID, COURSE_CODE));
+        verify(courseRepository).update(availableCourse);
+    }
+
+    @Test
+    @DisplayName("Test enrollCourse melempar exception dengan stack trace, stackless hanya jika diaktifkan")
+    void testEnroll_StacklessRejection() {
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCode("DB201")).thenReturn(fullCourse);
+
+        CourseFullException e = assertThrows(CourseFullException.class,
+                () -> enrollmentService.enrollCourse(STUDENT_ID, "DB201"));
+        assertEquals("Course is full", e.getMessage());
+        assertTrue(e.getStackTrace().length > 0);
+
+        enrollmentService.setStacklessRejections(true);
+        CourseFullException stackless = assertThrows(CourseFullException.class,
+                () -> enrollmentService.enrollCourse(STUDENT_ID, "DB201"));
+        assertEquals("Course is full", stackless.getMessage());
+        assertEquals(0, stackless.getStackTrace().length);
+    }
+
+    // ==================== ATOMIC BUNDLE TESTS ====================
+    @Test
+    @DisplayName("Test paket mata kuliah terdaftar bersamaan dengan satu email ringkasan")
+    void testEnrollAtomically_Success() {
+        Course lab = new Course("PPL301L", "Praktikum Java", 1, 30, 0, "Dosen A");
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCodes(Set.of(COURSE_CODE, "PPL301L")))
+                .thenReturn(Map.of(COURSE_CODE, availableCourse, "PPL301L", lab));
+        when(gradeCalculator.calculateMaxCredits("TI", 3.7)).thenReturn(24);
+        when(courseRepository.findPrerequisitesMet(eq(STUDENT_ID), anyCollection()))
+                .thenReturn(Set.of(COURSE_CODE, "PPL301L"));
+
+        List<Enrollment> enrollments = enrollmentService.enrollCoursesAtomically(STUDENT_ID,
+                List.of(COURSE_CODE, "PPL301L", COURSE_CODE));
+
+        assertEquals(List.of(COURSE_CODE, "PPL301L"), enrollments.stream().map(Enrollment::getCourseCode).toList());
+        assertEquals(26, availableCourse.getEnrolledCount());
+        assertEquals(1, lab.getEnrolledCount());
+        verify(courseRepository).update(availableCourse);
+        verify(courseRepository).update(lab);
+        verify(notificationService, times(1)).sendEmail(eq("naura@mail.com"), eq("Enrollment Summary"), anyString());
+    }
+
+    @Test
+    @DisplayName("Test paket gagal karena satu kelas penuh tidak meninggalkan enrollment sebagian")
+    void testEnrollAtomically_RollbackWhenFull() {
+        InMemoryEnrollmentRepository enrollments = new InMemoryEnrollmentRepository();
+        enrollmentService.setEnrollmentRepository(enrollments);
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCodes(Set.of(COURSE_CODE, "DB201")))
+                .thenReturn(Map.of(COURSE_CODE, availableCourse, "DB201", fullCourse));
+        when(gradeCalculator.calculateMaxCredits("TI", 3.7)).thenReturn(24);
+        when(courseRepository.findPrerequisitesMet(eq(STUDENT_ID), anyCollection()))
+                .thenReturn(Set.of(COURSE_CODE, "DB201"));
+
+        assertThrows(CourseFullException.class,
+                () -> enrollmentService.enrollCoursesAtomically(STUDENT_ID, List.of(COURSE_CODE, "DB201")));
+
+        assertEquals(25, availableCourse.getEnrolledCount());
+        assertEquals(25, fullCourse.getEnrolledCount());
+        assertFalse(enrollments.exists(STUDENT_ID, COURSE_CODE));
+        verify(courseRepository, never()).update(any());
+        verify(notificationService, never()).sendEmail(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Test paket ditolak jika total SKS melebihi batas tanpa menyentuh kursi")
+    void testEnrollAtomically_CreditLimitExceeded() {
+        Course lab = new Course("PPL301L", "Praktikum Java", 4, 30, 0, "Dosen A");
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCodes(Set.of(COURSE_CODE, "PPL301L")))
+                .thenReturn(Map.of(COURSE_CODE, availableCourse, "PPL301L", lab));
+        when(gradeCalculator.calculateMaxCredits("TI", 3.7)).thenReturn(6);
+
+        EnrollmentException e = assertThrows(EnrollmentException.class,
+                () -> enrollmentService.enrollCoursesAtomically(STUDENT_ID, List.of(COURSE_CODE, "PPL301L")));
+
+        assertEquals("Credit limit exceeded: 7 > 6", e.getMessage());
+        assertEquals(25, availableCourse.getEnrolledCount());
+        assertEquals(0, lab.getEnrolledCount());
+        assertThrows(IllegalArgumentException.class,
+                () -> enrollmentService.enrollCoursesAtomically(STUDENT_ID, List.of()));
+    }
+
+    // ==================== CREDIT LOAD TESTS ====================
+    @Test
+    @DisplayName("Test enrollCourse menolak mata kuliah yang membuat SKS melewati batas")
+    void testEnroll_CreditLimitEnforced() {
+        CreditLoadTracker tracker = new CreditLoadTracker();
+        tracker.tryAdd(STUDENT_ID, 22, 24);
+        enrollmentService.setEnrollmentRepository(new InMemoryEnrollmentRepository());
+        enrollmentService.setCreditLoadTracker(tracker);
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCode(COURSE_CODE)).thenReturn(availableCourse);
+        when(courseRepository.isPrerequisiteMet(STUDENT_ID, COURSE_CODE)).thenReturn(true);
+        when(gradeCalculator.calculateMaxCredits("TI", 3.7)).thenReturn(24);
+
+        EnrollmentOutcome outcome = enrollmentService.tryEnrollCourse(STUDENT_ID, COURSE_CODE);
+        assertEquals(EnrollmentOutcome.Reason.CREDIT_LIMIT_EXCEEDED, outcome.getReason());
+        assertEquals(25, availableCourse.getEnrolledCount());
+        assertEquals(22, tracker.getLoad(STUDENT_ID));
+        verify(courseRepository, never()).update(any());
+
+        tracker.release(STUDENT_ID, 2);
+        enrollmentService.enrollCourse(STUDENT_ID, COURSE_CODE);
+        assertEquals(23, tracker.getLoad(STUDENT_ID));
+        assertEquals(26, availableCourse.getEnrolledCount());
+    }
+
+    @Test
+    @DisplayName("Test drop mengembalikan SKS dan validateCreditLimit memakai SKS yang diambil")
+    void testCreditLoad_ReleasedOnDrop() {
+        CreditLoadTracker tracker = new CreditLoadTracker();
+        enrollmentService.setEnrollmentRepository(new InMemoryEnrollmentRepository());
+        enrollmentService.setCreditLoadTracker(tracker);
+        Course lastSeat = new Course("ALG202", "Algoritma", 4, 26, 25, "Dosen D");
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCode("ALG202")).thenReturn(lastSeat);
+        when(courseRepository.isPrerequisiteMet(STUDENT_ID, "ALG202")).thenReturn(true);
+        when(gradeCalculator.calculateMaxCredits("TI", 3.7)).thenReturn(24);
+
+        enrollmentService.enrollCourse(STUDENT_ID, "ALG202");
+        assertEquals(4, tracker.getLoad(STUDENT_ID));
+        assertTrue(enrollmentService.validateCreditLimit(STUDENT_ID, 20));
+        assertFalse(enrollmentService.validateCreditLimit(STUDENT_ID, 21));
+
+        enrollmentService.dropCourse(STUDENT_ID, "ALG202");
+        assertEquals(0, tracker.getLoad(STUDENT_ID));
+        assertTrue(enrollmentService.validateCreditLimit(STUDENT_ID, 24));
+    }
+
+    @Test
+    @DisplayName("Test CreditLoadTracker butuh EnrollmentRepository dan drop ganda tidak mengurangi SKS")
+    void testCreditLoad_RequiresEnrollmentRepository() {
+        CreditLoadTracker tracker = new CreditLoadTracker();
+        assertThrows(IllegalStateException.class, () -> enrollmentService.setCreditLoadTracker(tracker));
+
+        enrollmentService.setEnrollmentRepository(new InMemoryEnrollmentRepository());
+        enrollmentService.setCreditLoadTracker(tracker);
+        assertThrows(IllegalStateException.class, () -> enrollmentService.setEnrollmentRepository(null));
+        tracker.tryAdd(STUDENT_ID, 6, 24);
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCode(COURSE_CODE)).thenReturn(availableCourse);
+
+        // Never enrolled, so there is nothing to release
+        assertThrows(EnrollmentException.class, () -> enrollmentService.dropCourse(STUDENT_ID, COURSE_CODE));
+        assertEquals(6, tracker.getLoad(STUDENT_ID));
+        assertEquals(25, availableCourse.getEnrolledCount());
+    }
+
+    // ==================== BATCH ENROLLMENT TESTS ====================
+    @Test
+    @DisplayName("Test pendaftaran KRS sekaligus dengan hasil per mata kuliah")
+    void testEnrollCourses_PerCourseReport() {
+        Course lockedCourse = new Course("ALG202", "Algoritma", 3, 40, 10, "Dosen D");
+        List<String> codes = List.of(COURSE_CODE, "DB201", "ALG202", "X999", COURSE_CODE);
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCodes(Set.of(COURSE_CODE, "DB201", "ALG202", "X999")))
+                .thenReturn(Map.of(COURSE_CODE, availableCourse, "DB201", fullCourse, "ALG202", lockedCourse));
+        when(courseRepository.findPrerequisitesMet(STUDENT_ID, List.of(COURSE_CODE, "ALG202")))
+                .thenReturn(Set.of(COURSE_CODE));
+
+        BatchEnrollmentResult result = enrollmentService.enrollCourses(STUDENT_ID, codes);
+
+        assertEquals(Set.of(COURSE_CODE), result.getEnrollments().keySet());
+        assertInstanceOf(CourseFullException.class, result.getFailures().get("DB201"));
+        assertInstanceOf(PrerequisiteNotMetException.class, result.getFailures().get("ALG202"));
+        assertInstanceOf(CourseNotFoundException.class, result.getFailures().get("X999"));
+        assertFalse(result.isAllSucceeded());
+        assertEquals(26, availableCourse.getEnrolledCount());
+
+        verify(studentRepository, times(1)).findById(STUDENT_ID);
+        verify(courseRepository, never()).findByCourseCode(anyString());
+        verify(courseRepository, times(1)).update(availableCourse);
+        verify(courseRepository, never()).update(fullCourse);
+        verify(courseRepository, never()).update(lockedCourse);
+        verify(notificationService, times(1)).sendEmail(
+                eq(activeStudent.getEmail()), eq("Enrollment Summary"), contains("Pemrograman Java"));
+    }
+
+    @Test
+    @DisplayName("Test pendaftaran KRS sekaligus tanpa yang berhasil tidak mengirim email")
+    void testEnrollCourses_NothingEnrolled_NoEmail() {
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(activeStudent);
+        when(courseRepository.findByCourseCodes(Set.of("DB201"))).thenReturn(Map.of("DB201", fullCourse));
+
+        BatchEnrollmentResult result = enrollmentService.enrollCourses(STUDENT_ID, List.of("DB201"));
+
+        assertTrue(result.getEnrollments().isEmpty());
+        verify(courseRepository, never()).findPrerequisitesMet(anyString(), any());
+        verify(courseRepository, never()).update(any());
+        verify(notificationService, never()).sendEmail(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Test pendaftaran KRS sekaligus oleh mahasiswa suspended")
+    void testEnrollCourses_SuspendedStudent() {
+        when(studentRepository.findById("S456")).thenReturn(suspendedStudent);
+
+        assertThrows(EnrollmentException.class,
+                () -> enrollmentService.enrollCourses("S456", List.of(COURSE_CODE)));
+
+        verify(courseRepository, never()).findByCourseCodes(any());
+    }
+}
@@ -0,0 +1,94 @@
+package com.siakad.service;
+
+import com.siakad.model.CourseGrade;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test untuk GpaAccumulator, hasilnya dibandingkan dengan GradeCalculator.calculateGPA
+ */
+@DisplayName("Test GpaAccumulator")
+class GpaAccumulatorTest {
+
+    private static final double[] GRADE_SCALE = {4.0, 3.5, 3.0, 2.5, 2.0, 1.5, 1.0, 0.0};
+
+    private final GradeCalculator gradeCalculator = new GradeCalculator();
+
+    @Test
+    @DisplayName("Test IPK sama dengan calculateGPA untuk transkrip yang sama")
+    void testMatchesCalculateGPA() {
+        List<CourseGrade> grades = Arrays.asList(
+                new CourseGrade("CS101", 3, 4.0),
+                new CourseGrade("CS102", 3, 3.0),
+                new CourseGrade("CS103", 2, 4.0)
+        );
+
+        GpaAccumulator accumulator = GpaAccumulator.of(grades);
+
+        assertEquals(gradeCalculator.calculateGPA(grades), accumulator.getGpa());
+        assertEquals(3.63, accumulator.getGpa(), 0.001);
+        assertEquals(8, accumulator.getTotalCredits());
+    }
+
+    @Test
+    @DisplayName("Test tambah, hapus dan ganti nilai acak tetap sama dengan hitung ulang penuh")
+    void testRandomUpdatesMatchRecomputation() {
+        SplittableRandom random = new SplittableRandom(2025);
+        List<CourseGrade> transcript = new ArrayList<>();
+        GpaAccumulator accumulator = new GpaAccumulator();
+
+        for (int step = 0; step < 20_000; step++) {
+            int action = random.nextInt(4);
+            CourseGrade grade = new CourseGrade("C" + step, 1 + random.nextInt(4),
+                    GRADE_SCALE[random.nextInt(GRADE_SCALE.length)]);
+            if (action == 0 && !transcript.isEmpty()) {
+                accumulator.remove(transcript.remove(random.nextInt(transcript.size())));
+            } else if (action == 1 && !transcript.isEmpty()) {
+                int index = random.nextInt(transcript.size());
+                accumulator.replace(transcript.get(index), grade);
+                transcript.set(index, grade);
+            } else {
+                accumulator.add(grade);
+                transcript.add(grade);
+            }
+            assertEquals(gradeCalculator.calculateGPA(transcript), accumulator.getGpa(), "Step " + step);
+        }
+        assertEquals(transcript.size(), accumulator.getGradeCount());
+    }
+
+    @Test
+    @DisplayName("Test akumulator kosong dan SKS nol mengembalikan 0.0")
+    void testEmpty() {
+        assertEquals(0.0, new GpaAccumulator().getGpa());
+        assertEquals(0.0, GpaAccumulator.of(null).getGpa());
+        assertEquals(0.0, GpaAccumulator.of(List.of(new CourseGrade("CS101", 0, 4.0))).getGpa());
+    }
+
+    @Test
+    @DisplayName("Test grade point invalid ditolak seperti calculateGPA")
+    void testInvalidGradePoint() {
+        GpaAccumulator accumulator = new GpaAccumulator();
+        accumulator.add(new CourseGrade("CS101", 3, 3.0));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> accumulator.add(new CourseGrade("CS102", 3, 4.5)));
+        assertEquals("Invalid grade point: 4.5", e.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                () -> accumulator.replace(new CourseGrade("CS101", 3, 3.0), new CourseGrade("CS101", 3, -1.0)));
+        assertEquals(3.0, accumulator.getGpa(), "Failed replace leaves the accumulator unchanged");
+    }
+
+    @Test
+    @DisplayName("Test menghapus nilai yang tidak pernah ditambahkan")
+    void testRemoveFromEmpty() {
+        assertThrows(IllegalStateException.class,
+                () -> new GpaAccumulator().remove(new CourseGrade("CS101", 3, 3.0)));
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -221,6 +222,69 @@ class GradeCalculatorTest {
         assertEquals(0.0, gpa, 0.001);
     }
 
+    // ==================== TEST CALCULATE GPAS (COLUMNAR) ====================
+
+    @Test
+    @DisplayName("Test calculateGPAs identik dengan calculateGPA per mahasiswa")
+    void testCalculateGPAs_MatchesPerStudent() {
+        double[] scale = {4.0, 3.7, 3.3, 3.0, 2.7, 2.3, 2.0, 1.7, 1.3, 1.0, 0.0};
+        SplittableRandom random = new SplittableRandom(11);
+        int students = 2_000;
+        int[] offsets = new int[students + 1];
+        for (int i = 0; i < students; i++) {
+            offsets[i + 1] = offsets[i] + random.nextInt(60); // includes empty transcripts
+        }
+        double[] gradePoints = new double[offsets[students]];
+        int[] credits = new int[offsets[students]];
+        for (int i = 0; i < gradePoints.length; i++) {
+            gradePoints[i] = scale[random.nextInt(scale.length)];
+            credits[i] = random.nextInt(5); // includes 0 SKS
+        }
+
+        double[] gpas = gradeCalculator.calculateGPAs(gradePoints, credits, offsets);
+
+        for (int i = 0; i < students; i++) {
+            List<CourseGrade> grades = new ArrayList<>();
+            for (int j = offsets[i]; j < offsets[i + 1]; j++) {
+                grades.add(new CourseGrade("C" + j, credits[j], gradePoints[j]));
+            }
+            assertEquals(gradeCalculator.calculateGPA(grades), gpas[i], "Student " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Test calculateGPAs harus throw exception jika ada grade point invalid")
+    void testCalculateGPAs_InvalidGradePoint() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> gradeCalculator.calculateGPAs(new double[]{3.0, 4.1}, new int[]{3, 3}, new int[]{0, 1, 2}));
+        assertEquals("Invalid grade point: 4.1", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Test calculateGPAs menilai -0.0, NaN dan nilai negatif kecil sama dengan calculateGPA")
+    void testCalculateGPAs_EdgeGradePoints() {
+        double[] accepted = {-0.0, Double.NaN, 4.0, 0.0};
+        double[] gpas = gradeCalculator.calculateGPAs(accepted, new int[]{3, 3, 3, 3}, new int[]{0, 1, 2, 3, 4});
+        for (int i = 0; i < accepted.length; i++) {
+            assertEquals(gradeCalculator.calculateGPA(List.of(new CourseGrade("C" + i, 3, accepted[i]))), gpas[i]);
+        }
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> gradeCalculator.calculateGPAs(new double[]{3.0, -Double.MIN_VALUE, Math.nextUp(4.0)},
+                        new int[]{3, 3, 3}, new int[]{0, 3}));
+        assertEquals("Invalid grade point: " + -Double.MIN_VALUE, exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Test calculateGPAs harus throw exception jika offsets tidak konsisten")
+    void testCalculateGPAs_InvalidOffsets() {
+        assertThrows(IllegalArgumentException.class,
+                () -> gradeCalculator.calculateGPAs(new double[]{3.0}, new int[]{3}, new int[]{0, 2}));
+        assertThrows(IllegalArgumentException.class,
+                () -> gradeCalculator.calculateGPAs(new double[]{3.0, 2.0}, new int[]{3, 3}, new int[]{0, 2, 1, 2}));
+        assertEquals(0, gradeCalculator.calculateGPAs(new double[0], new int[0], new int[]{0}).length);
+    }
+
     // ==================== TEST DETERMINE ACADEMIC STATUS ====================
 
     // --- Semester 1-2 (IPK >= 2.0 -> ACTIVE, < 2.0 -> PROBATION) ---
@@ -0,0 +1,101 @@
+package com.siakad.service;
+
+import com.siakad.model.EnrollmentOutcome;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test untuk LatencyHistogram dan EnrollmentMetrics
+ */
+@DisplayName("Test Latency Histogram")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Test persentil dengan galat relatif terbatas")
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100_000, snapshot.count());
+        assertEquals(100_000_000, snapshot.max());
+        assertWithin(50_000_000, snapshot.p50());
+        assertWithin(99_000_000, snapshot.p99());
+        assertWithin(99_900_000, snapshot.p999());
+
+        histogram.reset();
+        assertEquals(new LatencyHistogram.Snapshot(0, 0, 0, 0, 0), histogram.snapshot());
+    }
+
+    @Test
+    @DisplayName("Test bucket bersambung dan monoton di seluruh rentang long")
+    void testBucketBoundaries() {
+        for (long value : new long[]{0, 1, 127, 128, 129, 255, 256, 1_000_003, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(LatencyHistogram.highestValueAt(index) >= value);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.highestValueAt(index - 1) < value);
+            }
+        }
+        for (int index = 1; index <= LatencyHistogram.indexOf(Long.MAX_VALUE); index++) {
+            assertEquals(index, LatencyHistogram.indexOf(LatencyHistogram.highestValueAt(index - 1) + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Test record bersamaan tidak kehilangan hitungan")
+    void testConcurrentRecord() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                long offset = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        histogram.record(i + offset);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(80_000, histogram.snapshot().count());
+        assertEquals(10_006, histogram.snapshot().max());
+    }
+
+    @Test
+    @DisplayName("Test sampling EnrollmentMetrics dan instance nonaktif")
+    void testMetricsSampling() {
+        EnrollmentMetrics metrics = new EnrollmentMetrics(1);
+        assertTrue(metrics.sample());
+        long mark = System.nanoTime();
+        assertTrue(metrics.lap(EnrollmentMetrics.Stage.FIND_STUDENT, mark) >= mark);
+        assertEquals(1, metrics.snapshot().stage(EnrollmentMetrics.Stage.FIND_STUDENT).count());
+
+        EnrollmentMetrics disabled = EnrollmentMetrics.disabled();
+        assertFalse(disabled.sample());
+        disabled.reject(EnrollmentOutcome.Reason.COURSE_FULL);
+        assertEquals(0, disabled.snapshot().rejected(EnrollmentOutcome.Reason.COURSE_FULL));
+
+        assertThrows(IllegalArgumentException.class, () -> new EnrollmentMetrics(100));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 64, "Expected ~" + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,133 @@
+package com.siakad.service;
+
+import com.siakad.model.Course;
+import com.siakad.repository.InMemoryStudentRepository;
+import com.siakad.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit Test untuk PrerequisiteGraph dan PrerequisiteEngine
+ */
+@DisplayName("Test Prerequisite Engine")
+class PrerequisiteEngineTest {
+
+    private InMemoryStudentRepository studentRepository;
+    private List<Course> catalog;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository = new InMemoryStudentRepository();
+        catalog = new ArrayList<>();
+        // 200 courses so prerequisites span several 64-bit words
+        for (int i = 0; i < 200; i++) {
+            catalog.add(new Course("C" + i, "Course " + i, 3, 40, 0, "Dosen"));
+        }
+        catalog.get(150).addPrerequisite("C3");
+        catalog.get(150).addPrerequisite("C70");
+        catalog.get(150).addPrerequisite("C140");
+        catalog.get(199).addPrerequisite("C150");
+    }
+
+    @Test
+    @DisplayName("Test prasyarat lintas word bitset")
+    void testPrerequisiteAcrossWords() {
+        PrerequisiteEngine engine = new PrerequisiteEngine(studentRepository, catalog);
+        studentRepository.setCompletedCourses("S1", List.of(catalog.get(3), catalog.get(70)));
+
+        assertTrue(engine.isPrerequisiteMet("S1", "C0"));
+        assertFalse(engine.isPrerequisiteMet("S1", "C150"));
+        assertFalse(engine.isPrerequisiteMet("S1", "UNKNOWN"));
+
+        // The repository notifies the engine, the cached bitset is dropped right away
+        studentRepository.addCompletedCourse("S1", catalog.get(140));
+        assertTrue(engine.isPrerequisiteMet("S1", "C150"));
+        assertFalse(engine.isPrerequisiteMet("S1", "C199"));
+        assertEquals(Set.of("C0", "C150"), engine.findPrerequisitesMet("S1", List.of("C0", "C150", "C199")));
+    }
+
+    @Test
+    @DisplayName("Test cache bitset kedaluwarsa setelah TTL dan dibatasi jumlah mahasiswa")
+    void testCacheTtlAndBound() throws InterruptedException {
+        StudentRepository repository = mock(StudentRepository.class);
+        when(repository.getCompletedCourses("S1"))
+                .thenReturn(List.of(catalog.get(3), catalog.get(70)))
+                .thenReturn(List.of(catalog.get(3), catalog.get(70), catalog.get(140)));
+        PrerequisiteEngine engine = new PrerequisiteEngine(repository, catalog, 500, 2);
+
+        // Changes made outside the repository are picked up once the entry expires
+        assertFalse(engine.isPrerequisiteMet("S1", "C150"));
+        assertFalse(engine.isPrerequisiteMet("S1", "C150"));
+        Thread.sleep(600);
+        assertTrue(engine.isPrerequisiteMet("S1", "C150"));
+        verify(repository, times(2)).getCompletedCourses("S1");
+
+        engine.isPrerequisiteMet("S2", "C0");
+        engine.isPrerequisiteMet("S3", "C0");
+        engine.isPrerequisiteMet("S4", "C0");
+        engine.isPrerequisiteMet("S2", "C0");
+        engine.isPrerequisiteMet("S3", "C0");
+        engine.isPrerequisiteMet("S4", "C0");
+        // Only two students fit, so cycling through three forces reloads
+        verify(repository, atLeast(4)).getCompletedCourses(argThat(id -> !id.equals("S1")));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PrerequisiteEngine(repository, catalog, 0, 2));
+    }
+
+    @Test
+    @DisplayName("Test mata kuliah yang ditambahkan setelah kompilasi belum dikenal engine")
+    void testUncompiledCourse() {
+        PrerequisiteEngine engine = new PrerequisiteEngine(studentRepository, catalog);
+
+        assertTrue(engine.isCompiled("C0"));
+        assertFalse(engine.isCompiled("NEW1"));
+        assertFalse(engine.isPrerequisiteMet("S1", "NEW1"));
+
+        catalog.add(new Course("NEW1", "Baru", 3, 40, 0, "Dosen"));
+        engine.recompile(catalog);
+        assertTrue(engine.isCompiled("NEW1"));
+        assertTrue(engine.isPrerequisiteMet("S1", "NEW1"));
+    }
+
+    @Test
+    @DisplayName("Test prasyarat di luar katalog tetap dikenali")
+    void testPrerequisiteOutsideCatalog() {
+        Course external = new Course("EXT1", "Transfer", 2, 1, 0, "Luar");
+        catalog.get(10).addPrerequisite("EXT1");
+        PrerequisiteEngine engine = new PrerequisiteEngine(studentRepository, catalog);
+
+        assertFalse(engine.isPrerequisiteMet("S2", "C10"));
+        studentRepository.setCompletedCourses("S3", List.of(external));
+        assertTrue(engine.isPrerequisiteMet("S3", "C10"));
+    }
+
+    @Test
+    @DisplayName("Test siklus prasyarat terdeteksi saat kompilasi")
+    void testCycleDetected() {
+        catalog.get(3).addPrerequisite("C199");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> PrerequisiteGraph.compile(catalog));
+        assertTrue(e.getMessage().contains("C3"), e.getMessage());
+        assertTrue(e.getMessage().contains("C150"), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("Test recompile gagal mempertahankan graf lama")
+    void testRecompileKeepsOldGraphOnCycle() {
+        PrerequisiteEngine engine = new PrerequisiteEngine(studentRepository, catalog);
+        PrerequisiteGraph before = engine.getGraph();
+        catalog.get(0).addPrerequisite("C0");
+
+        assertThrows(IllegalArgumentException.class, () -> engine.recompile(catalog));
+        assertSame(before, engine.getGraph());
+    }
+}
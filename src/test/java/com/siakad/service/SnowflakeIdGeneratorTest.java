@@ -0,0 +1,95 @@
+package com.siakad.service;
+
+import com.siakad.model.EnrollmentId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test untuk SnowflakeIdGenerator dan EnrollmentId
+ */
+@DisplayName("Test Snowflake ID Generator")
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("Test ID unik dari banyak thread dalam milidetik yang sama")
+    void testUniqueAcrossThreads() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, () -> SnowflakeIdGenerator.EPOCH_MILLIS + 1_000);
+        int threads = 8;
+        int perThread = 50_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        Future<?>[] futures = new Future<?>[threads];
+        long[] all = new long[threads * perThread];
+        for (int t = 0; t < threads; t++) {
+            int offset = t * perThread;
+            futures[t] = pool.submit(() -> {
+                long previous = -1;
+                for (int i = 0; i < perThread; i++) {
+                    long value = generator.nextValue();
+                    assertTrue(value > previous, "IDs must increase per thread");
+                    all[offset + i] = previous = value;
+                }
+            });
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertNotEquals(all[i - 1], all[i], "Duplicate ID generated");
+            assertEquals(7, SnowflakeIdGenerator.nodeIdOf(all[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("Test ID tetap naik walaupun jam sistem mundur")
+    void testMonotonicWhenClockGoesBack() {
+        AtomicLong now = new AtomicLong(SnowflakeIdGenerator.EPOCH_MILLIS + 5_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, now::get);
+
+        long first = generator.nextValue();
+        now.addAndGet(-1_000);
+        long second = generator.nextValue();
+
+        assertTrue(second > first);
+        assertEquals(SnowflakeIdGenerator.EPOCH_MILLIS + 5_000, SnowflakeIdGenerator.timestampOf(first));
+    }
+
+    @Test
+    @DisplayName("Test representasi string terurut sesuai nilai dan bisa di-parse kembali")
+    void testStringRenderingSortable() {
+        EnrollmentId small = new EnrollmentId(35);
+        EnrollmentId large = new EnrollmentId(36);
+        EnrollmentId max = new EnrollmentId(Long.MAX_VALUE);
+
+        assertEquals("ENR-000000000000z", small.toString());
+        assertTrue(small.toString().compareTo(large.toString()) < 0);
+        assertTrue(large.toString().compareTo(max.toString()) < 0);
+        assertSame(max.toString(), max.toString(), "String is rendered once");
+        assertEquals(max, EnrollmentId.parse(max.toString()));
+        assertThrows(IllegalArgumentException.class, () -> EnrollmentId.parse("ENR-123"));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(1024));
+        assertEquals(max.toString(), EnrollmentId.format(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Test EnrollmentService berbeda di satu JVM berbagi generator node yang sama")
+    void testForNodeShared() {
+        assertSame(SnowflakeIdGenerator.forNode(3), SnowflakeIdGenerator.forNode(3));
+        assertNotSame(SnowflakeIdGenerator.forNode(3), SnowflakeIdGenerator.forNode(4));
+        assertThrows(IllegalArgumentException.class, () -> SnowflakeIdGenerator.forNode(-1));
+
+        // Two services with the default generator share one sequence, so their IDs never collide
+        assertSame(new EnrollmentService(null, null, null, null).getEnrollmentIdGenerator(),
+                new EnrollmentService(null, null, null, null).getEnrollmentIdGenerator());
+    }
+}
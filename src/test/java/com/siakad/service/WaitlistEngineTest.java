@@ -0,0 +1,167 @@
+package com.siakad.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Test untuk WaitlistEngine
+ */
+@DisplayName("Test Waitlist Engine")
+class WaitlistEngineTest {
+
+    private WaitlistEngine waitlist;
+
+    @BeforeEach
+    void setUp() {
+        waitlist = new WaitlistEngine();
+    }
+
+    @Test
+    @DisplayName("Test join dan leave idempoten")
+    void testJoinLeaveIdempotent() {
+        assertTrue(waitlist.join("S1", "CS101"));
+        assertFalse(waitlist.join("S1", "CS101"));
+        assertTrue(waitlist.join("S2", "CS101"));
+
+        assertEquals(2, waitlist.size("CS101"));
+        assertEquals(1, waitlist.position("S1", "CS101"));
+        assertEquals(2, waitlist.position("S2", "CS101"));
+
+        assertTrue(waitlist.leave("S1", "CS101"));
+        assertFalse(waitlist.leave("S1", "CS101"));
+        assertFalse(waitlist.leave("S1", "NONE"));
+
+        assertEquals(-1, waitlist.position("S1", "CS101"));
+        assertEquals(1, waitlist.position("S2", "CS101"));
+        assertThrows(IllegalArgumentException.class, () -> waitlist.join(null, "CS101"));
+    }
+
+    @Test
+    @DisplayName("Test masuk lagi setelah keluar kembali ke belakang antrean")
+    void testRejoinGoesToBack() {
+        waitlist.join("S1", "CS101");
+        waitlist.join("S2", "CS101");
+        waitlist.leave("S1", "CS101");
+        waitlist.join("S1", "CS101");
+
+        assertEquals(List.of("S2", "S1"), waitlist.getWaitlist("CS101"));
+        assertEquals(List.of("S2"), waitlist.promote("CS101", oneSeat()));
+        assertEquals(List.of("S1"), waitlist.getWaitlist("CS101"));
+    }
+
+    @Test
+    @DisplayName("Test promote melewati yang tidak memenuhi syarat dan berhenti saat kursi habis")
+    void testPromoteOrder() {
+        for (String studentId : List.of("S1", "S2", "S3", "S4")) {
+            waitlist.join(studentId, "CS101");
+        }
+        AtomicInteger seats = new AtomicInteger(2);
+
+        List<String> promoted = waitlist.promote("CS101", studentId -> {
+            if (studentId.equals("S2")) {
+                return WaitlistEngine.Attempt.INELIGIBLE;
+            }
+            return seats.getAndDecrement() > 0 ? WaitlistEngine.Attempt.ENROLLED : WaitlistEngine.Attempt.NO_SEAT;
+        });
+
+        assertEquals(List.of("S1", "S3"), promoted);
+        assertEquals(List.of("S4"), waitlist.getWaitlist("CS101"));
+        WaitlistEngine.Stats stats = waitlist.getStats();
+        assertEquals(2, stats.promoted());
+        assertEquals(1, stats.skipped());
+        assertEquals(1, stats.waiting());
+    }
+
+    @Test
+    @DisplayName("Test promoter yang gagal mengeluarkan mahasiswa itu dan lanjut ke berikutnya")
+    void testPromoterFailureSkipsCandidate() {
+        waitlist.join("S1", "CS101");
+        waitlist.join("S2", "CS101");
+
+        List<String> promoted = waitlist.promote("CS101", studentId -> {
+            if (studentId.equals("S1")) {
+                throw new IllegalArgumentException("GPA out of range");
+            }
+            return WaitlistEngine.Attempt.ENROLLED;
+        });
+
+        assertEquals(List.of("S2"), promoted);
+        assertEquals(-1, waitlist.position("S1", "CS101"));
+        assertEquals(0, waitlist.size("CS101"));
+        assertEquals(1, waitlist.getStats().promotionFailures());
+        assertEquals(0, waitlist.getStats().skipped());
+        assertTrue(waitlist.promote("NONE", oneSeat()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test join dan leave berulang tidak menumpuk entry di antrean")
+    void testChurnCompactsQueue() {
+        waitlist.join("S0", "CS101");
+        for (int i = 0; i < 10_000; i++) {
+            waitlist.join("S1", "CS101");
+            waitlist.leave("S1", "CS101");
+        }
+        waitlist.join("S2", "CS101");
+
+        assertEquals(List.of("S0", "S2"), waitlist.getWaitlist("CS101"));
+        assertTrue(waitlist.queuedEntries("CS101") <= 4, "Queue holds " + waitlist.queuedEntries("CS101") + " entries");
+    }
+
+    @Test
+    @DisplayName("Test promote bersamaan tidak mempromosikan mahasiswa yang sama dua kali")
+    void testConcurrentPromote() throws Exception {
+        int students = 500;
+        for (int i = 0; i < students; i++) {
+            waitlist.join("S" + i, "CS101");
+        }
+        Set<String> enrolled = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < students; i++) {
+                        waitlist.promote("CS101", studentId -> {
+                            if (!enrolled.add(studentId)) {
+                                duplicates.incrementAndGet();
+                            }
+                            return WaitlistEngine.Attempt.ENROLLED;
+                        });
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(0, duplicates.get());
+        assertEquals(students, enrolled.size());
+        assertEquals(0, waitlist.size("CS101"));
+    }
+
+    private static WaitlistEngine.Promoter oneSeat() {
+        AtomicInteger seats = new AtomicInteger(1);
+        return studentId -> seats.getAndDecrement() > 0 ? WaitlistEngine.Attempt.ENROLLED : WaitlistEngine.Attempt.NO_SEAT;
+    }
+}